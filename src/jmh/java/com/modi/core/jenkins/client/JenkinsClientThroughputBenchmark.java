@@ -0,0 +1,95 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.support.StubJenkinsServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 경로(JenkinsClient + 플랫폼/가상 스레드)와 논블로킹 경로(ReactiveJenkinsClient)의 처리량 비교
+ * 한 번의 호출에서 REQUESTS 건의 getJob 요청을 동시에 보내며, 결과(ops/s)는 초당 처리 요청 수입니다.
+ * 요청마다 Job 이름이 달라 single-flight로 합쳐지지 않으므로 모든 요청이 스텁 Jenkins까지 갑니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class JenkinsClientThroughputBenchmark {
+
+    private static final int REQUESTS = 1000;
+
+    // 스텁 Jenkins 응답 지연 (밀리초)
+    @Param({"50"})
+    public int latencyMillis;
+
+    // 블로킹 경로의 서블릿 워커 스레드 수 (Tomcat 기본값 200)
+    @Param({"200"})
+    public int workerThreads;
+
+    private StubJenkinsServer stubJenkins;
+    private ReactiveJenkinsClient reactiveClient;
+    private JenkinsClient blockingClient;
+    private ExecutorService workerPool;
+    private ExecutorService virtualThreads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubJenkins = StubJenkinsServer.start(Duration.ofMillis(latencyMillis), REQUESTS);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        reactiveClient = new ReactiveJenkinsClient(stubJenkins.webClient(), new RequestCoalescer("bench", meterRegistry),
+            new JenkinsLoadGuard("bench", new JenkinsProperties(), meterRegistry));
+        blockingClient = new JenkinsClient(reactiveClient);
+        workerPool = Executors.newFixedThreadPool(workerThreads);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workerPool.shutdownNow();
+        virtualThreads.shutdownNow();
+        stubJenkins.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void blocking() throws Exception {
+        runBlocking(workerPool);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void blockingOnVirtualThreads() throws Exception {
+        runBlocking(virtualThreads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void reactive() {
+        Flux.range(0, REQUESTS)
+            .flatMap(i -> reactiveClient.getJob("job-" + i), REQUESTS)
+            .then()
+            .block();
+    }
+
+    private void runBlocking(ExecutorService executor) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            String jobName = "job-" + i;
+            futures.add(executor.submit(() -> blockingClient.getJob(jobName)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
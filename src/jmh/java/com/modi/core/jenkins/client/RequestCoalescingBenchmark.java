@@ -0,0 +1,89 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.support.StubJenkinsServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 조회 시 Jenkins 호출 증폭 비교 (single-flight 적용 전/후)
+ * readerCalls 대비 upstreamCalls 비율이 호출 증폭률이며, 적용 전에는 1.0, 적용 후에는 1/readers 에 가까워야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RequestCoalescingBenchmark {
+
+    private static final String JOB_URI = "/job/{jobName}/api/json?tree=name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number],builds[number,url,result,building,duration,timestamp]";
+
+    // 동시에 같은 Job을 조회하는 클라이언트 수
+    @Param({"100"})
+    public int readers;
+
+    // 스텁 Jenkins 응답 지연 (밀리초)
+    @Param({"20"})
+    public int latencyMillis;
+
+    private StubJenkinsServer stubJenkins;
+    private WebClient webClient;
+    private ReactiveJenkinsClient reactiveClient;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CallCounters {
+
+        // 클라이언트가 요청한 조회 수
+        public long readerCalls;
+
+        // 실제 Jenkins로 나간 호출 수
+        public long upstreamCalls;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubJenkins = StubJenkinsServer.start(Duration.ofMillis(latencyMillis), readers);
+        webClient = stubJenkins.webClient();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        reactiveClient = new ReactiveJenkinsClient(webClient, new RequestCoalescer("bench", meterRegistry),
+            new JenkinsLoadGuard("bench", new JenkinsProperties(), meterRegistry));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubJenkins.close();
+    }
+
+    @Benchmark
+    public void uncoalesced(CallCounters counters) {
+        long before = stubJenkins.requestCount();
+
+        Flux.range(0, readers)
+            .flatMap(i -> webClient.get().uri(JOB_URI, "release").retrieve().bodyToMono(String.class), readers)
+            .then()
+            .block();
+
+        counters.readerCalls += readers;
+        counters.upstreamCalls += stubJenkins.requestCount() - before;
+    }
+
+    @Benchmark
+    public void coalesced(CallCounters counters) {
+        long before = stubJenkins.requestCount();
+
+        Flux.range(0, readers)
+            .flatMap(i -> reactiveClient.getJob("release"), readers)
+            .then()
+            .block();
+
+        counters.readerCalls += readers;
+        counters.upstreamCalls += stubJenkins.requestCount() - before;
+    }
+}
@@ -0,0 +1,153 @@
+package com.modi.core.jenkins.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 벤치마크용 Jenkins API 응답 생성기
+ * 실제 Jenkins tree 응답과 같은 구조/필드 분포로 만들고, 고정 시드를 사용해 실행마다 같은 페이로드를 생성합니다.
+ * 실제 Jenkins에서 기록한 응답은 src/jmh/resources/jenkins 아래에 두고 recorded()로 읽습니다.
+ */
+public final class JenkinsPayloads {
+
+    private static final String[] COLORS = {"blue", "blue", "blue", "red", "yellow", "notbuilt", "disabled", "blue_anime"};
+    private static final String[] RESULTS = {"SUCCESS", "SUCCESS", "SUCCESS", "FAILURE", "UNSTABLE", "ABORTED"};
+
+    private JenkinsPayloads() {
+    }
+
+    // 기록된 응답/스크립트 (src/jmh/resources/jenkins/{name})
+    public static byte[] recorded(String name) {
+        try (InputStream in = JenkinsPayloads.class.getResourceAsStream("/jenkins/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Recorded payload not found: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 기록된 빌드 스크립트를 이어 붙여 lines 줄 이상으로 만든 스크립트
+    public static String buildScript(int lines) {
+        String recorded = new String(recorded("build-script.sh"), StandardCharsets.UTF_8);
+        int recordedLines = Math.max(1, (int) recorded.chars().filter(c -> c == '\n').count());
+
+        return recorded.repeat((lines + recordedLines - 1) / recordedLines);
+    }
+
+    // /api/json?tree=jobs[...] 응답
+    public static byte[] jobs(int jobCount) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(jobCount * 320);
+
+        json.append("{\"_class\":\"hudson.model.Hudson\",\"jobs\":[");
+        for (int i = 0; i < jobCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendJobSummary(json, random, i);
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // /job/{jobName}/api/json 응답 (빌드 목록과 빌드별 파라미터 포함)
+    public static byte[] job(int buildCount, int parametersPerBuild) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(512 + buildCount * (256 + parametersPerBuild * 96));
+
+        json.append("{\"_class\":\"hudson.model.FreeStyleProject\",");
+        appendJobFields(json, random, 0);
+        json.append(",\"builds\":[");
+        for (int i = 0; i < buildCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendBuild(json, random, buildCount - i, parametersPerBuild);
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // /job/{jobName}/{buildNumber}/api/json 응답
+    public static byte[] build(int parametersPerBuild) {
+        StringBuilder json = new StringBuilder(256 + parametersPerBuild * 96);
+        appendBuild(json, new Random(42), 1, parametersPerBuild);
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // /computer/api/json?tree=computer[...] 응답
+    public static byte[] nodes(int nodeCount) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(nodeCount * 256);
+
+        json.append("{\"_class\":\"hudson.model.ComputerSet\",\"computer\":[");
+        for (int i = 0; i < nodeCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            boolean offline = random.nextInt(10) == 0;
+            json.append("{\"_class\":\"hudson.slaves.SlaveComputer\",\"description\":\"Build agent ").append(i)
+                .append("\",\"displayName\":\"agent-").append(i)
+                .append("\",\"idle\":").append(random.nextBoolean())
+                .append(",\"numExecutors\":").append(1 + random.nextInt(8))
+                .append(",\"offline\":").append(offline)
+                .append(",\"offlineCauseReason\":\"").append(offline ? "Disconnected by admin" : "")
+                .append("\",\"temporarilyOffline\":").append(offline && random.nextBoolean())
+                .append('}');
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendJobSummary(StringBuilder json, Random random, int index) {
+        json.append("{\"_class\":\"hudson.model.FreeStyleProject\",");
+        appendJobFields(json, random, index);
+        json.append('}');
+    }
+
+    private static void appendJobFields(StringBuilder json, Random random, int index) {
+        int lastBuild = 1 + random.nextInt(5000);
+
+        json.append("\"name\":\"service-").append(index).append("-build\"")
+            .append(",\"url\":\"https://jenkins.example.com/job/service-").append(index).append("-build/\"")
+            .append(",\"description\":")
+            .append(random.nextInt(4) == 0 ? "null" : "\"Builds and publishes service " + index + " artifacts\"")
+            .append(",\"buildable\":").append(random.nextInt(20) != 0)
+            .append(",\"color\":\"").append(COLORS[random.nextInt(COLORS.length)]).append('"')
+            .append(",\"inQueue\":").append(random.nextInt(30) == 0)
+            .append(",\"lastBuild\":{\"_class\":\"hudson.model.FreeStyleBuild\",\"number\":").append(lastBuild).append('}')
+            .append(",\"lastSuccessfulBuild\":{\"_class\":\"hudson.model.FreeStyleBuild\",\"number\":").append(Math.max(1, lastBuild - random.nextInt(3))).append('}')
+            .append(",\"lastFailedBuild\":").append(random.nextBoolean()
+                ? "null"
+                : "{\"_class\":\"hudson.model.FreeStyleBuild\",\"number\":" + Math.max(1, lastBuild - 1 - random.nextInt(20)) + "}");
+    }
+
+    private static void appendBuild(StringBuilder json, Random random, int number, int parametersPerBuild) {
+        boolean building = number == 1 && random.nextBoolean();
+        long timestamp = 1_700_000_000_000L + number * 600_000L;
+
+        json.append("{\"_class\":\"hudson.model.FreeStyleBuild\",\"actions\":[");
+        json.append("{\"_class\":\"hudson.model.CauseAction\"},");
+        json.append("{\"_class\":\"hudson.model.ParametersAction\",\"parameters\":[");
+        for (int p = 0; p < parametersPerBuild; p++) {
+            if (p > 0) {
+                json.append(',');
+            }
+            json.append("{\"_class\":\"hudson.model.StringParameterValue\",\"name\":\"PARAM_").append(p)
+                .append("\",\"value\":\"value-").append(random.nextInt(100_000)).append("\"}");
+        }
+        json.append("]},{\"_class\":\"hudson.plugins.git.util.BuildData\"},{}]")
+            .append(",\"building\":").append(building)
+            .append(",\"duration\":").append(building ? 0 : 30_000 + random.nextInt(600_000))
+            .append(",\"estimatedDuration\":").append(120_000 + random.nextInt(60_000))
+            .append(",\"number\":").append(number)
+            .append(",\"result\":").append(building ? "null" : "\"" + RESULTS[random.nextInt(RESULTS.length)] + "\"")
+            .append(",\"timestamp\":").append(timestamp)
+            .append(",\"url\":\"https://jenkins.example.com/job/service-0-build/").append(number).append("/\"}");
+    }
+}
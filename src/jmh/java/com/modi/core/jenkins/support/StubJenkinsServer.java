@@ -0,0 +1,93 @@
+package com.modi.core.jenkins.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크용 Jenkins 스텁 서버
+ * 고정 지연 후 최소한의 Jenkins JSON 응답을 돌려주며, 업스트림 호출 수를 집계합니다.
+ */
+public final class StubJenkinsServer implements AutoCloseable {
+
+    private final DisposableServer server;
+    private final LongAdder requestCount = new LongAdder();
+    private final ConnectionProvider connectionProvider;
+
+    private StubJenkinsServer(Duration latency, int maxConnections) {
+        this.server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .route(routes -> routes
+                .get("/job/{jobName}/api/json", (request, response) -> {
+                    requestCount.increment();
+                    return response.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .sendString(Mono.delay(latency).thenReturn(jobJson(request.param("jobName"))));
+                })
+                .get("/job/{jobName}/lastBuild/api/json", (request, response) -> {
+                    requestCount.increment();
+                    return response.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .sendString(Mono.delay(latency).thenReturn(buildJson(42)));
+                })
+                .get("/api/json", (request, response) -> {
+                    requestCount.increment();
+                    return response.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .sendString(Mono.delay(latency).thenReturn("{\"jobs\":[]}"));
+                }))
+            .bindNow();
+
+        this.connectionProvider = ConnectionProvider.builder("stub-jenkins")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(-1)
+            .build();
+    }
+
+    public static StubJenkinsServer start(Duration latency, int maxConnections) {
+        return new StubJenkinsServer(latency, maxConnections);
+    }
+
+    // 스텁 서버를 바라보는 WebClient 생성
+    public WebClient webClient() {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .responseTimeout(Duration.ofSeconds(30));
+
+        return WebClient.builder()
+            .baseUrl("http://127.0.0.1:" + server.port())
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+
+    public long requestCount() {
+        return requestCount.sum();
+    }
+
+    public void resetRequestCount() {
+        requestCount.reset();
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+        server.disposeNow();
+    }
+
+    private static String jobJson(String jobName) {
+        return "{\"name\":\"" + jobName + "\",\"url\":\"http://stub/job/" + jobName + "/\",\"buildable\":true,"
+            + "\"color\":\"blue\",\"inQueue\":false,\"lastBuild\":{\"number\":42},"
+            + "\"lastSuccessfulBuild\":{\"number\":42},\"lastFailedBuild\":{\"number\":40},"
+            + "\"builds\":[" + buildJson(42) + "," + buildJson(41) + "]}";
+    }
+
+    private static String buildJson(int number) {
+        return "{\"number\":" + number + ",\"url\":\"http://stub/job/x/" + number + "/\",\"result\":\"SUCCESS\","
+            + "\"building\":false,\"duration\":120000,\"estimatedDuration\":118000,\"timestamp\":1700000000000}";
+    }
+}
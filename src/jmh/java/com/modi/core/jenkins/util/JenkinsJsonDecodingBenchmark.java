@@ -0,0 +1,73 @@
+package com.modi.core.jenkins.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.support.JenkinsPayloads;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Job/노드 목록 변환 비교 (JsonNode 트리 + JenkinsUtils 변환 vs 스트리밍 디코더)
+ * 할당량은 -prof gc 결과의 gc.alloc.rate.norm(호출당 바이트)으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JenkinsJsonDecodingBenchmark {
+
+    // Jenkins 인스턴스 규모 (Job 수, 노드 수는 Job 수의 1/50)
+    @Param({"100", "10000", "50000"})
+    public int jobCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] jobsPayload;
+    private byte[] nodesPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jobsPayload = JenkinsPayloads.jobs(jobCount);
+        nodesPayload = JenkinsPayloads.nodes(Math.max(1, jobCount / 50));
+    }
+
+    @Benchmark
+    public List<JobResponse> jobsTree() throws IOException {
+        JsonNode response = objectMapper.readTree(jobsPayload);
+
+        return StreamSupport.stream(response.get("jobs").spliterator(), false)
+            .map(JenkinsUtils::convertJsonToJobResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<JobResponse> jobsStreaming() throws IOException {
+
+        return JenkinsJsonStreamDecoder.decodeJobs(new ByteArrayInputStream(jobsPayload));
+    }
+
+    @Benchmark
+    public List<NodeResponse> nodesTree() throws IOException {
+        JsonNode response = objectMapper.readTree(nodesPayload);
+
+        return StreamSupport.stream(response.get("computer").spliterator(), false)
+            .map(JenkinsUtils::convertJsonToNodeResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<NodeResponse> nodesStreaming() throws IOException {
+
+        return JenkinsJsonStreamDecoder.decodeNodes(new ByteArrayInputStream(nodesPayload));
+    }
+}
@@ -0,0 +1,146 @@
+package com.modi.core.jenkins.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobCreateRequest;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.support.JenkinsPayloads;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JenkinsUtils 변환/XML 생성 핫패스 벤치마크
+ * JSON 파싱 비용은 Setup에서 미리 치르고 변환 메서드 자체의 비용만 측정합니다.
+ * 페이로드는 기록된 Jenkins 응답(src/jmh/resources/jenkins)과 고정 시드 합성 응답을 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+public class JenkinsUtilsBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Job 목록 규모별 (소형 ~ 50k Job 인스턴스)
+    @State(Scope.Benchmark)
+    public static class JobListState {
+
+        @Param({"10", "1000", "50000"})
+        public int jobCount;
+
+        JsonNode jobs;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            jobs = OBJECT_MAPPER.readTree(JenkinsPayloads.jobs(jobCount)).get("jobs");
+        }
+    }
+
+    // 기록된 Pipeline Job 상세 (빌드 목록 + 파라미터 액션 포함)
+    @State(Scope.Benchmark)
+    public static class JobDetailState {
+
+        JsonNode job;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            job = OBJECT_MAPPER.readTree(JenkinsPayloads.recorded("job-detail.json"));
+        }
+    }
+
+    // 빌드 파라미터 개수별
+    @State(Scope.Benchmark)
+    public static class BuildState {
+
+        @Param({"0", "20", "500"})
+        public int parameterCount;
+
+        JsonNode build;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            build = OBJECT_MAPPER.readTree(JenkinsPayloads.build(parameterCount));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NodeState {
+
+        @Param({"10", "1000"})
+        public int nodeCount;
+
+        JsonNode nodes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            nodes = OBJECT_MAPPER.readTree(JenkinsPayloads.nodes(nodeCount)).get("computer");
+        }
+    }
+
+    // 빌드 스크립트 크기별 (기록된 스크립트를 반복해 줄 수를 맞춤)
+    @State(Scope.Benchmark)
+    public static class ScriptState {
+
+        @Param({"20", "2000", "100000"})
+        public int scriptLines;
+
+        String script;
+        JobCreateRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            script = JenkinsPayloads.buildScript(scriptLines);
+            request = JobCreateRequest.builder()
+                .jobName("payment-gateway")
+                .description("Payment gateway service: build, test & deploy")
+                .gitUrl("https://git.example.com/payments/payment-gateway.git")
+                .gitBranch("*/main")
+                .buildScript(script)
+                .jobType("freestyle")
+                .build();
+        }
+    }
+
+    @Benchmark
+    public void convertJobList(JobListState state, Blackhole blackhole) {
+        for (JsonNode job : state.jobs) {
+            blackhole.consume(JenkinsUtils.convertJsonToJobResponse(job));
+        }
+    }
+
+    @Benchmark
+    public JobResponse convertJobDetail(JobDetailState state) {
+
+        return JenkinsUtils.convertJsonToJobResponse(state.job);
+    }
+
+    @Benchmark
+    public BuildResponse convertBuild(BuildState state) {
+
+        return JenkinsUtils.convertJsonToBuildResponse(state.build);
+    }
+
+    @Benchmark
+    public void convertNodes(NodeState state, Blackhole blackhole) {
+        for (JsonNode node : state.nodes) {
+            blackhole.consume(JenkinsUtils.convertJsonToNodeResponse(node));
+        }
+    }
+
+    @Benchmark
+    public String generateJobXml(ScriptState state) {
+
+        return JenkinsUtils.generateJobXml(state.request);
+    }
+
+    @Benchmark
+    public String escapeXml(ScriptState state) {
+
+        return JenkinsUtils.escapeXml(state.script);
+    }
+}
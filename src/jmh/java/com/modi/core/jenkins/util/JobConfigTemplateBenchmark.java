@@ -0,0 +1,70 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.jenkins.dto.JobCreateRequest;
+import com.modi.core.jenkins.support.JenkinsPayloads;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config.xml 생성/이스케이프 비교 (기존 replace 체인 + StringBuilder vs 컴파일된 템플릿 + 단일 패스 이스케이프)
+ * writeTo는 문자열을 만들지 않고 스트림에 바로 쓰는 경로로, 큰 스크립트에서 할당량 차이를 -prof gc로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+public class JobConfigTemplateBenchmark {
+
+    @Param({"20", "2000", "100000"})
+    public int scriptLines;
+
+    private String script;
+    private JobCreateRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        script = JenkinsPayloads.buildScript(scriptLines);
+        request = JobCreateRequest.builder()
+            .jobName("payment-gateway")
+            .description("Payment gateway service: build, test & deploy")
+            .gitUrl("https://git.example.com/payments/payment-gateway.git")
+            .gitBranch("*/main")
+            .buildScript(script)
+            .jobType(JobConfigTemplate.JOB_TYPE_FREESTYLE)
+            .build();
+    }
+
+    @Benchmark
+    public String legacyGenerateJobXml() {
+
+        return LegacyJobXml.generateJobXml(request);
+    }
+
+    @Benchmark
+    public String templateRender() {
+
+        return JobConfigTemplate.render(request);
+    }
+
+    @Benchmark
+    public void templateWriteTo() {
+
+        JobConfigTemplate.writeTo(request, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String legacyEscapeXml() {
+
+        return LegacyJobXml.escapeXml(script);
+    }
+
+    @Benchmark
+    public String singlePassEscape() {
+
+        return XmlEscaper.escape(script);
+    }
+}
@@ -0,0 +1,72 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.jenkins.dto.JobCreateRequest;
+
+/**
+ * 템플릿 도입 이전의 config.xml 생성/이스케이프 구현 (JobConfigTemplateBenchmark 비교 기준)
+ */
+final class LegacyJobXml {
+
+    private LegacyJobXml() {
+    }
+
+    static String generateJobXml(JobCreateRequest request) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version='1.1' encoding='UTF-8'?>\n");
+        xml.append("<project>\n");
+        xml.append("  <description>").append(request.getDescription() != null ? request.getDescription() : "").append("</description>\n");
+        xml.append("  <keepDependencies>false</keepDependencies>\n");
+        xml.append("  <properties/>\n");
+
+        // Git 설정
+        if (request.getGitUrl() != null) {
+            xml.append("  <scm class='hudson.plugins.git.GitSCM'>\n");
+            xml.append("    <userRemoteConfigs>\n");
+            xml.append("      <hudson.plugins.git.UserRemoteConfig>\n");
+            xml.append("        <url>").append(request.getGitUrl()).append("</url>\n");
+            xml.append("      </hudson.plugins.git.UserRemoteConfig>\n");
+            xml.append("    </userRemoteConfigs>\n");
+            xml.append("    <branches>\n");
+            xml.append("      <hudson.plugins.git.BranchSpec>\n");
+            xml.append("        <name>").append(request.getGitBranch() != null ? request.getGitBranch() : "*/main").append("</name>\n");
+            xml.append("      </hudson.plugins.git.BranchSpec>\n");
+            xml.append("    </branches>\n");
+            xml.append("  </scm>\n");
+        } else {
+            xml.append("  <scm class='hudson.scm.NullSCM'/>\n");
+        }
+
+        xml.append("  <canRoam>true</canRoam>\n");
+        xml.append("  <disabled>false</disabled>\n");
+        xml.append("  <blockBuildWhenDownstreamBuilding>false</blockBuildWhenDownstreamBuilding>\n");
+        xml.append("  <blockBuildWhenUpstreamBuilding>false</blockBuildWhenUpstreamBuilding>\n");
+        xml.append("  <triggers/>\n");
+        xml.append("  <concurrentBuild>false</concurrentBuild>\n");
+
+        // 빌드 스크립트
+        if (request.getBuildScript() != null) {
+            xml.append("  <builders>\n");
+            xml.append("    <hudson.tasks.Shell>\n");
+            xml.append("      <command>").append(escapeXml(request.getBuildScript())).append("</command>\n");
+            xml.append("    </hudson.tasks.Shell>\n");
+            xml.append("  </builders>\n");
+        } else {
+            xml.append("  <builders/>\n");
+        }
+
+        xml.append("  <publishers/>\n");
+        xml.append("  <buildWrappers/>\n");
+        xml.append("</project>");
+
+        return xml.toString();
+    }
+
+    static String escapeXml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&apos;");
+    }
+}
@@ -0,0 +1,22 @@
+#!/bin/bash -e
+# Recorded freestyle build step (payment-gateway)
+export JAVA_HOME=/opt/jdk-21
+export PATH="$JAVA_HOME/bin:$PATH"
+
+if [ "$SKIP_TESTS" != "true" ] && [ -n "$BRANCH" ]; then
+  ./gradlew clean test --no-daemon -Pprofile='ci' 2>&1 | tee build/test.log
+fi
+
+./gradlew bootJar --no-daemon -Dversion="${IMAGE_TAG}" > build/jar.log 2>&1 || { echo "<build failed> see build/jar.log" >&2; exit 1; }
+
+docker build -t "registry.example.com/payment-gateway:${IMAGE_TAG}" \
+  --build-arg JAR=build/libs/payment-gateway.jar \
+  --label "git.branch=${BRANCH}" --label 'owner=payments & billing' .
+
+if [[ "$ENVIRONMENT" == "production" && $(git rev-parse --abbrev-ref HEAD) != "main" ]]; then
+  echo "refusing to deploy <${BRANCH}> to production" >&2
+  exit 2
+fi
+
+kubectl --context "${ENVIRONMENT}" set image deployment/payment-gateway app="registry.example.com/payment-gateway:${IMAGE_TAG}"
+kubectl --context "${ENVIRONMENT}" rollout status deployment/payment-gateway --timeout=300s
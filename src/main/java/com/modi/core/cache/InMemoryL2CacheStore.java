@@ -0,0 +1,89 @@
+package com.modi.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 메모리 기반 L2 저장소 (Redis 대체용)
+ * 같은 JVM 안에서 여러 캐시 인스턴스가 이 저장소를 공유하면 Redis 없이도 2단계 캐시와 무효화 전파를 검증할 수 있습니다.
+ */
+@Slf4j
+public class InMemoryL2CacheStore implements L2CacheStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        String storeKey = storeKey(cacheName, key);
+        Entry entry = entries.get(storeKey);
+
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(storeKey, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        long expiresAt = ttl != null ? System.currentTimeMillis() + ttl.toMillis() : Long.MAX_VALUE;
+        entries.put(storeKey(cacheName, key), new Entry(value, expiresAt));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        entries.remove(storeKey(cacheName, key));
+        publish(cacheName, key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        String prefix = cacheName + "::";
+        entries.keySet().removeIf(storeKey -> storeKey.startsWith(prefix));
+        publish(cacheName, null);
+    }
+
+    @Override
+    public void addInvalidationListener(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    private void publish(String cacheName, String key) {
+        for (BiConsumer<String, String> listener : listeners) {
+            try {
+                listener.accept(cacheName, key);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for {}::{}", cacheName, key, e);
+            }
+        }
+    }
+
+    private static String storeKey(String cacheName, String key) {
+        return cacheName + "::" + key;
+    }
+
+    private static final class Entry {
+
+        private final byte[] value;
+        private final long expiresAt;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.modi.core.cache;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시의 공유(L2) 저장소
+ * 여러 MODI 인스턴스가 함께 보는 저장소이며, 무효화(evict/clear)는 모든 인스턴스에 전파됩니다.
+ */
+public interface L2CacheStore {
+
+    // 값 조회 (없으면 null)
+    byte[] get(String cacheName, String key);
+
+    // 값 저장 (ttl이 null이면 만료 없음)
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    // 엔트리 삭제 후 다른 인스턴스에 무효화 전파
+    void evict(String cacheName, String key);
+
+    // 캐시 전체 삭제 후 다른 인스턴스에 무효화 전파
+    void clear(String cacheName);
+
+    // 무효화 수신 리스너 등록 (key가 null이면 캐시 전체 무효화)
+    void addInvalidationListener(BiConsumer<String, String> listener);
+}
@@ -0,0 +1,111 @@
+package com.modi.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 기반 L2 저장소
+ * 값은 바이너리 그대로 저장하고, 무효화는 Redis pub/sub 채널로 모든 인스턴스에 전파합니다.
+ */
+@Slf4j
+public class RedisL2CacheStore implements L2CacheStore {
+
+    private static final String INVALIDATION_CHANNEL = "modi:cache:invalidation";
+
+    // 무효화 메시지 구분자 (cacheName + 구분자 + key, key가 없으면 전체 무효화)
+    private static final char SEPARATOR = '\n';
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisL2CacheStore(RedisConnectionFactory connectionFactory, RedisMessageListenerContainer listenerContainer) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        this.redisTemplate = template;
+
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        return redisTemplate.opsForValue().get(storeKey(cacheName, key));
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        if (ttl != null) {
+            redisTemplate.opsForValue().set(storeKey(cacheName, key), value, ttl);
+        } else {
+            redisTemplate.opsForValue().set(storeKey(cacheName, key), value);
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        redisTemplate.delete(storeKey(cacheName, key));
+        publish(cacheName + SEPARATOR + key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(cacheName + "::*")
+            .count(500)
+            .build();
+
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        publish(cacheName);
+    }
+
+    @Override
+    public void addInvalidationListener(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    private void publish(String message) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+
+        String cacheName = separatorIndex < 0 ? body : body.substring(0, separatorIndex);
+        String key = separatorIndex < 0 ? null : body.substring(separatorIndex + 1);
+
+        for (BiConsumer<String, String> listener : listeners) {
+            try {
+                listener.accept(cacheName, key);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for {}::{}", cacheName, key, e);
+            }
+        }
+    }
+
+    private static String storeKey(String cacheName, String key) {
+        return cacheName + "::" + key;
+    }
+}
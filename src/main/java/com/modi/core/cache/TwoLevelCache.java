@@ -0,0 +1,158 @@
+package com.modi.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1: 인스턴스 로컬 Caffeine, L2: 인스턴스 간 공유 저장소)
+ * 조회는 L1 → L2 → 로더 순으로 진행하고, L2에서 찾은 값은 L1에 적재합니다.
+ * 무효화는 L2 저장소를 통해 다른 인스턴스의 L1까지 전파됩니다.
+ * L2는 보조 계층이므로 읽을 수 없는 값(이전 배포의 형식 등)은 미스로 보고 지우며, L2 저장소 장애는 로그만 남기고 L1/로더로 계속 진행합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final L2CacheStore sharedStore;
+    private final RedisSerializer<Object> serializer;
+    private final Duration sharedTtl;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         L2CacheStore sharedStore,
+                         RedisSerializer<Object> serializer,
+                         Duration sharedTtl) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.sharedStore = sharedStore;
+        this.serializer = serializer;
+        this.sharedTtl = sharedTtl;
+
+        // 다른 인스턴스(또는 자신)에서 발생한 무효화를 L1에 반영
+        sharedStore.addInvalidationListener((cacheName, key) -> {
+            if (!this.name.equals(cacheName)) {
+                return;
+            }
+            if (key == null) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidate(key);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local;
+        }
+
+        Object shared = lookupShared(key);
+        if (shared != null) {
+            localCache.put(key, shared);
+        }
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = localCache.get(key, k -> {
+            Object shared = lookupShared(k);
+            if (shared != null) {
+                return shared;
+            }
+
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+            putShared(k, loaded);
+            return toStoreValue(loaded);
+        });
+        return (T) fromStoreValue(storeValue);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, toStoreValue(value));
+        putShared(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.invalidate(key);
+        evictShared(key);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        try {
+            sharedStore.clear(name);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear L2 cache {}: {}", name, e.getMessage());
+        }
+    }
+
+    private Object lookupShared(Object key) {
+        byte[] bytes;
+        try {
+            bytes = sharedStore.get(name, key.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to read L2 cache {}[{}], treating as miss: {}", name, key, e.getMessage());
+            return null;
+        }
+        if (bytes == null) {
+            return null;
+        }
+
+        Object value;
+        try {
+            value = serializer.deserialize(bytes);
+        } catch (SerializationException | ClassCastException e) {
+            log.debug("Dropping unreadable L2 cache entry {}[{}]: {}", name, key, e.getMessage());
+            evictShared(key);
+            return null;
+        }
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private void putShared(Object key, Object value) {
+        Object userValue = value instanceof NullValue ? null : value;
+        try {
+            sharedStore.put(name, key.toString(), serializer.serialize(userValue), sharedTtl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write L2 cache {}[{}]: {}", name, key, e.getMessage());
+        }
+    }
+
+    private void evictShared(Object key) {
+        try {
+            sharedStore.evict(name, key.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict L2 cache {}[{}]: {}", name, key, e.getMessage());
+        }
+    }
+}
@@ -1,31 +1,108 @@
-package com.modi.core.config;//package com.modi.core.config;
-//
-//import org.springframework.cache.CacheManager;
-//import org.springframework.cache.annotation.EnableCaching;
-//import org.springframework.context.annotation.Bean;
-//import org.springframework.context.annotation.Configuration;
-//import org.springframework.data.redis.cache.RedisCacheConfiguration;
-//import org.springframework.data.redis.cache.RedisCacheManager;
-//import org.springframework.data.redis.connection.RedisConfiguration;
-//import org.springframework.data.redis.connection.RedisConnectionFactory;
-//import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-//import org.springframework.data.redis.serializer.RedisSerializationContext;
-//import org.springframework.data.redis.serializer.StringRedisSerializer;
-//
-//import java.time.Duration;
-//
-//@Configuration
-//@EnableCaching
-//public class CacheConfig {
-//
-//    @Bean
-//    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-//        RedisCacheConfiguration redisConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-//                .entryTtl(Duration.ofMinutes(10))
-//                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-//                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
-//
-//        return RedisCacheManager.builder(redisConnectionFactory)
-//                .cacheDefaults(redisConfiguration).build();
-//    }
-//}
+package com.modi.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modi.core.cache.InMemoryL2CacheStore;
+import com.modi.core.cache.L2CacheStore;
+import com.modi.core.cache.RedisL2CacheStore;
+import com.modi.core.cache.TwoLevelCache;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.util.JenkinsCacheValueSerializer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+// 캐시 설정 - 인스턴스 로컬 Caffeine(L1) + 선택적 공유 저장소(L2: Redis 또는 인메모리), 통계는 actuator cache.* 지표로 노출
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig implements CachingConfigurer {
+
+    private final JenkinsProperties jenkinsProperties;
+
+    // 캐시 조회/저장/무효화 오류는 로그만 남기고 원래 메서드(로더)를 호출 (L2 장애가 API 오류로 번지지 않도록)
+    @Override
+    public CacheErrorHandler errorHandler() {
+
+        return new LoggingCacheErrorHandler();
+    }
+
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<L2CacheStore> l2CacheStore) {
+        L2CacheStore sharedStore = l2CacheStore.getIfAvailable();
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                expiringCache(JenkinsCacheNames.JOBS, jenkinsProperties.getCacheJobsTtl(), jenkinsProperties.getCacheMaxSize(), sharedStore),
+                expiringCache(JenkinsCacheNames.JOB, jenkinsProperties.getCacheJobTtl(), jenkinsProperties.getCacheMaxSize(), sharedStore),
+                expiringCache(JenkinsCacheNames.NODES, jenkinsProperties.getCacheNodesTtl(), jenkinsProperties.getCacheMaxSize(), sharedStore),
+                // 완료된 빌드는 변하지 않으므로 L1은 만료 없이 크기 제한만 적용
+                cache(JenkinsCacheNames.BUILDS, Caffeine.newBuilder()
+                        .maximumSize(jenkinsProperties.getCacheBuildsMaxSize())
+                        .recordStats()
+                        .build(), Duration.ofMillis(jenkinsProperties.getCacheBuildsL2Ttl()), sharedStore)
+        ));
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jenkins", name = "cache-l2-type", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jenkins", name = "cache-l2-type", havingValue = "redis")
+    public L2CacheStore redisL2CacheStore(RedisConnectionFactory redisConnectionFactory,
+                                          RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+        return new RedisL2CacheStore(redisConnectionFactory, cacheInvalidationListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jenkins", name = "cache-l2-type", havingValue = "memory")
+    public L2CacheStore inMemoryL2CacheStore() {
+        return new InMemoryL2CacheStore();
+    }
+
+    // 2단계 캐시의 L1 통계도 CaffeineCache와 같은 cache.* 지표로 노출
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+
+    private Cache expiringCache(String name, long ttlMillis, long maximumSize, L2CacheStore sharedStore) {
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        return cache(name, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build(), ttl, sharedStore);
+    }
+
+    private Cache cache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                        Duration sharedTtl, L2CacheStore sharedStore) {
+        if (sharedStore == null) {
+            return new CaffeineCache(name, localCache);
+        }
+        return new TwoLevelCache(name, localCache, sharedStore, new JenkinsCacheValueSerializer(), sharedTtl);
+    }
+}
@@ -0,0 +1,86 @@
+package com.modi.core.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단 모니터
+ * spring.threads.virtual.enabled=true 일 때만 동작하며, JFR jdk.VirtualThreadPinned 이벤트를 구독해
+ * 고정이 발생한 위치를 로그로 남기고 jvm.threads.virtual.pinned 카운터로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 이 시간 이상 고정된 경우만 기록
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+            .withThreshold(PINNED_THRESHOLD)
+            .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("Virtual thread pinning monitor started (threshold {}ms)", PINNED_THRESHOLD.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event.getStackTrace());
+
+        Counter.builder("jvm.threads.virtual.pinned")
+            .description("Virtual thread pinned events")
+            .tag("site", site)
+            .register(meterRegistry)
+            .increment();
+
+        log.warn("Virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), site);
+    }
+
+    // 애플리케이션 코드 중 가장 안쪽 프레임을 고정 위치로 사용 (없으면 최상위 프레임)
+    private String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith("com.modi.")) {
+                return className + "." + frame.getMethod().getName();
+            }
+        }
+
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+}
@@ -0,0 +1,118 @@
+package com.modi.core.jenkins.batch;
+
+import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.service.BuildAnalyticsService;
+import com.modi.core.jenkins.service.BuildHistoryService;
+import com.modi.core.jenkins.service.BuildRecordStore;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Jenkins 빌드 이력 백필/증분 동기화 배치 Job
+ * 관리 스텝이 Jenkins Job마다 파티션을 만들고, 워커 스텝이 파티션별로 allBuilds 범위 조회 → 빌드 기록 JDBC 일괄 upsert를
+ * 청크 단위로 반복합니다. 파티션은 historySyncThreads 개의 스레드에서 병렬로 실행됩니다.
+ * 처음 실행하면 전체 이력을 백필하고, 이후 실행은 Job별 최고 동기화 번호보다 새 빌드만 읽습니다.
+ * 실패한 실행은 같은 파라미터로 재시작하면 완료된 파티션은 건너뛰고 실패한 파티션의 마지막 커밋 지점부터 이어서 읽습니다.
+ */
+@Configuration
+public class BuildHistorySyncJobConfig {
+
+    public static final String JOB_NAME = "jenkinsBuildHistorySyncJob";
+
+    private static final String MANAGER_STEP_NAME = "buildHistorySyncManagerStep";
+    private static final String WORKER_STEP_NAME = "buildHistorySyncWorkerStep";
+
+    private final JenkinsProperties jenkinsProperties;
+
+    public BuildHistorySyncJobConfig(JenkinsProperties jenkinsProperties) {
+        this.jenkinsProperties = jenkinsProperties;
+    }
+
+    @Bean
+    public HighWaterMarkTracker buildHistoryHighWaterMarkTracker(JobExplorer jobExplorer) {
+        return new HighWaterMarkTracker(jobExplorer);
+    }
+
+    @Bean
+    public Job buildHistorySyncJob(JobRepository jobRepository,
+                                   Step buildHistorySyncManagerStep,
+                                   HighWaterMarkTracker buildHistoryHighWaterMarkTracker) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .listener(buildHistoryHighWaterMarkTracker)
+            .start(buildHistorySyncManagerStep)
+            .build();
+    }
+
+    @Bean
+    public Step buildHistorySyncManagerStep(JobRepository jobRepository,
+                                            JenkinsJobPartitioner buildHistoryPartitioner,
+                                            Step buildHistorySyncWorkerStep) {
+        // 파티션 실행 전용 스레드 (애플리케이션 공용 TaskExecutor와 분리, 빈으로 등록하지 않음)
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("history-sync-");
+        taskExecutor.setConcurrencyLimit(jenkinsProperties.getHistorySyncThreads());
+
+        return new StepBuilder(MANAGER_STEP_NAME, jobRepository)
+            .partitioner(WORKER_STEP_NAME, buildHistoryPartitioner)
+            .step(buildHistorySyncWorkerStep)
+            .taskExecutor(taskExecutor)
+            .gridSize(jenkinsProperties.getHistorySyncThreads())
+            .build();
+    }
+
+    @Bean
+    public Step buildHistorySyncWorkerStep(JobRepository jobRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           JenkinsBuildHistoryReader buildHistoryReader,
+                                           ItemWriter<BuildResponse> buildHistoryWriter,
+                                           HighWaterMarkTracker buildHistoryHighWaterMarkTracker) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+            .<BuildResponse, BuildResponse>chunk(jenkinsProperties.getHistorySyncChunkSize(), transactionManager)
+            .reader(buildHistoryReader)
+            .writer(buildHistoryWriter)
+            .listener(buildHistoryHighWaterMarkTracker)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public JenkinsJobPartitioner buildHistoryPartitioner(JenkinsClient jenkinsClient,
+                                                         @Value("#{jobExecutionContext}") Map<String, Object> jobExecutionContext) {
+        return new JenkinsJobPartitioner(jenkinsClient, jobExecutionContext);
+    }
+
+    @Bean
+    @StepScope
+    public JenkinsBuildHistoryReader buildHistoryReader(BuildHistoryService buildHistoryService,
+                                                        @Value("#{stepExecutionContext['jobName']}") String jobName,
+                                                        @Value("#{stepExecutionContext['highWaterMark']}") Integer highWaterMark) {
+        return new JenkinsBuildHistoryReader(buildHistoryService, jobName,
+            highWaterMark != null ? highWaterMark : 0, jenkinsProperties.getHistorySyncChunkSize());
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<BuildResponse> buildHistoryWriter(BuildRecordStore buildRecordStore,
+                                                        BuildAnalyticsService buildAnalyticsService,
+                                                        @Value("#{stepExecutionContext['jobName']}") String jobName) {
+        return chunk -> {
+            buildRecordStore.upsert(jobName, new ArrayList<>(chunk.getItems()));
+            buildAnalyticsService.record(jobName, chunk.getItems());
+        };
+    }
+}
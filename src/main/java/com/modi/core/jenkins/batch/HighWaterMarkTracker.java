@@ -0,0 +1,76 @@
+package com.modi.core.jenkins.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job별 최고 동기화 빌드 번호를 잡 실행 컨텍스트에 기록
+ * 새 실행을 시작할 때 직전 실행의 값을 그대로 옮겨 오고(재시작은 Spring Batch가 컨텍스트를 복원),
+ * 파티션이 성공적으로 끝난 Job만 값을 올립니다. 실패한 Job은 이전 값이 남아 다음 실행에서 빠진 구간을 다시 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HighWaterMarkTracker implements JobExecutionListener, StepExecutionListener {
+
+    private static final String KEY_PREFIX = "highWaterMark.";
+
+    private final JobExplorer jobExplorer;
+
+    static String key(String jobName) {
+        return KEY_PREFIX + jobName;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext current = jobExecution.getExecutionContext();
+        if (current.entrySet().stream().anyMatch(entry -> entry.getKey().startsWith(KEY_PREFIX))) {
+            return;
+        }
+
+        // 같은 잡의 직전 인스턴스 (0번째는 지금 실행 중인 인스턴스)
+        List<JobInstance> instances = jobExplorer.findJobInstancesByJobName(jobExecution.getJobInstance().getJobName(), 0, 2);
+        if (instances.size() < 2) {
+            return;
+        }
+
+        JobExecution previous = jobExplorer.getLastJobExecution(instances.get(1));
+        if (previous == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : previous.getExecutionContext().entrySet()) {
+            if (entry.getKey().startsWith(KEY_PREFIX)) {
+                current.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED || !context.containsKey(JenkinsJobPartitioner.JOB_NAME_KEY)) {
+            return null;
+        }
+
+        String jobName = context.getString(JenkinsJobPartitioner.JOB_NAME_KEY);
+        int previous = context.getInt(JenkinsJobPartitioner.HIGH_WATER_MARK_KEY, 0);
+        int maxRead = context.getInt(JenkinsBuildHistoryReader.MAX_READ_KEY, previous);
+        int ceiling = context.getInt(JenkinsBuildHistoryReader.CEILING_KEY, Integer.MAX_VALUE);
+
+        int highWaterMark = Math.max(previous, Math.min(maxRead, ceiling));
+        stepExecution.getJobExecution().getExecutionContext().putInt(key(jobName), highWaterMark);
+        log.debug("Build history of {} synced up to #{} ({} builds written)", jobName, highWaterMark, stepExecution.getWriteCount());
+        return null;
+    }
+}
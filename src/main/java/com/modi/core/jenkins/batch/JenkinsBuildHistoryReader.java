@@ -0,0 +1,103 @@
+package com.modi.core.jenkins.batch;
+
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.service.BuildHistoryService;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Job 하나의 빌드를 최신순으로 읽는 재시작 가능한 리더
+ * allBuilds{from,to} 범위 조회로 pageSize씩 읽고, 이전 동기화의 최고 번호(highWaterMark) 이하에 닿으면 멈춥니다.
+ * 커밋된 마지막 빌드 번호를 스텝 실행 컨텍스트에 남겨 재시작 시 그 아래부터 이어서 읽습니다.
+ * 실행 중인 빌드는 건너뛰고, 다음 동기화에서 다시 읽도록 가장 오래된 실행 중 빌드 아래로 최고 번호를 제한합니다.
+ */
+public class JenkinsBuildHistoryReader implements ItemStreamReader<BuildResponse> {
+
+    // 마지막으로 반환한 빌드 번호 (다음 페이지는 이 번호 아래부터)
+    static final String CURSOR_KEY = "history.cursor";
+
+    // 읽은 가장 큰 빌드 번호
+    static final String MAX_READ_KEY = "history.maxRead";
+
+    // 실행 중이라 건너뛴 가장 오래된 빌드 번호 - 1 (최고 번호 상한)
+    static final String CEILING_KEY = "history.ceiling";
+
+    private final BuildHistoryService buildHistoryService;
+    private final String jobName;
+    private final int highWaterMark;
+    private final int pageSize;
+
+    private final Deque<BuildResponse> buffer = new ArrayDeque<>();
+    private int cursor;
+    private int fetchCursor;
+    private int maxRead;
+    private int ceiling;
+    private boolean exhausted;
+
+    public JenkinsBuildHistoryReader(BuildHistoryService buildHistoryService, String jobName, int highWaterMark, int pageSize) {
+        this.buildHistoryService = buildHistoryService;
+        this.jobName = jobName;
+        this.highWaterMark = highWaterMark;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        cursor = executionContext.getInt(CURSOR_KEY, Integer.MAX_VALUE);
+        fetchCursor = cursor;
+        maxRead = executionContext.getInt(MAX_READ_KEY, highWaterMark);
+        ceiling = executionContext.getInt(CEILING_KEY, Integer.MAX_VALUE);
+        exhausted = cursor <= highWaterMark + 1;
+        buffer.clear();
+    }
+
+    @Override
+    public BuildResponse read() {
+        while (buffer.isEmpty() && !exhausted) {
+            fill();
+        }
+
+        BuildResponse build = buffer.poll();
+        if (build == null) {
+            return null;
+        }
+
+        cursor = build.getNumber();
+        maxRead = Math.max(maxRead, cursor);
+        return build;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(CURSOR_KEY, cursor);
+        executionContext.putInt(MAX_READ_KEY, maxRead);
+        executionContext.putInt(CEILING_KEY, ceiling);
+    }
+
+    private void fill() {
+        List<BuildResponse> page = buildHistoryService.fetchFromJenkins(jobName, fetchCursor, pageSize);
+        if (page.size() < pageSize) {
+            exhausted = true;
+        }
+
+        for (BuildResponse build : page) {
+            int number = build.getNumber();
+            if (number <= highWaterMark) {
+                exhausted = true;
+                break;
+            }
+
+            fetchCursor = number;
+            if (Boolean.FALSE.equals(build.getBuilding())) {
+                buffer.add(build);
+            } else {
+                ceiling = Math.min(ceiling, number - 1);
+            }
+        }
+    }
+}
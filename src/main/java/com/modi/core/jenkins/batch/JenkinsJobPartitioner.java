@@ -0,0 +1,44 @@
+package com.modi.core.jenkins.batch;
+
+import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.dto.JobResponse;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Jenkins Job마다 파티션 하나를 만드는 파티셔너
+ * 각 파티션에는 Job 이름과 이전 동기화에서 기록한 최고 빌드 번호(없으면 0 → 전체 백필)를 넣습니다.
+ */
+public class JenkinsJobPartitioner implements Partitioner {
+
+    static final String JOB_NAME_KEY = "jobName";
+    static final String HIGH_WATER_MARK_KEY = "highWaterMark";
+
+    private static final String PARTITION_PREFIX = "job:";
+
+    private final JenkinsClient jenkinsClient;
+    private final Map<String, Object> jobExecutionContext;
+
+    public JenkinsJobPartitioner(JenkinsClient jenkinsClient, Map<String, Object> jobExecutionContext) {
+        this.jenkinsClient = jenkinsClient;
+        this.jobExecutionContext = jobExecutionContext;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        for (JobResponse job : jenkinsClient.getJobIndex()) {
+            Object highWaterMark = jobExecutionContext.get(HighWaterMarkTracker.key(job.getName()));
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(JOB_NAME_KEY, job.getName());
+            context.putInt(HIGH_WATER_MARK_KEY, highWaterMark instanceof Integer value ? value : 0);
+            partitions.put(PARTITION_PREFIX + job.getName(), context);
+        }
+        return partitions;
+    }
+}
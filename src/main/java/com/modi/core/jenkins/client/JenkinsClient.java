@@ -1,248 +1,136 @@
 package com.modi.core.jenkins.client;
 
 import com.modi.core.jenkins.dto.*;
-import com.modi.core.jenkins.exception.JenkinsBuildException;
 import com.modi.core.jenkins.exception.JenkinsConnectionException;
-import com.modi.core.jenkins.exception.JenkinsJobNotFoundException;
-import com.modi.core.jenkins.util.JenkinsUtils;
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Jenkins REST API와 직접 통신하는 클라이언트
+ * ReactiveJenkinsClient 호출 결과를 block() 하여 동기 API로 제공합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JenkinsClient {
 
-    private final WebClient jenkinsWebClient;
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
 
     // 모든 Job 목록 조회
     public List<JobResponse> getAllJobs() {
-        JsonNode response = jenkinsWebClient.get()
-            .uri("/api/json?tree=jobs[name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number]]")
-            .retrieve()
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to fetch jobs")))
-            .bodyToMono(JsonNode.class)
-            .block();
 
-        if (response == null || !response.has("jobs")) {
-            return new ArrayList<>();
-        }
+        return reactiveJenkinsClient.getAllJobs().block();
+    }
+
+    // Job 목록 범위 조회 (start 이상 end 미만)
+    public List<JobResponse> getJobs(String treeFields, int start, int end) {
+
+        return reactiveJenkinsClient.getJobs(treeFields, start, end).block();
+    }
+
+    // 페이징/필터용 Job 색인 (이름과 컬러만)
+    public List<JobResponse> getJobIndex() {
 
-        JsonNode jobs = response.get("jobs");
-        return StreamSupport.stream(jobs.spliterator(), false)
-            .map(JenkinsUtils::convertJsonToJobResponse)
-            .collect(Collectors.toList());
+        return reactiveJenkinsClient.getJobIndex().block();
     }
 
     // 특정 Job 정보 조회
     public JobResponse getJob(String jobName) {
-        JsonNode response = jenkinsWebClient.get()
-            .uri("/job/{jobName}/api/json?tree=name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number],builds[number,url,result,building,duration,timestamp]", jobName)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsJobNotFoundException(jobName)))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to fetch job: " + jobName)))
-            .bodyToMono(JsonNode.class)
-            .block();
-
-        if (response == null) {
-            throw new JenkinsJobNotFoundException(jobName);
-        }
 
-        return JenkinsUtils.convertJsonToJobResponse(response);
+        return reactiveJenkinsClient.getJob(jobName).block();
     }
 
     // Job 생성
     public void createJob(JobCreateRequest request) {
-        String jobXml = JenkinsUtils.generateJobXml(request);
-
-        jenkinsWebClient.post()
-            .uri("/createItem?name={name}", request.getJobName())
-            .contentType(MediaType.APPLICATION_XML)
-            .bodyValue(jobXml)
-            .retrieve()
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to create job: " + request.getJobName())))
-            .bodyToMono(String.class)
-            .block();
+
+        reactiveJenkinsClient.createJob(request).block();
     }
 
     // Job 삭제
     public void deleteJob(String jobName) {
-        jenkinsWebClient.post()
-            .uri("/job/{jobName}/doDelete", jobName)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsJobNotFoundException(jobName)))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to delete job: " + jobName)))
-            .bodyToMono(String.class)
-            .block();
+
+        reactiveJenkinsClient.deleteJob(jobName).block();
     }
 
     // Job 빌드 실행
     public QueueItemResponse triggerBuild(BuildRequest request) {
-        String uri;
-        Long queueId = null;
-
-        if (request.getParameters() != null && !request.getParameters().isEmpty()) {
-            StringBuilder paramString = new StringBuilder("?");
-            request.getParameters().forEach((key, value) ->
-                paramString.append(key).append("=").append(value).append("&"));
-            uri = "/job/" + request.getJobName() + "/buildWithParameters" + paramString.toString();
-        } else {
-            uri = "/job/" + request.getJobName() + "/build";
-        }
 
-        String location = jenkinsWebClient.post()
-            .uri(uri)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsJobNotFoundException(request.getJobName())))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsBuildException("Failed to trigger build for job: " + request.getJobName())))
-            .toBodilessEntity()
-            .map(response -> response.getHeaders().getLocation())
-            .map(Objects::toString)
+        return reactiveJenkinsClient.triggerBuild(request)
+            .flatMap(reactiveJenkinsClient::resolveQueueItem)
             .block();
+    }
 
-        // Queue Item ID 추출 (location 헤더에서)
-        if (location != null && location.contains("/queue/item/")) {
-            String[] parts = location.split("/queue/item/");
-            if (parts.length > 1) {
-                queueId = Long.parseLong(parts[1].replaceAll("[^0-9]", ""));
-            }
-        }
+    // 대기열 항목 조회
+    public QueueItemResponse getQueueItem(long queueId) {
 
-        return QueueItemResponse.builder()
-            .id(queueId)
-            .jobName(request.getJobName())
-            .inQueueSince(System.currentTimeMillis())
-            .why("Triggered via API")
-            .blocked(false)
-            .buildable(true)
-            .build();
+        return reactiveJenkinsClient.getQueueItem(queueId).block();
     }
 
     // 특정 빌드 정보 조회
     public BuildResponse getBuildInfo(String jobName, int buildNumber) {
-        JsonNode response = jenkinsWebClient.get()
-            .uri("/job/{jobName}/{buildNumber}/api/json?tree=number,url,result,building,duration,estimatedDuration,timestamp,actions[parameters[name,value]]",
-                jobName, buildNumber)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsBuildException("Build not found: " + buildNumber)))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to get build info")))
-            .bodyToMono(JsonNode.class)
-            .block();
 
-        if (response == null) {
-            throw new JenkinsBuildException("Build not found: " + buildNumber);
-        }
+        return reactiveJenkinsClient.getBuildInfo(jobName, buildNumber).block();
+    }
 
-        return JenkinsUtils.convertJsonToBuildResponse(response);
+    // 빌드 이력 범위 조회 (최신 빌드가 0번, from 이상 to 미만)
+    public List<BuildResponse> getBuilds(String jobName, int from, int to) {
+
+        return reactiveJenkinsClient.getBuilds(jobName, from, to).block();
+    }
+
+    // 마지막 빌드 번호 조회 (빌드가 없으면 0)
+    public int getLastBuildNumber(String jobName) {
+        Integer lastBuildNumber = reactiveJenkinsClient.getLastBuildNumber(jobName).block();
+
+        return lastBuildNumber != null ? lastBuildNumber : 0;
     }
 
     // 빌드 로그 조회
     public BuildLogResponse getBuildLog(String jobName, int buildNumber) {
-        String consoleOutput = jenkinsWebClient.get()
-            .uri("/job/{jobName}/{buildNumber}/consoleText", jobName, buildNumber)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsBuildException("Build not found: " + buildNumber)))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to get build log")))
-            .bodyToMono(String.class)
-            .block();
 
-        if (consoleOutput == null) {
-            consoleOutput = "";
-        }
+        return reactiveJenkinsClient.getBuildLog(jobName, buildNumber).block();
+    }
 
-        // 빌드 상태 확인
-        BuildResponse buildInfo = getBuildInfo(jobName, buildNumber);
+    // 빌드 로그 증분 조회 (start 오프셋 이후 텍스트)
+    public BuildLogResponse getProgressiveLog(String jobName, int buildNumber, long start) {
 
-        return BuildLogResponse.builder()
-            .jobName(jobName)
-            .buildNumber(buildNumber)
-            .consoleOutput(consoleOutput)
-            .size((long) consoleOutput.length())
-            .hasMoreData(buildInfo.getBuilding())
-            .build();
+        return reactiveJenkinsClient.getProgressiveLog(jobName, buildNumber, start).block();
     }
 
-    // 마지막 빌드 정보 조회
-    public BuildResponse getLastBuild(String jobName) {
-        JsonNode response = jenkinsWebClient.get()
-            .uri("/job/{jobName}/lastBuild/api/json?tree=number,url,result,building,duration,estimatedDuration,timestamp,actions[parameters[name,value]]",
-                jobName)
-            .retrieve()
-            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
-                Mono.error(new JenkinsBuildException("No builds found for job: " + jobName)))
-            .onStatus(status -> status.isError(), clientResponse ->
-                Mono.error(new JenkinsConnectionException("Failed to get last build")))
-            .bodyToMono(JsonNode.class)
-            .block();
+    // 빌드 로그 스트리밍 조회 (start 오프셋 이후 바이트를 DataBuffer 단위로 전달)
+    public ProgressiveLogResponse streamBuildLog(String jobName, int buildNumber, long start) {
+        ProgressiveLogResponse response = reactiveJenkinsClient.streamBuildLog(jobName, buildNumber, start).block();
 
-        if (response == null) {
-            throw new JenkinsBuildException("No builds found for job: " + jobName);
+        if (response == null || response.getContent() == null) {
+            throw new JenkinsConnectionException("Failed to stream build log");
         }
+        return response;
+    }
 
-        return JenkinsUtils.convertJsonToBuildResponse(response);
+    // 마지막 빌드 정보 조회
+    public BuildResponse getLastBuild(String jobName) {
+
+        return reactiveJenkinsClient.getLastBuild(jobName).block();
     }
 
     // 모든 노드 정보 조회
     public List<NodeResponse> getAllNodes() {
-        try {
-            JsonNode response = jenkinsWebClient.get()
-                .uri("/computer/api/json?tree=computer[displayName,description,offline,temporarilyOffline,numExecutors,idle,offlineCauseReason]")
-                .retrieve()
-                .onStatus(status -> status.isError(), clientResponse ->
-                    Mono.error(new JenkinsConnectionException("Failed to get all nodes")))
-                .bodyToMono(JsonNode.class)
-                .block();
-
-            if (response == null || !response.has("computer")) {
-                return new ArrayList<>();
-            }
-
-            JsonNode computers = response.get("computer");
-            return StreamSupport.stream(computers.spliterator(), false)
-                .map(JenkinsUtils::convertJsonToNodeResponse)
-                .collect(Collectors.toList());
-
-        } catch (Exception e) {
-            log.error("Failed to get all nodes", e);
-            throw new JenkinsConnectionException("Failed to get all nodes", e);
-        }
+
+        return reactiveJenkinsClient.getAllNodes().block();
+    }
+
+    // 빌드 대기열(Queue) 조회
+    public List<QueueItemResponse> getQueue() {
+
+        return reactiveJenkinsClient.getQueue().block();
     }
 
     // Jenkins 서버 연결 상태 확인
     public boolean isRunning() {
-        JsonNode response = jenkinsWebClient.get()
-            .uri("/api/json")
-            .retrieve()
-            .bodyToMono(JsonNode.class)
-            .block();
 
-        return response != null;
+        return Boolean.TRUE.equals(reactiveJenkinsClient.isRunning().block());
     }
 }
@@ -0,0 +1,97 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.exception.ResourceNotFoundException;
+import com.modi.core.jenkins.config.JenkinsConfig;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이름으로 찾는 Jenkins 컨트롤러 목록
+ * 기본 컨트롤러(jenkins.url)는 애플리케이션의 ReactiveJenkinsClient를 그대로 쓰고,
+ * jenkins.controllers.* 의 추가 컨트롤러는 각자의 커넥션 풀, 인증 정보, 요청 합치기(RequestCoalescer), 과부하 보호(JenkinsLoadGuard)를 가진 클라이언트를 만듭니다.
+ */
+@Slf4j
+@Component
+public class JenkinsControllerRegistry implements DisposableBean {
+
+    private final Map<String, Entry> controllers;
+    private final List<ConnectionProvider> ownedProviders = new ArrayList<>();
+
+    public JenkinsControllerRegistry(ReactiveJenkinsClient reactiveJenkinsClient,
+                                     JenkinsProperties jenkinsProperties,
+                                     MeterRegistry meterRegistry) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        entries.put(jenkinsProperties.getControllerName(), new Entry(jenkinsProperties.getControllerName(),
+            reactiveJenkinsClient, Duration.ofMillis(jenkinsProperties.getFederationTimeout())));
+
+        jenkinsProperties.getControllers().forEach((name, controller) -> {
+            if (entries.containsKey(name)) {
+                throw new IllegalStateException("Duplicate Jenkins controller name: " + name);
+            }
+            if (controller.getUrl() == null || controller.getUrl().isBlank()) {
+                throw new IllegalStateException("Jenkins controller " + name + " has no url");
+            }
+
+            ConnectionProvider connectionProvider = JenkinsConfig.createConnectionProvider("jenkins-" + name,
+                valueOrDefault(controller.getMaxConnections(), jenkinsProperties.getMaxConnections()), jenkinsProperties);
+            ownedProviders.add(connectionProvider);
+
+            JenkinsLoadGuard loadGuard = new JenkinsLoadGuard(name, jenkinsProperties, meterRegistry);
+            WebClient webClient = JenkinsConfig.createWebClient(connectionProvider, loadGuard, controller.getUrl(),
+                valueOrDefault(controller.getUsername(), jenkinsProperties.getUsername()),
+                valueOrDefault(controller.getToken(), jenkinsProperties.getToken()),
+                valueOrDefault(controller.getConnectionTimeout(), jenkinsProperties.getConnectionTimeout()),
+                valueOrDefault(controller.getReadTimeout(), jenkinsProperties.getReadTimeout()),
+                jenkinsProperties);
+
+            entries.put(name, new Entry(name,
+                new ReactiveJenkinsClient(webClient, new RequestCoalescer(name, meterRegistry), loadGuard),
+                Duration.ofMillis(valueOrDefault(controller.getFederationTimeout(), jenkinsProperties.getFederationTimeout()))));
+        });
+
+        this.controllers = Collections.unmodifiableMap(entries);
+        log.info("Registered {} Jenkins controllers: {}", controllers.size(), controllers.keySet());
+    }
+
+    // 등록 순서(기본 컨트롤러 먼저)의 컨트롤러 목록
+    public List<Entry> getControllers() {
+
+        return List.copyOf(controllers.values());
+    }
+
+    // 이름으로 컨트롤러 조회
+    public Entry getController(String name) {
+        Entry entry = controllers.get(name);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Jenkins controller not found: " + name);
+        }
+        return entry;
+    }
+
+    @Override
+    public void destroy() {
+        ownedProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 등록된 컨트롤러 (이름, 클라이언트, 연합 조회 타임아웃)
+     */
+    public record Entry(String name, ReactiveJenkinsClient client, Duration timeout) {
+    }
+}
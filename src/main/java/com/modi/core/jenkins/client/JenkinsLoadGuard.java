@@ -0,0 +1,377 @@
+package com.modi.core.jenkins.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.exception.JenkinsOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jenkins 컨트롤러 하나에 대한 과부하 보호 (WebClient 필터)
+ * - 적응형 동시 요청 한도(AIMD): 응답이 빠르면 한도를 조금씩(응답 한 바퀴에 1) 늘리고,
+ *   느린 응답(limiterLatencyThreshold 초과), 5xx/429, 연결 오류가 나면 한도를 비율만큼 줄입니다.
+ *   한도를 넘는 요청은 Jenkins로 보내지 않고 바로 거절합니다.
+ * - 서킷 브레이커: 최근 호출의 실패율이 기준을 넘으면 열어서 일정 시간 모든 요청을 바로 거절하고,
+ *   이후 일부 시험 호출이 모두 성공하면 다시 닫습니다.
+ * 거절된 조회는 withStaleFallback()으로 감싼 경우 마지막으로 성공한 응답(staleMaxAge 이내)으로 대신합니다.
+ * 백그라운드 동기화는 이전 응답을 새로 받은 상태로 오인하지 않도록 대신 받지 않고 그 주기를 건너뜁니다.
+ * 허가는 응답 본문을 다 읽거나 해제할 때 반납하고 지연 시간도 그때까지 측정하므로, 큰 tree 응답처럼 본문 전송이 느린 경우도 한도에 반영됩니다.
+ * 로그 스트리밍처럼 본문을 오래 흘려보내는 요청은 STREAMING_ATTRIBUTE를 붙여 헤더를 받으면 바로 반납합니다
+ * (느린 클라이언트에 맞춰 흐르는 본문을 Jenkins 지연으로 오인하지 않도록).
+ */
+@Slf4j
+public class JenkinsLoadGuard implements ExchangeFilterFunction {
+
+    // 본문을 스트리밍하는 요청 표시 (요청 속성, 값은 true)
+    public static final String STREAMING_ATTRIBUTE = JenkinsLoadGuard.class.getName() + ".streaming";
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    // 호출 결과 (IGNORED: 호출자가 취소했거나 본문이 크기 한도를 넘어 판단할 수 없음)
+    private enum Outcome {
+        SUCCESS, SLOW, FAILURE, IGNORED
+    }
+
+    private final String name;
+    private final boolean limiterEnabled;
+    private final boolean breakerEnabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // 아래 필드는 this로 동기화
+    private double limit;
+    private long lastDecreaseAt = System.nanoTime();
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+    // 최근 호출 결과 (실패 여부) 순환 버퍼
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+
+    // 마지막으로 성공한 조회 응답 (요청 키 → 응답)
+    private final Cache<String, Object> lastGood;
+
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+    private final Counter limitRejections;
+    private final Counter breakerRejections;
+    private final Counter staleResponses;
+
+    public JenkinsLoadGuard(String name, JenkinsProperties jenkinsProperties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.limiterEnabled = jenkinsProperties.getLimiterEnabled();
+        this.breakerEnabled = jenkinsProperties.getBreakerEnabled();
+        this.minLimit = Math.max(1, jenkinsProperties.getLimiterMinLimit());
+        this.maxLimit = Math.max(minLimit, jenkinsProperties.getLimiterMaxLimit());
+        this.limit = Math.min(maxLimit, Math.max(minLimit, jenkinsProperties.getLimiterInitialLimit()));
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(jenkinsProperties.getLimiterLatencyThreshold());
+        this.backoffRatio = jenkinsProperties.getLimiterBackoffRatio();
+        this.failureRateThreshold = jenkinsProperties.getBreakerFailureRateThreshold();
+        this.minimumCalls = Math.max(1, jenkinsProperties.getBreakerMinimumCalls());
+        this.window = new boolean[Math.max(minimumCalls, jenkinsProperties.getBreakerWindowSize())];
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(jenkinsProperties.getBreakerOpenDuration());
+        this.halfOpenCalls = Math.max(1, jenkinsProperties.getBreakerHalfOpenCalls());
+        this.lastGood = Caffeine.newBuilder()
+            .maximumSize(jenkinsProperties.getStaleMaxEntries())
+            .expireAfterWrite(Duration.ofMillis(jenkinsProperties.getStaleMaxAge()))
+            .build();
+
+        Gauge.builder("jenkins.client.limit", this, guard -> guard.getLimit())
+            .description("Adaptive concurrency limit for Jenkins requests")
+            .tag("controller", name)
+            .register(meterRegistry);
+        Gauge.builder("jenkins.client.limit.inflight", inFlight, AtomicInteger::get)
+            .description("Jenkins requests currently holding a concurrency permit")
+            .tag("controller", name)
+            .register(meterRegistry);
+        Gauge.builder("jenkins.client.breaker.state", this, guard -> guard.getState().ordinal())
+            .description("Circuit breaker state for Jenkins requests (0=closed, 1=half-open, 2=open)")
+            .tag("controller", name)
+            .register(meterRegistry);
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("jenkins.client.breaker.transitions")
+                .description("Circuit breaker state transitions by target state")
+                .tag("controller", name)
+                .tag("to", target.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.limitRejections = Counter.builder("jenkins.client.rejected")
+            .description("Jenkins requests rejected without being sent")
+            .tag("controller", name)
+            .tag("reason", "limit")
+            .register(meterRegistry);
+        this.breakerRejections = Counter.builder("jenkins.client.rejected")
+            .description("Jenkins requests rejected without being sent")
+            .tag("controller", name)
+            .tag("reason", "breaker")
+            .register(meterRegistry);
+        this.staleResponses = Counter.builder("jenkins.client.stale")
+            .description("Rejected Jenkins reads answered with the last successful response")
+            .tag("controller", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            if (permit == null) {
+                return Mono.error(new JenkinsOverloadedException(
+                    "Jenkins " + name + " is overloaded (breaker " + getState().name().toLowerCase() + "), request not sent: "
+                        + request.method() + " " + request.url().getPath()));
+            }
+
+            boolean streaming = Boolean.TRUE.equals(request.attribute(STREAMING_ATTRIBUTE).orElse(null));
+
+            return next.exchange(request)
+                .map(response -> streaming ? releaseOnHeaders(response, permit) : releaseAfterBody(response, permit))
+                .doOnError(e -> permit.release(Outcome.FAILURE))
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        permit.release(Outcome.IGNORED);
+                    }
+                });
+        });
+    }
+
+    private ClientResponse releaseOnHeaders(ClientResponse response, Permit permit) {
+        permit.release(classify(response.statusCode(), permit.elapsed()));
+        return response;
+    }
+
+    // 본문을 다 읽거나(취소 포함) 해제할 때 반납 (본문 수신 중 오류는 실패, 정상 상태 응답의 본문을 도중에 취소하면 판단하지 않음)
+    // 본문 크기 한도 초과(DataBufferLimitException)는 Jenkins 상태가 아니라 요청 범위 문제이므로 판단하지 않음
+    // (디코더가 한도를 넘겨 본문을 취소하는 경우도 CANCEL로 들어와 같은 결과)
+    private ClientResponse releaseAfterBody(ClientResponse response, Permit permit) {
+        HttpStatusCode status = response.statusCode();
+
+        return response.mutate()
+            .body(body -> body
+                .doOnError(e -> permit.release(e instanceof DataBufferLimitException ? Outcome.IGNORED : Outcome.FAILURE))
+                .doFinally(signal -> {
+                    Outcome outcome = classify(status, permit.elapsed());
+                    permit.release(signal == SignalType.CANCEL && outcome != Outcome.FAILURE ? Outcome.IGNORED : outcome);
+                }))
+            .build();
+    }
+
+    // 조회 결과를 마지막 성공 응답으로 기억 (요청 처리용/백그라운드 조회 모두 기록)
+    public <T> Mono<T> rememberLastGood(String key, Mono<T> upstream) {
+
+        return upstream.doOnNext(value -> lastGood.put(key, value));
+    }
+
+    // 과부하로 거절되면 마지막 성공 응답으로 대신 (없으면 그대로 거절, 요청 처리용 조회에만 적용)
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> withStaleFallback(String key, Mono<T> result) {
+        return result
+            .onErrorResume(JenkinsOverloadedException.class, e -> {
+                Object stale = lastGood.getIfPresent(key);
+                if (stale == null) {
+                    return Mono.error(e);
+                }
+                staleResponses.increment();
+                return Mono.just((T) stale);
+            });
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            transition(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    public synchronized int getLimit() {
+
+        return (int) limit;
+    }
+
+    // 서킷 브레이커와 동시 요청 한도를 통과하면 허가, 아니면 null
+    private Permit acquire() {
+        boolean trial = false;
+
+        if (breakerEnabled) {
+            synchronized (this) {
+                State current = getState();
+                if (current == State.OPEN || (current == State.HALF_OPEN && halfOpenInFlight >= halfOpenCalls)) {
+                    breakerRejections.increment();
+                    return null;
+                }
+                if (current == State.HALF_OPEN) {
+                    halfOpenInFlight++;
+                    trial = true;
+                }
+            }
+        }
+
+        int current = inFlight.incrementAndGet();
+        if (limiterEnabled && current > getLimit()) {
+            inFlight.decrementAndGet();
+            if (trial) {
+                synchronized (this) {
+                    halfOpenInFlight--;
+                }
+            }
+            limitRejections.increment();
+            return null;
+        }
+        return new Permit(System.nanoTime(), current, trial);
+    }
+
+    private Outcome classify(HttpStatusCode status, long elapsedNanos) {
+        if (status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return Outcome.FAILURE;
+        }
+        return elapsedNanos > latencyThresholdNanos ? Outcome.SLOW : Outcome.SUCCESS;
+    }
+
+    private synchronized void onComplete(Permit permit, Outcome outcome) {
+        if (limiterEnabled && outcome != Outcome.IGNORED) {
+            adjustLimit(permit, outcome);
+        }
+        if (!breakerEnabled) {
+            return;
+        }
+
+        if (permit.trial) {
+            halfOpenInFlight--;
+            if (state != State.HALF_OPEN || outcome == Outcome.IGNORED) {
+                return;
+            }
+            if (outcome == Outcome.FAILURE) {
+                transition(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+
+        if (state == State.CLOSED && outcome != Outcome.IGNORED) {
+            record(outcome == Outcome.FAILURE);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    // AIMD: 한도 근처까지 쓰는 중에 빠른 응답이면 1/limit 증가, 느리거나 실패하면 비율만큼 감소
+    // (같은 시점에 나간 요청들이 한꺼번에 실패해도 한 번만 줄이도록, 마지막 감소 이후 시작한 요청만 감소에 반영)
+    private void adjustLimit(Permit permit, Outcome outcome) {
+        if (outcome == Outcome.SUCCESS) {
+            if (permit.inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            return;
+        }
+        if (permit.startedAt - lastDecreaseAt > 0) {
+            double previous = limit;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            lastDecreaseAt = System.nanoTime();
+            if ((int) previous != (int) limit) {
+                log.debug("Jenkins {} concurrency limit decreased to {} after a {} response", name, (int) limit,
+                    outcome.name().toLowerCase());
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowPosition]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPosition] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowPosition = (windowPosition + 1) % window.length;
+    }
+
+    private void transition(State target) {
+        State previous = state;
+        state = target;
+        transitions.get(target).increment();
+
+        switch (target) {
+            case OPEN -> {
+                openedAt = System.nanoTime();
+                if (previous == State.HALF_OPEN) {
+                    log.warn("Jenkins {} circuit breaker reopened after a failed trial call", name);
+                } else {
+                    log.warn("Jenkins {} circuit breaker opened ({} of last {} calls failed)", name, windowFailures, windowCount);
+                }
+            }
+            case HALF_OPEN -> {
+                halfOpenSucceeded = 0;
+                log.info("Jenkins {} circuit breaker half-open, allowing {} trial calls", name, halfOpenCalls);
+            }
+            case CLOSED -> {
+                windowPosition = 0;
+                windowCount = 0;
+                windowFailures = 0;
+                log.info("Jenkins {} circuit breaker closed", name);
+            }
+        }
+    }
+
+    // 요청 하나가 가진 동시 요청 허가 (한 번만 반납)
+    private final class Permit {
+
+        private final long startedAt;
+        private final int inFlightAtStart;
+        private final boolean trial;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startedAt, int inFlightAtStart, boolean trial) {
+            this.startedAt = startedAt;
+            this.inFlightAtStart = inFlightAtStart;
+            this.trial = trial;
+        }
+
+        private long elapsed() {
+
+            return System.nanoTime() - startedAt;
+        }
+
+        private void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onComplete(this, outcome);
+            }
+        }
+    }
+}
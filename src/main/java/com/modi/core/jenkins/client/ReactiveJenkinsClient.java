@@ -0,0 +1,477 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.jenkins.dto.*;
+import com.modi.core.jenkins.exception.JenkinsBuildException;
+import com.modi.core.jenkins.exception.JenkinsConnectionException;
+import com.modi.core.jenkins.exception.JenkinsJobNotFoundException;
+import com.modi.core.jenkins.exception.JenkinsResponseTooLargeException;
+import com.modi.core.jenkins.util.JenkinsJsonStreamDecoder;
+import com.modi.core.jenkins.util.JenkinsUtils;
+import com.modi.core.jenkins.util.JobConfigTemplate;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Jenkins REST API와 논블로킹으로 통신하는 클라이언트
+ * 모든 호출은 Mono를 반환하며, 동기 API가 필요한 곳은 JenkinsClient를 사용합니다.
+ * 조회(GET) 요청은 RequestCoalescer를 거쳐 동시에 들어온 같은 요청을 하나의 업스트림 호출로 합칩니다.
+ * Jenkins 과부하 보호(JenkinsLoadGuard)로 거절된 조회는 마지막으로 성공한 응답이 있으면 그 응답을 반환합니다.
+ * 백그라운드 동기화(poll*)는 이전 응답을 받지 않고 거절을 그대로 받아 그 주기를 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveJenkinsClient {
+
+    private static final String JOBS_URI = "/api/json?tree=jobs[name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number]]";
+    private static final String JOBS_TREE_URI = "/api/json?tree={tree}";
+    private static final String JOB_URI = "/job/{jobName}/api/json?tree={tree}";
+    // 최근 빌드 10개만 범위({0,10})로 조회, 전체 이력은 getBuilds 사용
+    private static final String JOB_TREE = "name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number],builds[number,url,result,building,duration,timestamp]{0,10}";
+    // 빌드 조회 필드 (단건/마지막 빌드/이력 조회가 같은 필드를 받아 어느 경로로 채운 빌드 캐시 엔트리든 내용이 같음)
+    private static final String BUILD_TREE_FIELDS = "number,url,result,building,duration,estimatedDuration,timestamp,queueId,actions[parameters[name,value]]";
+    private static final String TRIGGER_BUILD_URI = "/job/{jobName}/build";
+    private static final String BUILD_WITH_PARAMETERS_URI = "/job/{jobName}/buildWithParameters";
+    private static final String BUILD_URI = "/job/{jobName}/{buildNumber}/api/json?tree=" + BUILD_TREE_FIELDS;
+    private static final String LAST_BUILD_URI = "/job/{jobName}/lastBuild/api/json?tree=" + BUILD_TREE_FIELDS;
+    private static final String NODES_URI = "/computer/api/json?tree=computer[displayName,description,offline,temporarilyOffline,numExecutors,idle,offlineCauseReason,assignedLabels[name],executors[idle]]";
+    private static final String QUEUE_ITEM_URI = "/queue/item/{queueId}/api/json?tree=id,task[name],inQueueSince,why,blocked,buildable,cancelled,executable[number]";
+    private static final String QUEUE_URI = "/queue/api/json?tree=items[id,task[name],inQueueSince,why,blocked,buildable,executable[number]]";
+    private static final String ROOT_URI = "/api/json";
+    private static final String QUEUE_ITEM_PATH = "/queue/item/";
+
+    private final WebClient jenkinsWebClient;
+    private final RequestCoalescer requestCoalescer;
+    private final JenkinsLoadGuard loadGuard;
+
+    // 모든 Job 목록 조회
+    public Mono<List<JobResponse>> getAllJobs() {
+
+        return read(coalesceKey(JOBS_URI), this::requestAllJobs);
+    }
+
+    // 모든 Job 목록 조회 (백그라운드 동기화용, 과부하로 거절되면 그대로 실패)
+    public Mono<List<JobResponse>> pollAllJobs() {
+
+        return fetch(coalesceKey(JOBS_URI), this::requestAllJobs);
+    }
+
+    private Mono<List<JobResponse>> requestAllJobs() {
+        return jenkinsWebClient.get()
+            .uri(JOBS_URI)
+            .retrieve()
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to fetch jobs")))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeJobs, "Failed to parse jobs"))
+            .defaultIfEmpty(List.of());
+    }
+
+    // Job 목록 범위 조회 (treeFields: jobs[...] 안의 tree 식, start 이상 end 미만)
+    public Mono<List<JobResponse>> getJobs(String treeFields, int start, int end) {
+
+        return fetchJobs("jobs[" + treeFields + "]{" + start + "," + end + "}");
+    }
+
+    // 페이징/필터용 Job 색인 (이름과 컬러만)
+    public Mono<List<JobResponse>> getJobIndex() {
+
+        return fetchJobs("jobs[name,color]");
+    }
+
+    private Mono<List<JobResponse>> fetchJobs(String tree) {
+        return read(coalesceKey(JOBS_TREE_URI, tree), () -> jenkinsWebClient.get()
+            .uri(JOBS_TREE_URI, tree)
+            .retrieve()
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to fetch jobs")))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeJobs, "Failed to parse jobs"))
+            .defaultIfEmpty(List.of()));
+    }
+
+    // 특정 Job 정보 조회
+    public Mono<JobResponse> getJob(String jobName) {
+
+        return read(coalesceKey(JOB_URI, jobName, JOB_TREE), () -> requestJob(jobName));
+    }
+
+    // 특정 Job 정보 조회 (백그라운드 동기화용, 과부하로 거절되면 그대로 실패)
+    public Mono<JobResponse> pollJob(String jobName) {
+
+        return fetch(coalesceKey(JOB_URI, jobName, JOB_TREE), () -> requestJob(jobName));
+    }
+
+    private Mono<JobResponse> requestJob(String jobName) {
+        return jenkinsWebClient.get()
+            .uri(JOB_URI, jobName, JOB_TREE)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsJobNotFoundException(jobName)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to fetch job: " + jobName)))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeJob, "Failed to parse job: " + jobName))
+            .switchIfEmpty(Mono.error(() -> new JenkinsJobNotFoundException(jobName)));
+    }
+
+    // Job 생성 (빌드 스크립트가 크면 config.xml을 문자열로 만들지 않고 스트리밍 전송)
+    public Mono<Void> createJob(JobCreateRequest request) {
+        return Mono.fromSupplier(() -> jobConfigBody(request))
+            .flatMap(jobConfig -> jenkinsWebClient.post()
+                .uri("/createItem?name={name}", request.getJobName())
+                .contentType(MediaType.APPLICATION_XML)
+                .body(jobConfig)
+                .retrieve()
+                .onStatus(status -> status.isError(), clientResponse ->
+                    Mono.error(new JenkinsConnectionException("Failed to create job: " + request.getJobName())))
+                .toBodilessEntity())
+            .then();
+    }
+
+    // Job 삭제
+    public Mono<Void> deleteJob(String jobName) {
+        return jenkinsWebClient.post()
+            .uri("/job/{jobName}/doDelete", jobName)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsJobNotFoundException(jobName)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to delete job: " + jobName)))
+            .toBodilessEntity()
+            .then();
+    }
+
+    // Job 빌드 실행 (파라미터는 form-encoded 본문으로 전송, 응답에는 Location 헤더의 Queue ID만 채움)
+    public Mono<QueueItemResponse> triggerBuild(BuildRequest request) {
+        Map<String, String> parameters = request.getParameters();
+        boolean parameterized = parameters != null && !parameters.isEmpty();
+
+        WebClient.RequestBodySpec spec = jenkinsWebClient.post()
+            .uri(parameterized ? BUILD_WITH_PARAMETERS_URI : TRIGGER_BUILD_URI, request.getJobName());
+        if (parameterized) {
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>(parameters.size());
+            parameters.forEach(form::add);
+            // WebClient 기본 Content-Type(application/json)을 덮어써야 폼 writer가 선택되고 Jenkins가 파라미터를 읽음
+            spec.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(form));
+        }
+
+        return spec
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsJobNotFoundException(request.getJobName())))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsBuildException("Failed to trigger build for job: " + request.getJobName())))
+            .toBodilessEntity()
+            .map(response -> Objects.toString(response.getHeaders().getLocation(), ""))
+            .defaultIfEmpty("")
+            .map(location -> QueueItemResponse.builder()
+                .id(parseQueueId(location))
+                .jobName(request.getJobName())
+                .build());
+    }
+
+    // 대기열 항목 조회 (대기열을 떠난 항목도 Jenkins가 잠시 보관하므로 executable 번호를 얻을 수 있음)
+    public Mono<QueueItemResponse> getQueueItem(long queueId) {
+        return read(coalesceKey(QUEUE_ITEM_URI, queueId), () -> jenkinsWebClient.get()
+            .uri(QUEUE_ITEM_URI, queueId)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsBuildException("Queue item not found: " + queueId)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get queue item: " + queueId)))
+            .bodyToMono(JsonNode.class)
+            .onErrorMap(ReactiveJenkinsClient::isBodyTooLarge, e -> tooLarge("Failed to get queue item: " + queueId, e))
+            .map(JenkinsUtils::convertJsonToQueueItemResponse)
+            .switchIfEmpty(Mono.error(() -> new JenkinsBuildException("Queue item not found: " + queueId))));
+    }
+
+    // 빌드 실행 응답의 Queue ID로 대기열 상태를 채움 (조회에 실패하면 원래 응답 그대로)
+    public Mono<QueueItemResponse> resolveQueueItem(QueueItemResponse triggered) {
+        if (triggered.getId() == null) {
+            return Mono.just(triggered);
+        }
+
+        return getQueueItem(triggered.getId())
+            .map(item -> QueueItemResponse.builder()
+                .id(item.getId())
+                .jobName(item.getJobName() != null ? item.getJobName() : triggered.getJobName())
+                .inQueueSince(item.getInQueueSince())
+                .why(item.getWhy())
+                .blocked(item.getBlocked())
+                .buildable(item.getBuildable())
+                .executableNumber(item.getExecutableNumber())
+                .build())
+            .onErrorResume(e -> {
+                log.debug("Failed to resolve queue item {}: {}", triggered.getId(), e.getMessage());
+                return Mono.just(triggered);
+            });
+    }
+
+    // 특정 빌드 정보 조회
+    public Mono<BuildResponse> getBuildInfo(String jobName, int buildNumber) {
+        return read(coalesceKey(BUILD_URI, jobName, buildNumber), () -> jenkinsWebClient.get()
+            .uri(BUILD_URI, jobName, buildNumber)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsBuildException("Build not found: " + buildNumber)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get build info")))
+            .bodyToMono(JsonNode.class)
+            .onErrorMap(ReactiveJenkinsClient::isBodyTooLarge, e -> tooLarge("Failed to get build info", e))
+            .map(JenkinsUtils::convertJsonToBuildResponse)
+            .switchIfEmpty(Mono.error(() -> new JenkinsBuildException("Build not found: " + buildNumber))));
+    }
+
+    // 빌드 이력 범위 조회 (allBuilds{from,to}, 최신 빌드가 0번, from 이상 to 미만)
+    public Mono<List<BuildResponse>> getBuilds(String jobName, int from, int to) {
+        String tree = "allBuilds[" + BUILD_TREE_FIELDS + "]{" + from + "," + to + "}";
+
+        return read(coalesceKey(JOB_URI, jobName, tree), () -> jenkinsWebClient.get()
+            .uri(JOB_URI, jobName, tree)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsJobNotFoundException(jobName)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to fetch builds: " + jobName)))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeAllBuilds, "Failed to parse builds: " + jobName))
+            .defaultIfEmpty(List.of()));
+    }
+
+    // 마지막 빌드 번호 조회 (빌드가 없으면 0)
+    public Mono<Integer> getLastBuildNumber(String jobName) {
+        String tree = "lastBuild[number]";
+
+        return read(coalesceKey(JOB_URI, jobName, tree), () -> jenkinsWebClient.get()
+            .uri(JOB_URI, jobName, tree)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsJobNotFoundException(jobName)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to fetch job: " + jobName)))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeJob, "Failed to parse job: " + jobName))
+            .mapNotNull(JobResponse::getLastBuildNumber)
+            .defaultIfEmpty(0));
+    }
+
+    // 빌드 로그 조회
+    public Mono<BuildLogResponse> getBuildLog(String jobName, int buildNumber) {
+
+        return getProgressiveLog(jobName, buildNumber, 0L);
+    }
+
+    // 빌드 로그 증분 조회 (start 오프셋 이후 텍스트, progressiveText 헤더로 진행 여부 확인)
+    public Mono<BuildLogResponse> getProgressiveLog(String jobName, int buildNumber, long start) {
+        return jenkinsWebClient.get()
+            .uri("/job/{jobName}/{buildNumber}/logText/progressiveText?start={start}", jobName, buildNumber, start)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsBuildException("Build not found: " + buildNumber)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get build log")))
+            .toEntity(String.class)
+            .onErrorMap(ReactiveJenkinsClient::isBodyTooLarge, e -> tooLarge("Failed to get build log", e))
+            .map(response -> {
+                String consoleOutput = response.getBody() != null ? response.getBody() : "";
+
+                return BuildLogResponse.builder()
+                    .jobName(jobName)
+                    .buildNumber(buildNumber)
+                    .consoleOutput(consoleOutput)
+                    .size(JenkinsUtils.parseTextSize(response.getHeaders(), start + consoleOutput.length()))
+                    .hasMoreData(JenkinsUtils.hasMoreData(response.getHeaders()))
+                    .build();
+            });
+    }
+
+    // 빌드 로그 스트리밍 조회 (start 오프셋 이후 바이트를 DataBuffer 단위로 전달)
+    public Mono<ProgressiveLogResponse> streamBuildLog(String jobName, int buildNumber, long start) {
+        return jenkinsWebClient.get()
+            .uri("/job/{jobName}/{buildNumber}/logText/progressiveText?start={start}", jobName, buildNumber, start)
+            // 본문은 다운스트림 클라이언트 속도로 흐르므로 헤더를 받으면 동시 요청 허가 반납
+            .attribute(JenkinsLoadGuard.STREAMING_ATTRIBUTE, true)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsBuildException("Build not found: " + buildNumber)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to stream build log")))
+            .toEntityFlux(DataBuffer.class)
+            // 헤더만 먼저 수신하고 본문은 구독 시점에 흘려보냄
+            .map(response -> ProgressiveLogResponse.builder()
+                .jobName(jobName)
+                .buildNumber(buildNumber)
+                .start(start)
+                .textSize(JenkinsUtils.parseTextSize(response.getHeaders(), start))
+                .moreData(JenkinsUtils.hasMoreData(response.getHeaders()))
+                .content(response.getBody())
+                .build());
+    }
+
+    // 마지막 빌드 정보 조회
+    public Mono<BuildResponse> getLastBuild(String jobName) {
+        return read(coalesceKey(LAST_BUILD_URI, jobName), () -> jenkinsWebClient.get()
+            .uri(LAST_BUILD_URI, jobName)
+            .retrieve()
+            .onStatus(status -> status.equals(HttpStatus.NOT_FOUND), clientResponse ->
+                Mono.error(new JenkinsBuildException("No builds found for job: " + jobName)))
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get last build")))
+            .bodyToMono(JsonNode.class)
+            .onErrorMap(ReactiveJenkinsClient::isBodyTooLarge, e -> tooLarge("Failed to get last build", e))
+            .map(JenkinsUtils::convertJsonToBuildResponse)
+            .switchIfEmpty(Mono.error(() -> new JenkinsBuildException("No builds found for job: " + jobName))));
+    }
+
+    // 모든 노드 정보 조회
+    public Mono<List<NodeResponse>> getAllNodes() {
+
+        return read(coalesceKey(NODES_URI), this::requestAllNodes);
+    }
+
+    // 모든 노드 정보 조회 (백그라운드 동기화용, 과부하로 거절되면 그대로 실패)
+    public Mono<List<NodeResponse>> pollAllNodes() {
+
+        return fetch(coalesceKey(NODES_URI), this::requestAllNodes);
+    }
+
+    private Mono<List<NodeResponse>> requestAllNodes() {
+        return jenkinsWebClient.get()
+            .uri(NODES_URI)
+            .retrieve()
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get all nodes")))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeNodes, "Failed to parse nodes"))
+            .defaultIfEmpty(List.of())
+            .doOnError(e -> log.error("Failed to get all nodes", e))
+            .onErrorMap(e -> !(e instanceof JenkinsConnectionException),
+                e -> new JenkinsConnectionException("Failed to get all nodes", e));
+    }
+
+    // 빌드 대기열(Queue) 조회
+    public Mono<List<QueueItemResponse>> getQueue() {
+
+        return read(coalesceKey(QUEUE_URI), this::requestQueue);
+    }
+
+    // 빌드 대기열(Queue) 조회 (백그라운드 동기화용, 과부하로 거절되면 그대로 실패)
+    public Mono<List<QueueItemResponse>> pollQueue() {
+
+        return fetch(coalesceKey(QUEUE_URI), this::requestQueue);
+    }
+
+    private Mono<List<QueueItemResponse>> requestQueue() {
+        return jenkinsWebClient.get()
+            .uri(QUEUE_URI)
+            .retrieve()
+            .onStatus(status -> status.isError(), clientResponse ->
+                Mono.error(new JenkinsConnectionException("Failed to get queue")))
+            .bodyToFlux(DataBuffer.class)
+            .as(body -> decodeBody(body, JenkinsJsonStreamDecoder::decodeQueue, "Failed to parse queue"))
+            .defaultIfEmpty(List.of());
+    }
+
+    // Jenkins 서버 연결 상태 확인
+    public Mono<Boolean> isRunning() {
+        return requestCoalescer.coalesce(coalesceKey(ROOT_URI), () -> jenkinsWebClient.get()
+            .uri(ROOT_URI)
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .map(response -> true)
+            .defaultIfEmpty(false));
+    }
+
+    // 요청 처리용 조회 (같은 요청 합치기 + 과부하로 거절되면 마지막 성공 응답)
+    // (대체는 합친 호출 바깥에서 호출자별로 적용하므로 같은 키의 백그라운드 조회에는 이전 응답이 섞이지 않음)
+    private <T> Mono<T> read(String key, Supplier<Mono<T>> upstream) {
+
+        return loadGuard.withStaleFallback(key, fetch(key, upstream));
+    }
+
+    // 백그라운드 동기화용 조회 (같은 요청 합치기만, 과부하로 거절되면 그대로 실패해 그 주기를 건너뜀)
+    private <T> Mono<T> fetch(String key, Supplier<Mono<T>> upstream) {
+
+        return requestCoalescer.coalesce(key, () -> loadGuard.rememberLastGood(key, upstream.get()));
+    }
+
+    // config.xml 요청 본문 (jobType 검증은 여기서 먼저 수행)
+    private static BodyInserter<?, ReactiveHttpOutputMessage> jobConfigBody(JobCreateRequest request) {
+        JobConfigTemplate.forJobType(request.getJobType());
+
+        if (!JobConfigTemplate.requiresStreaming(request)) {
+            return BodyInserters.fromValue(JobConfigTemplate.render(request));
+        }
+        return BodyInserters.fromDataBuffers(DataBufferUtils.outputStreamPublisher(
+            outputStream -> JobConfigTemplate.writeTo(request, outputStream),
+            DefaultDataBufferFactory.sharedInstance,
+            task -> Schedulers.boundedElastic().schedule(task)));
+    }
+
+    // 응답 본문을 모은 뒤 JsonNode 트리 없이 스트리밍 파서로 바로 DTO 변환
+    private static <T> Mono<T> decodeBody(Flux<DataBuffer> body, JenkinsJsonStreamDecoder.BodyDecoder<T> decoder, String errorMessage) {
+        return DataBufferUtils.join(body, JenkinsJsonStreamDecoder.MAX_BODY_BYTES)
+            .onErrorMap(ReactiveJenkinsClient::isBodyTooLarge, e -> tooLarge(errorMessage, e))
+            .handle((buffer, sink) -> {
+                try {
+                    sink.next(decoder.decode(buffer));
+                } catch (IOException e) {
+                    sink.error(new JenkinsConnectionException(errorMessage, e));
+                }
+            });
+    }
+
+    // 본문 크기 한도 초과 여부 (retrieve()의 코덱 오류는 WebClientResponseException으로 감싸져 원인으로 전달됨)
+    private static boolean isBodyTooLarge(Throwable e) {
+
+        return e instanceof DataBufferLimitException || e.getCause() instanceof DataBufferLimitException;
+    }
+
+    // 본문 크기 한도 초과 (WebClient 코덱과 decodeBody 모두 MAX_BODY_BYTES)
+    private static JenkinsResponseTooLargeException tooLarge(String message, Throwable e) {
+
+        return new JenkinsResponseTooLargeException(message, JenkinsJsonStreamDecoder.MAX_BODY_BYTES, e);
+    }
+
+    // Location 헤더(.../queue/item/{id}/)에서 Queue ID 추출
+    private static Long parseQueueId(String location) {
+        int start = location.indexOf(QUEUE_ITEM_PATH);
+        if (start < 0) {
+            return null;
+        }
+
+        String digits = location.substring(start + QUEUE_ITEM_PATH.length()).replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : Long.parseLong(digits);
+    }
+
+    // single-flight 키 (URI 템플릿 + tree 파라미터 + 경로 변수)
+    private static String coalesceKey(String uriTemplate, Object... uriVariables) {
+        return uriVariables.length == 0 ? uriTemplate : uriTemplate + Arrays.toString(uriVariables);
+    }
+}
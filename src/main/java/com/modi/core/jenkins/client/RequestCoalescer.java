@@ -0,0 +1,86 @@
+package com.modi.core.jenkins.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Jenkins 조회 요청을 하나의 업스트림 호출로 합치는 single-flight 처리기
+ * 같은 키(URI + tree 파라미터)로 동시에 들어온 요청들은 진행 중인 호출의 결과(또는 예외)를 함께 받습니다.
+ * 결과는 CompletableFuture에 한 번만 담기므로 호출이 끝나는 순간 합류한 요청도 다시 호출하지 않고 같은 결과를 받으며,
+ * 끝난 호출은 자기 항목일 때만 제거(remove(key, future))해 그 사이 새로 시작된 호출을 지우지 않습니다.
+ * 합류한 요청들은 같은 응답 객체를 공유하므로 결과는 읽기 전용으로 다뤄야 합니다 (클라이언트는 수정 불가 컬렉션을 반환).
+ * 컨트롤러마다 하나씩 만들며, 지표는 JenkinsLoadGuard와 같이 controller 태그로 구분합니다.
+ */
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    // 실제 Jenkins로 나간 호출 수
+    private final Counter upstreamCalls;
+
+    // 진행 중인 호출에 합류한 호출 수
+    private final Counter coalescedCalls;
+
+    public RequestCoalescer(String name, MeterRegistry meterRegistry) {
+        this.upstreamCalls = Counter.builder("jenkins.client.requests")
+            .description("Jenkins read requests by single-flight outcome")
+            .tag("controller", name)
+            .tag("outcome", "upstream")
+            .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("jenkins.client.requests")
+            .description("Jenkins read requests by single-flight outcome")
+            .tag("controller", name)
+            .tag("outcome", "coalesced")
+            .register(meterRegistry);
+
+        Gauge.builder("jenkins.client.requests.inflight", inFlight, Map::size)
+            .description("Distinct Jenkins read requests currently in flight")
+            .tag("controller", name)
+            .register(meterRegistry);
+    }
+
+    // 같은 키의 호출이 진행 중이면 합류하고, 없으면 upstream을 실행해 공유
+    // (한 구독자가 취소해도 공유 호출은 취소하지 않음, 호출은 readTimeout 안에 끝남)
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(String key, Supplier<Mono<T>> upstream) {
+        return Mono.defer(() -> {
+            CompletableFuture<T> created = new CompletableFuture<>();
+            CompletableFuture<?> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                coalescedCalls.increment();
+                return Mono.fromFuture((CompletableFuture<T>) existing, true);
+            }
+
+            upstreamCalls.increment();
+            Mono.defer(upstream).subscribe(
+                value -> {
+                    inFlight.remove(key, created);
+                    created.complete(value);
+                },
+                error -> {
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(error);
+                },
+                () -> {
+                    inFlight.remove(key, created);
+                    created.complete(null);
+                });
+            return Mono.fromFuture(created, true);
+        });
+    }
+
+    public double getUpstreamCount() {
+        return upstreamCalls.count();
+    }
+
+    public double getCoalescedCount() {
+        return coalescedCalls.count();
+    }
+}
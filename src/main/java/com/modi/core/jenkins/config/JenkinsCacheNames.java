@@ -0,0 +1,38 @@
+package com.modi.core.jenkins.config;
+
+import com.modi.core.jenkins.dto.BuildResponse;
+import org.springframework.cache.Cache;
+
+/**
+ * Jenkins 조회 캐시 이름 상수
+ */
+public final class JenkinsCacheNames {
+
+    // Job 목록
+    public static final String JOBS = "jenkins.jobs";
+
+    // 단일 Job (key: jobName)
+    public static final String JOB = "jenkins.job";
+
+    // 노드 목록
+    public static final String NODES = "jenkins.nodes";
+
+    // 완료된 빌드 (key: jobName#buildNumber)
+    public static final String BUILDS = "jenkins.builds";
+
+    private JenkinsCacheNames() {
+        // 인스턴스 생성 방지
+    }
+
+    // 빌드 캐시 키 생성 (@Cacheable SpEL 키와 같은 형식)
+    public static String buildKey(String jobName, int buildNumber) {
+        return jobName + "#" + buildNumber;
+    }
+
+    // 완료된 빌드만 빌드 캐시에 저장 (실행 중인 빌드는 결과가 바뀌므로 저장하지 않음)
+    public static void cacheIfFinished(Cache buildCache, String jobName, BuildResponse build) {
+        if (buildCache != null && build.getNumber() != null && Boolean.FALSE.equals(build.getBuilding())) {
+            buildCache.put(buildKey(jobName, build.getNumber()), build);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.modi.core.jenkins.config;
 
+import com.modi.core.jenkins.client.JenkinsLoadGuard;
+import com.modi.core.jenkins.client.RequestCoalescer;
+import com.modi.core.jenkins.util.JenkinsJsonStreamDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -8,7 +13,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
 
@@ -20,23 +27,79 @@ public class JenkinsConfig {
 
     private final JenkinsProperties jenkinsProperties;
 
+    // Jenkins 전용 커넥션 풀 (풀 지표는 reactor.netty.connection.provider.* 로 Micrometer에 노출)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider jenkinsConnectionProvider() {
+
+        return createConnectionProvider("jenkins", jenkinsProperties.getMaxConnections(), jenkinsProperties);
+    }
+
+    // 기본 컨트롤러 과부하 보호 (동시 요청 한도 + 서킷 브레이커)
+    @Bean
+    public JenkinsLoadGuard jenkinsLoadGuard(MeterRegistry meterRegistry) {
+
+        return new JenkinsLoadGuard(jenkinsProperties.getControllerName(), jenkinsProperties, meterRegistry);
+    }
+
+    // 기본 컨트롤러 동일 조회 합치기 (single-flight)
+    @Bean
+    public RequestCoalescer requestCoalescer(MeterRegistry meterRegistry) {
+
+        return new RequestCoalescer(jenkinsProperties.getControllerName(), meterRegistry);
+    }
+
     // Jenkins API 호출을 위한 WebClient Bean 생성
     @Bean
-    public WebClient jenkinsWebClient() {
+    public WebClient jenkinsWebClient(ConnectionProvider jenkinsConnectionProvider, JenkinsLoadGuard jenkinsLoadGuard) {
+
+        return createWebClient(jenkinsConnectionProvider, jenkinsLoadGuard, jenkinsProperties.getUrl(),
+            jenkinsProperties.getUsername(), jenkinsProperties.getToken(),
+            jenkinsProperties.getConnectionTimeout(), jenkinsProperties.getReadTimeout(), jenkinsProperties);
+    }
+
+    // 이름별 커넥션 풀 생성 (연합 컨트롤러도 같은 방식으로 각자의 풀을 가짐)
+    public static ConnectionProvider createConnectionProvider(String name, int maxConnections, JenkinsProperties properties) {
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(name)
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeout()))
+            .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTime()))
+            .maxLifeTime(Duration.ofMillis(properties.getMaxLifeTime()))
+            .metrics(true);
+
+        if (properties.getEvictionInterval() > 0) {
+            builder.evictInBackground(Duration.ofMillis(properties.getEvictionInterval()));
+        }
+
+        return builder.build();
+    }
+
+    // Basic 인증 WebClient 생성 (keep-alive/압축은 공통 설정 사용, 모든 요청은 과부하 보호 필터를 거침)
+    public static WebClient createWebClient(ConnectionProvider connectionProvider, JenkinsLoadGuard loadGuard,
+                                            String url, String username, String token,
+                                            int connectionTimeout, int readTimeout, JenkinsProperties properties) {
 
         // Basic Authentication 헤더 생성
-        String auth = jenkinsProperties.getUsername() + ":" + jenkinsProperties.getToken();
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
+        String auth = username + ":" + token;
+        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
 
-        // HttpClient 설정 (타임아웃)
-        HttpClient httpClient = HttpClient.create()
-            .responseTimeout(Duration.ofMillis(jenkinsProperties.getReadTimeout()));
+        // HttpClient 설정 (커넥션 풀, 타임아웃, keep-alive, 압축)
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
+            .option(ChannelOption.SO_KEEPALIVE, properties.getKeepAlive())
+            .keepAlive(properties.getKeepAlive())
+            .compress(properties.getCompression())
+            .responseTimeout(Duration.ofMillis(readTimeout));
 
         return WebClient.builder()
-            .baseUrl(jenkinsProperties.getUrl())
+            .baseUrl(url)
             .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth)
             .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
             .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // bodyToMono/toEntity 디코더도 스트리밍 디코더와 같은 본문 크기 한도 사용 (기본값 256KB)
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(JenkinsJsonStreamDecoder.MAX_BODY_BYTES))
+            .filter(loadGuard)
             .build();
     }
 }
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Jenkins 연결 설정을 관리하는 Properties 클래스
  */
@@ -28,4 +31,219 @@ public class JenkinsProperties {
 
     // 읽기 타임아웃 (밀리초)
     private Integer readTimeout = 60000;
+
+    // 커넥션 풀 최대 연결 수
+    private Integer maxConnections = 50;
+
+    // 커넥션 획득 대기열 최대 길이 (초과 시 즉시 실패)
+    private Integer pendingAcquireMaxCount = 500;
+
+    // 커넥션 획득 대기 타임아웃 (밀리초)
+    private Integer pendingAcquireTimeout = 10000;
+
+    // 유휴 커넥션 최대 유지 시간 (밀리초)
+    private Integer maxIdleTime = 30000;
+
+    // 커넥션 최대 수명 (밀리초)
+    private Integer maxLifeTime = 300000;
+
+    // 백그라운드 유휴/만료 커넥션 정리 주기 (밀리초, 0이면 비활성화)
+    private Integer evictionInterval = 60000;
+
+    // TCP/HTTP keep-alive 사용 여부
+    private Boolean keepAlive = true;
+
+    // 응답 gzip 압축 사용 여부
+    private Boolean compression = true;
+
+    // 로그 tail 폴링 주기 (밀리초)
+    private Integer logTailPollInterval = 2000;
+
+    // 로그 tail 세션별로 보관할 최근 로그 청크 개수
+    private Integer logTailBufferSize = 64;
+
+    // 로그 tail SSE 연결 타임아웃 (밀리초)
+    private Long logTailTimeout = 1800000L;
+
+    // Job 목록 캐시 TTL (밀리초)
+    private Integer cacheJobsTtl = 30000;
+
+    // 단일 Job 캐시 TTL (밀리초)
+    private Integer cacheJobTtl = 10000;
+
+    // 노드 목록 캐시 TTL (밀리초)
+    private Integer cacheNodesTtl = 15000;
+
+    // Job 캐시 최대 엔트리 수
+    private Integer cacheMaxSize = 1000;
+
+    // 완료된 빌드 캐시 최대 엔트리 수 (완료된 빌드는 변하지 않으므로 TTL 없이 크기로만 제거)
+    private Integer cacheBuildsMaxSize = 10000;
+
+    // 공유(L2) 캐시 종류 (none: 인스턴스 로컬 캐시만 사용, redis: Redis, memory: 테스트용 인메모리 저장소)
+    private String cacheL2Type = "none";
+
+    // L2에 저장한 완료된 빌드 TTL (밀리초, L1과 달리 인스턴스 간 공유 저장소는 무한정 보관하지 않음)
+    private Long cacheBuildsL2Ttl = 86400000L;
+
+    // Jenkins 상태 미러(백그라운드 동기화) 사용 여부
+    private Boolean mirrorEnabled = false;
+
+    // 미러 동기화 최소 주기 (밀리초, 변경이 감지되거나 빌드/대기열이 있으면 이 주기로 폴링)
+    private Integer mirrorMinInterval = 2000;
+
+    // 미러 동기화 최대 주기 (밀리초, 변경이 없으면 최소 주기부터 두 배씩 늘려 이 값까지)
+    private Integer mirrorMaxInterval = 30000;
+
+    // 변경된 Job 상세 정보를 동시에 조회할 최대 개수
+    private Integer mirrorFetchConcurrency = 4;
+
+    // 한 번의 미러 동기화에서 조회할 Job 상세 최대 개수 (나머지는 다음 주기에 이어서 조회)
+    private Integer mirrorDetailsPerSync = 50;
+
+    // 빌드 정보 일괄 조회 시 동시에 보낼 최대 요청 수
+    private Integer batchConcurrency = 8;
+
+    // 빌드 일괄 실행 시 초당 최대 실행 요청 수 (0 이하면 제한 없음)
+    private Integer bulkTriggerRate = 20;
+
+    // 빌드 일괄 실행 시 동시에 진행할 최대 요청 수
+    private Integer bulkTriggerConcurrency = 8;
+
+    // 빌드 완료 감시 폴링 주기 (밀리초, 기다리는 빌드가 없으면 조회하지 않음)
+    private Integer watcherPollInterval = 2000;
+
+    // 빌드 완료 최대 대기 시간 (밀리초)
+    private Long watcherTimeout = 3600000L;
+
+    // 빌드 완료 감시 시 Job별 빌드 목록을 동시에 조회할 최대 개수
+    private Integer watcherFetchConcurrency = 4;
+
+    // 빌드 기록 저장 주기 (밀리초, 그동안 모인 완료된 빌드를 한 번에 upsert)
+    private Integer historyStoreFlushInterval = 1000;
+
+    // 빌드 기록 JDBC 배치 크기
+    private Integer historyStoreBatchSize = 500;
+
+    // 빌드 이력 동기화 배치에서 Job(파티션)을 동시에 처리할 스레드 수
+    private Integer historySyncThreads = 4;
+
+    // 빌드 이력 동기화 배치 청크 크기 (Jenkins 범위 조회 한 번 / JDBC 일괄 upsert 한 번의 빌드 수)
+    private Integer historySyncChunkSize = 100;
+
+    // 빌드 이력 증분 동기화 cron (-: 비활성화)
+    private String historySyncCron = "-";
+
+    // 빌드 분석 집계 시간 버킷 크기 (분)
+    private Integer analyticsBucketMinutes = 60;
+
+    // 빌드 분석 집계 보존 기간 (일)
+    private Integer analyticsRetentionDays = 30;
+
+    // 노드 용량 모니터(백그라운드 동기화) 사용 여부
+    private Boolean nodeMonitorEnabled = false;
+
+    // 노드 용량 모니터 동기화 주기 (밀리초, 0 이하면 비활성화)
+    private Integer nodeMonitorInterval = 5000;
+
+    // 빌드 대기열 모니터(백그라운드 조회) 사용 여부
+    private Boolean queueMonitorEnabled = false;
+
+    // 빌드 대기열 모니터 조회 주기 (밀리초, 0 이하면 비활성화)
+    private Integer queueMonitorInterval = 2000;
+
+    // 대기열 변경 구독 SSE 연결 타임아웃 (밀리초)
+    private Long queueStreamTimeout = 1800000L;
+
+    // Jenkins 이벤트(웹훅) 수신 토큰 (비어 있으면 이벤트 수신 비활성화)
+    private String eventToken;
+
+    // 이 시간(밀리초) 안에 이벤트를 받았으면 폴링을 보정 주기로 늦춤
+    private Long eventActiveWindow = 300000L;
+
+    // 이벤트를 받는 동안의 폴링(보정) 주기 (밀리초)
+    private Long eventReconcileInterval = 60000L;
+
+    // 빌드별 이벤트 반영 단계 기록 최대 개수 (중복/순서 역전 판별용)
+    private Long eventLedgerMaxSize = 100000L;
+
+    // 기본 컨트롤러(jenkins.url) 이름 (연합 조회 결과에 표시)
+    private String controllerName = "default";
+
+    // 추가 Jenkins 컨트롤러 (이름 → 연결 설정, 비어 있으면 기본 컨트롤러만 사용)
+    private Map<String, Controller> controllers = new LinkedHashMap<>();
+
+    // 연합 조회 시 컨트롤러별 기본 응답 타임아웃 (밀리초, 넘기면 해당 컨트롤러만 오류로 반환)
+    private Long federationTimeout = 10000L;
+
+    // 적응형 동시 요청 한도(AIMD) 사용 여부
+    private Boolean limiterEnabled = true;
+
+    // 동시 요청 한도 초기값
+    private Integer limiterInitialLimit = 20;
+
+    // 동시 요청 한도 최소값
+    private Integer limiterMinLimit = 2;
+
+    // 동시 요청 한도 최대값 (커넥션 풀 크기를 넘지 않게 설정)
+    private Integer limiterMaxLimit = 50;
+
+    // 이 시간(밀리초)보다 늦은 응답은 과부하 신호로 보고 한도를 줄임
+    private Long limiterLatencyThreshold = 3000L;
+
+    // 과부하 신호를 받을 때 한도에 곱할 비율
+    private Double limiterBackoffRatio = 0.9;
+
+    // 서킷 브레이커 사용 여부
+    private Boolean breakerEnabled = true;
+
+    // 서킷을 여는 최근 호출 실패율 (%)
+    private Integer breakerFailureRateThreshold = 50;
+
+    // 실패율을 계산할 최근 호출 수
+    private Integer breakerWindowSize = 50;
+
+    // 실패율을 판단하기 위한 최소 호출 수
+    private Integer breakerMinimumCalls = 20;
+
+    // 서킷을 연 뒤 시험 호출을 허용하기까지 기다릴 시간 (밀리초)
+    private Long breakerOpenDuration = 30000L;
+
+    // 반열림 상태에서 허용할 시험 호출 수 (모두 성공하면 닫음)
+    private Integer breakerHalfOpenCalls = 5;
+
+    // 과부하로 거절된 조회에 대신 반환할 마지막 성공 응답의 최대 나이 (밀리초)
+    private Long staleMaxAge = 600000L;
+
+    // 마지막 성공 응답 보관 최대 개수 (컨트롤러별)
+    private Long staleMaxEntries = 1000L;
+
+    /**
+     * 추가 Jenkins 컨트롤러 연결 설정 (비어 있는 값은 기본 컨트롤러 설정 사용)
+     */
+    @Getter
+    @Setter
+    public static class Controller {
+
+        // Jenkins 서버 URL
+        private String url;
+
+        // Jenkins 사용자명
+        private String username;
+
+        // Jenkins API 토큰
+        private String token;
+
+        // 커넥션 풀 최대 연결 수
+        private Integer maxConnections;
+
+        // 연결 타임아웃 (밀리초)
+        private Integer connectionTimeout;
+
+        // 읽기 타임아웃 (밀리초)
+        private Integer readTimeout;
+
+        // 연합 조회 응답 타임아웃 (밀리초)
+        private Long federationTimeout;
+    }
 }
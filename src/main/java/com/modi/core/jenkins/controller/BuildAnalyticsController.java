@@ -0,0 +1,83 @@
+package com.modi.core.jenkins.controller;
+
+import com.modi.core.controller.BaseController;
+import com.modi.core.dto.response.ApiResponse;
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.BusinessException;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildAnalyticsResponse;
+import com.modi.core.jenkins.service.BuildAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+// Jenkins 빌드 분석 REST API 컨트롤러 (미리 집계한 값으로 응답, Jenkins를 호출하지 않음)
+@RestController
+@RequestMapping("/jenkins/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Jenkins Analytics", description = "Jenkins 빌드 분석 API")
+public class BuildAnalyticsController extends BaseController {
+
+    // 추이 조회 시 최대 구간 수
+    private static final int MAX_TREND_POINTS = 1000;
+
+    private final BuildAnalyticsService buildAnalyticsService;
+    private final JenkinsProperties jenkinsProperties;
+
+    // 모든 Job의 빌드 집계
+    @GetMapping("/jobs")
+    @Operation(summary = "전체 Job 빌드 집계", description = "최근 hours 시간 동안 빌드가 있었던 Job별 소요 시간 백분위(p50/p95/p99)와 실패율을 빌드 수가 많은 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<BuildAnalyticsResponse>>> getAllJobAnalytics(@RequestParam(defaultValue = "24") int hours) {
+
+        validateHours(hours);
+        List<BuildAnalyticsResponse> analytics = buildAnalyticsService.getAllJobAnalytics(hours);
+
+        return ResponseEntity.ok(ApiResponse.success(analytics, "Successfully fetched build analytics"));
+    }
+
+    // Job 빌드 집계
+    @GetMapping("/jobs/{jobName}")
+    @Operation(summary = "Job 빌드 집계", description = "최근 hours 시간 동안 지정한 Job의 빌드 소요 시간 백분위(p50/p95/p99)와 실패율을 조회합니다.")
+    public ResponseEntity<ApiResponse<BuildAnalyticsResponse>> getJobAnalytics(@PathVariable String jobName,
+                                                                               @RequestParam(defaultValue = "24") int hours) {
+
+        validateHours(hours);
+        BuildAnalyticsResponse analytics = buildAnalyticsService.getJobAnalytics(jobName, hours);
+
+        return ResponseEntity.ok(ApiResponse.success(analytics, "Successfully fetched build analytics"));
+    }
+
+    // Job 빌드 집계 추이
+    @GetMapping("/jobs/{jobName}/trend")
+    @Operation(summary = "Job 빌드 집계 추이", description = "최근 hours 시간을 stepHours 간격으로 나눠 구간별 소요 시간 백분위와 실패율을 오래된 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<BuildAnalyticsResponse>>> getJobTrend(@PathVariable String jobName,
+                                                                                 @RequestParam(defaultValue = "168") int hours,
+                                                                                 @RequestParam(defaultValue = "24") int stepHours) {
+
+        validateHours(hours);
+        if (stepHours < 1 || stepHours > hours || hours / stepHours > MAX_TREND_POINTS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "stepHours must be between 1 and hours, with at most " + MAX_TREND_POINTS + " points");
+        }
+        List<BuildAnalyticsResponse> trend = buildAnalyticsService.getJobTrend(jobName, hours, stepHours);
+
+        return ResponseEntity.ok(ApiResponse.success(trend, "Successfully fetched build analytics trend"));
+    }
+
+    // 보존 기간 안의 구간만 허용
+    private void validateHours(int hours) {
+        long maxHours = Duration.ofDays(jenkinsProperties.getAnalyticsRetentionDays()).toHours();
+        if (hours < 1 || hours > maxHours) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "hours must be between 1 and " + maxHours);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.modi.core.jenkins.controller;
+
+import com.modi.core.controller.BaseController;
+import com.modi.core.dto.response.ApiResponse;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.FederatedResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.service.FederatedJenkinsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// 여러 Jenkins 컨트롤러 연합 조회 REST API 컨트롤러
+// Accept: application/x-ndjson 이면 컨트롤러가 응답하는 순서대로 한 줄씩 스트리밍하고, 그 외에는 모두 모아 한 번에 응답
+@RestController
+@RequestMapping("/jenkins/federation")
+@RequiredArgsConstructor
+@Tag(name = "Jenkins Federation", description = "여러 Jenkins 컨트롤러 연합 조회 API")
+public class FederationController extends BaseController {
+
+    private final FederatedJenkinsService federatedJenkinsService;
+
+    // 등록된 컨트롤러 목록
+    @GetMapping("/controllers")
+    @Operation(summary = "Jenkins 컨트롤러 목록", description = "연합 조회 대상으로 등록된 Jenkins 컨트롤러 이름을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<String>>> getControllers() {
+
+        List<String> controllers = federatedJenkinsService.getControllerNames();
+
+        return ResponseEntity.ok(ApiResponse.success(controllers, "Successfully fetched Jenkins controllers"));
+    }
+
+    // 모든 컨트롤러의 Job 목록 (스트리밍)
+    @GetMapping(value = "/jobs", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "연합 Job 목록 스트리밍", description = "모든 컨트롤러에 Job 목록을 동시에 조회하고 응답하는 순서대로 컨트롤러별 결과를 NDJSON으로 전달합니다.")
+    public Flux<FederatedResponse<JobResponse>> streamJobs() {
+
+        return federatedJenkinsService.getAllJobs();
+    }
+
+    // 모든 컨트롤러의 Job 목록
+    @GetMapping("/jobs")
+    @Operation(summary = "연합 Job 목록 조회", description = "모든 컨트롤러에 Job 목록을 동시에 조회합니다. 실패하거나 타임아웃된 컨트롤러는 error로 반환하고 나머지 결과는 그대로 반환합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<FederatedResponse<JobResponse>>>>> getJobs() {
+
+        return federatedJenkinsService.getAllJobs().collectList()
+            .map(results -> ResponseEntity.ok(ApiResponse.success(results, "Successfully fetched federated jobs")));
+    }
+
+    // 모든 컨트롤러의 노드 목록 (스트리밍)
+    @GetMapping(value = "/nodes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "연합 노드 목록 스트리밍", description = "모든 컨트롤러에 노드 목록을 동시에 조회하고 응답하는 순서대로 컨트롤러별 결과를 NDJSON으로 전달합니다.")
+    public Flux<FederatedResponse<NodeResponse>> streamNodes() {
+
+        return federatedJenkinsService.getAllNodes();
+    }
+
+    // 모든 컨트롤러의 노드 목록
+    @GetMapping("/nodes")
+    @Operation(summary = "연합 노드 목록 조회", description = "모든 컨트롤러에 노드 목록을 동시에 조회합니다. 실패하거나 타임아웃된 컨트롤러는 error로 반환합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<FederatedResponse<NodeResponse>>>>> getNodes() {
+
+        return federatedJenkinsService.getAllNodes().collectList()
+            .map(results -> ResponseEntity.ok(ApiResponse.success(results, "Successfully fetched federated nodes")));
+    }
+
+    // 모든 컨트롤러에서 같은 이름의 Job 최근 빌드 목록 (스트리밍)
+    @GetMapping(value = "/jobs/{jobName}/builds", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "연합 빌드 목록 스트리밍", description = "모든 컨트롤러에서 지정한 Job의 최근 빌드 목록을 동시에 조회하고 응답하는 순서대로 NDJSON으로 전달합니다.")
+    public Flux<FederatedResponse<BuildResponse>> streamBuilds(@PathVariable String jobName) {
+
+        return federatedJenkinsService.getBuilds(jobName);
+    }
+
+    // 모든 컨트롤러에서 같은 이름의 Job 최근 빌드 목록
+    @GetMapping("/jobs/{jobName}/builds")
+    @Operation(summary = "연합 빌드 목록 조회", description = "모든 컨트롤러에서 지정한 Job의 최근 빌드 목록을 동시에 조회합니다. Job이 없거나 실패한 컨트롤러는 error로 반환합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<FederatedResponse<BuildResponse>>>>> getBuilds(@PathVariable String jobName) {
+
+        return federatedJenkinsService.getBuilds(jobName).collectList()
+            .map(results -> ResponseEntity.ok(ApiResponse.success(results, "Successfully fetched federated builds")));
+    }
+}
@@ -1,18 +1,43 @@
 package com.modi.core.jenkins.controller;
 
+import com.modi.core.controller.BaseController;
 import com.modi.core.dto.response.ApiResponse;
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.BusinessException;
+import com.modi.core.exception.ResourceNotFoundException;
 import com.modi.core.jenkins.dto.*;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.service.BuildBatchService;
+import com.modi.core.jenkins.service.BuildCompletionWatcher;
+import com.modi.core.jenkins.service.BuildHistoryService;
+import com.modi.core.jenkins.service.BuildHistorySyncService;
+import com.modi.core.jenkins.service.BuildLogTailService;
+import com.modi.core.jenkins.service.BuildQueueMonitor;
+import com.modi.core.jenkins.service.BulkBuildService;
 import com.modi.core.jenkins.service.JenkinsService;
+import com.modi.core.jenkins.service.JobQueryService;
+import com.modi.core.jenkins.service.NodeCapacityMonitor;
+import com.modi.core.jenkins.util.JenkinsUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 // Jenkins 관리 REST API 컨트롤러
 @Slf4j
@@ -20,9 +45,28 @@ import java.util.List;
 @RequestMapping("/jenkins")
 @RequiredArgsConstructor
 @Tag(name = "Jenkins Management", description = "Jenkins 관리 API")
-public class JenkinsController {
+public class JenkinsController extends BaseController {
+
+    // 페이지 크기 상한
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // 일괄 조회 요청당 최대 빌드 수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // 일괄 실행 요청당 최대 빌드 수
+    private static final int MAX_BULK_TRIGGER_SIZE = 1000;
 
     private final JenkinsService jenkinsService;
+    private final BuildLogTailService buildLogTailService;
+    private final JobQueryService jobQueryService;
+    private final BuildHistoryService buildHistoryService;
+    private final BuildHistorySyncService buildHistorySyncService;
+    private final BuildBatchService buildBatchService;
+    private final BulkBuildService bulkBuildService;
+    private final BuildCompletionWatcher buildCompletionWatcher;
+    private final ObjectProvider<NodeCapacityMonitor> nodeCapacityMonitor;
+    private final ObjectProvider<BuildQueueMonitor> buildQueueMonitor;
+    private final JenkinsProperties jenkinsProperties;
 
     // Jenkins 서버 연결 상태 확인
     @GetMapping("/health")
@@ -36,20 +80,48 @@ public class JenkinsController {
 
     // 모든 Job 목록 조회
     @GetMapping("/jobs")
-    @Operation(summary = "모든 Job 목록 조회", description = "Jenkins에 등록된 모든 Job 목록을 조회합니다.")
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getAllJobs() {
+    @Operation(summary = "모든 Job 목록 조회", description = "Jenkins에 등록된 모든 Job 목록을 조회합니다. maxStaleness(밀리초)를 지정하면 그 이내로 동기화된 상태 미러에서 응답합니다.")
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getAllJobs(@RequestParam(required = false) Long maxStaleness) {
 
-        List<JobResponse> jobs = jenkinsService.getAllJobs();
+        List<JobResponse> jobs = maxStaleness != null
+            ? jenkinsService.getAllJobs(Duration.ofMillis(maxStaleness))
+            : jenkinsService.getAllJobs();
 
         return ResponseEntity.ok(ApiResponse.success(jobs, "Successfully fetched all jobs"));
     }
 
+    // Job 목록 페이징 조회 (page 파라미터가 있을 때)
+    @GetMapping(value = "/jobs", params = "page")
+    @Operation(summary = "Job 목록 페이징 조회", description = "이름 접두사/컬러로 필터링한 Job 목록을 페이지 단위로 조회합니다. fields로 응답에 포함할 필드를 선택할 수 있습니다.")
+    public ResponseEntity<ApiResponse<Page<JobResponse>>> getJobs(@RequestParam int page,
+                                                                  @RequestParam(defaultValue = "50") int size,
+                                                                  @RequestParam(required = false) String prefix,
+                                                                  @RequestParam(required = false) List<String> color,
+                                                                  @RequestParam(required = false) List<String> fields) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "page must be >= 0 and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        JobSearchRequest search = JobSearchRequest.builder()
+            .namePrefix(prefix)
+            .colors(color)
+            .fields(fields)
+            .build();
+
+        return successPage(jobQueryService.getJobs(search, PageRequest.of(page, size)));
+    }
+
     // 특정 Job 정보 조회
     @GetMapping("/jobs/{jobName}")
-    @Operation(summary = "특정 Job 정보 조회", description = "지정한 이름의 Job 정보를 상세 조회합니다.")
-    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable String jobName) {
+    @Operation(summary = "특정 Job 정보 조회", description = "지정한 이름의 Job 정보를 상세 조회합니다. maxStaleness(밀리초)를 지정하면 그 이내로 동기화된 상태 미러에서 응답합니다.")
+    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable String jobName,
+                                                           @RequestParam(required = false) Long maxStaleness) {
 
-        JobResponse job = jenkinsService.getJob(jobName);
+        JobResponse job = maxStaleness != null
+            ? jenkinsService.getJob(jobName, Duration.ofMillis(maxStaleness))
+            : jenkinsService.getJob(jobName);
 
         return ResponseEntity.ok(ApiResponse.success(job, "Successfully fetched job"));
     }
@@ -87,8 +159,8 @@ public class JenkinsController {
 
     // Job 빌드 실행
     @PostMapping("/jobs/{jobName}/build")
-    @Operation(summary = "Job 빌드 실행", description = "지정한 Job의 빌드를 실행합니다.")
-    public ResponseEntity<ApiResponse<QueueItemResponse>> triggerBuild(@PathVariable String jobName, @RequestBody(required = false) BuildRequest request) {
+    @Operation(summary = "Job 빌드 실행", description = "지정한 Job의 빌드를 실행합니다. waitForCompletion이 true이면 빌드가 완료될 때까지 기다려 완료된 빌드 정보와 함께 응답합니다.")
+    public DeferredResult<ResponseEntity<ApiResponse<QueueItemResponse>>> triggerBuild(@PathVariable String jobName, @RequestBody(required = false) BuildRequest request) {
 
         if (request == null) {
             request = BuildRequest.builder()
@@ -103,9 +175,40 @@ public class JenkinsController {
         }
 
         QueueItemResponse queueItem = jenkinsService.triggerBuild(request);
-
-        return ResponseEntity.status(HttpStatus.ACCEPTED)
+        ResponseEntity<ApiResponse<QueueItemResponse>> accepted = ResponseEntity.status(HttpStatus.ACCEPTED)
             .body(ApiResponse.success(queueItem, "Successfully triggered build"));
+
+        // 완료 대기 시 감시자가 완료를 알릴 때까지 서블릿 스레드를 반환하고, 대기 시간을 넘기면 202로 응답
+        DeferredResult<ResponseEntity<ApiResponse<QueueItemResponse>>> result =
+            new DeferredResult<>(jenkinsProperties.getWatcherTimeout(), accepted);
+        if (!Boolean.TRUE.equals(request.getWaitForCompletion())) {
+            result.setResult(accepted);
+            return result;
+        }
+
+        buildCompletionWatcher.awaitCompletion(queueItem).whenComplete((completed, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                result.setResult(ResponseEntity.ok(ApiResponse.success(completed, "Build completed")));
+            }
+        });
+        return result;
+    }
+
+    // 여러 Job 빌드 일괄 실행 (초당 실행 수/동시 요청 수 제한)
+    @PostMapping("/builds/bulk")
+    @Operation(summary = "빌드 일괄 실행", description = "여러 Job의 빌드를 한 번에 실행합니다. resolveQueue가 true이면 Queue ID로 대기열 상태를 조회해 함께 반환합니다. 빌드별 실패는 해당 항목의 error로 반환합니다.")
+    public Mono<ResponseEntity<ApiResponse<BulkBuildResponse>>> triggerBuilds(@Valid @RequestBody BulkBuildRequest request) {
+
+        if (request.getBuilds().size() > MAX_BULK_TRIGGER_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "A bulk trigger can contain at most " + MAX_BULK_TRIGGER_SIZE + " builds");
+        }
+
+        return bulkBuildService.triggerBuilds(request.getBuilds(), Boolean.TRUE.equals(request.getResolveQueue()))
+            .map(result -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(result, "Successfully triggered builds")));
     }
 
     // Job의 모든 빌드 목록 조회
@@ -118,6 +221,55 @@ public class JenkinsController {
         return ResponseEntity.ok(ApiResponse.success(builds, "Successfully fetched all builds"));
     }
 
+    // 빌드 이력 페이지 조회 (빌드 번호 커서)
+    @GetMapping("/jobs/{jobName}/builds/history")
+    @Operation(summary = "빌드 이력 조회", description = "before 빌드 번호보다 작은 빌드를 최신순으로 size개 조회합니다. 응답의 nextBefore를 다음 요청의 before로 넘기면 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<BuildHistoryResponse>> getBuildHistory(@PathVariable String jobName,
+                                                                             @RequestParam(required = false) Integer before,
+                                                                             @RequestParam(defaultValue = "50") int size) {
+
+        if (size < 1 || size > MAX_PAGE_SIZE || (before != null && before < 1)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "before must be >= 1 and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        BuildHistoryResponse history = buildHistoryService.getBuildHistory(jobName, before, size);
+
+        return ResponseEntity.ok(ApiResponse.success(history, "Successfully fetched build history"));
+    }
+
+    // 빌드 이력 동기화 배치 실행 (처음이면 전체 백필, 이후에는 새 빌드만)
+    @PostMapping("/history/sync")
+    @Operation(summary = "빌드 이력 동기화 실행", description = "모든 Job의 빌드 이력을 빌드 기록 저장소로 동기화하는 배치를 비동기로 실행합니다. 이전 동기화 이후 새로 생긴 빌드만 읽습니다.")
+    public ResponseEntity<ApiResponse<BuildHistorySyncResponse>> startHistorySync() {
+
+        BuildHistorySyncResponse execution = buildHistorySyncService.start();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(execution, "Build history sync started"));
+    }
+
+    // 실패/중단된 빌드 이력 동기화 재시작
+    @PostMapping("/history/sync/{executionId}/restart")
+    @Operation(summary = "빌드 이력 동기화 재시작", description = "실패하거나 중단된 동기화 실행을 마지막으로 커밋한 지점부터 이어서 실행합니다.")
+    public ResponseEntity<ApiResponse<BuildHistorySyncResponse>> restartHistorySync(@PathVariable long executionId) {
+
+        BuildHistorySyncResponse execution = buildHistorySyncService.restart(executionId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(execution, "Build history sync restarted"));
+    }
+
+    // 빌드 이력 동기화 실행 상태 조회
+    @GetMapping("/history/sync/{executionId}")
+    @Operation(summary = "빌드 이력 동기화 상태 조회", description = "동기화 실행 상태와 읽은/저장한 빌드 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<BuildHistorySyncResponse>> getHistorySync(@PathVariable long executionId) {
+
+        BuildHistorySyncResponse execution = buildHistorySyncService.getStatus(executionId);
+
+        return ResponseEntity.ok(ApiResponse.success(execution, "Successfully fetched build history sync status"));
+    }
+
     // 특정 빌드 정보 조회
     @GetMapping("/jobs/{jobName}/builds/{buildNumber}")
     @Operation(summary = "특정 빌드 정보 조회", description = "지정한 Job의 특정 빌드 정보를 조회합니다.")
@@ -129,6 +281,20 @@ public class JenkinsController {
         return ResponseEntity.ok(ApiResponse.success(build, "Successfully fetched build info"));
     }
 
+    // 여러 빌드 정보 일괄 조회 (Jenkins 응답을 기다리는 동안 서블릿 스레드를 점유하지 않음)
+    @PostMapping("/builds/batch")
+    @Operation(summary = "빌드 정보 일괄 조회", description = "여러 Job의 빌드 정보를 한 번에 조회합니다. 빌드별 실패는 해당 항목의 error로 반환하고 나머지 결과는 그대로 반환합니다.")
+    public Mono<ResponseEntity<ApiResponse<BuildBatchResponse>>> getBuildsBatch(@Valid @RequestBody BuildBatchRequest request) {
+
+        if (request.getBuilds().size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "A batch can contain at most " + MAX_BATCH_SIZE + " builds");
+        }
+
+        return buildBatchService.getBuilds(request.getBuilds())
+            .map(result -> ResponseEntity.ok(ApiResponse.success(result, "Successfully fetched builds")));
+    }
+
     // 마지막 빌드 정보 조회
     @GetMapping("/jobs/{jobName}/builds/last")
     @Operation(summary = "마지막 빌드 정보 조회", description = "지정한 Job의 마지막 빌드 정보를 조회합니다.")
@@ -150,13 +316,117 @@ public class JenkinsController {
         return ResponseEntity.ok(ApiResponse.success(log, "Successfully fetched build log"));
     }
 
+    // 빌드 로그 스트리밍 조회
+    @GetMapping(value = "/jobs/{jobName}/builds/{buildNumber}/log/stream", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "빌드 로그 스트리밍 조회",
+        description = "start 오프셋 이후의 콘솔 로그를 스트리밍합니다. 응답의 X-Text-Size 값을 다음 요청의 start로 사용하고, X-More-Data가 true이면 로그가 계속 이어집니다.")
+    public ResponseEntity<StreamingResponseBody> streamBuildLog(@PathVariable String jobName,
+                                                                @PathVariable int buildNumber,
+                                                                @RequestParam(defaultValue = "0") long start) {
+
+        ProgressiveLogResponse logStream = jenkinsService.streamBuildLog(jobName, buildNumber, start);
+
+        StreamingResponseBody body = outputStream -> JenkinsUtils.copyLog(logStream.getContent(), outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_PLAIN)
+            .header(JenkinsUtils.X_TEXT_SIZE, String.valueOf(logStream.getTextSize()))
+            .header(JenkinsUtils.X_MORE_DATA, String.valueOf(logStream.getMoreData()))
+            .body(body);
+    }
+
+    // 실행 중인 빌드 로그 실시간 tail (SSE)
+    @GetMapping(value = "/jobs/{jobName}/builds/{buildNumber}/log/tail", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "빌드 로그 실시간 tail",
+        description = "실행 중인 빌드의 콘솔 로그를 SSE로 전달합니다. 같은 빌드의 구독자들은 하나의 Jenkins 폴링을 공유하며, Last-Event-ID로 이어받을 수 있습니다.")
+    public SseEmitter tailBuildLog(@PathVariable String jobName,
+                                   @PathVariable int buildNumber,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return buildLogTailService.subscribe(jobName, buildNumber, lastEventId);
+    }
+
+    // 빌드 대기열 조회
+    @GetMapping("/queue")
+    @Operation(summary = "빌드 대기열 조회", description = "Jenkins 빌드 대기열 항목을 조회합니다. maxStaleness(밀리초)를 지정하면 그 이내로 동기화된 대기열 모니터/상태 미러에서 응답합니다.")
+    public ResponseEntity<ApiResponse<List<QueueItemResponse>>> getQueue(@RequestParam(required = false) Long maxStaleness) {
+
+        List<QueueItemResponse> queue = maxStaleness != null
+            ? jenkinsService.getQueue(Duration.ofMillis(maxStaleness))
+            : jenkinsService.getQueue();
+
+        return ResponseEntity.ok(ApiResponse.success(queue, "Successfully fetched queue"));
+    }
+
+    // 빌드 대기열 변경 구독 (SSE)
+    @GetMapping(value = "/queue/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "빌드 대기열 변경 구독",
+        description = "구독 즉시 현재 대기열을 snapshot 이벤트로 보내고, 이후에는 새로 들어온/바뀐/떠난 항목만 changes 이벤트로 전달합니다.")
+    public SseEmitter subscribeQueueChanges() {
+
+        return requireBuildQueueMonitor().subscribe();
+    }
+
+    // 대기열 항목 조회
+    @GetMapping("/queue/{queueId}")
+    @Operation(summary = "대기열 항목 조회", description = "Queue ID로 대기열 항목을 조회합니다. 대기열을 떠난 항목은 실행된 빌드 번호 또는 취소 여부를 반환합니다.")
+    public ResponseEntity<ApiResponse<QueueItemResponse>> getQueueItem(@PathVariable long queueId) {
+
+        QueueItemResponse item = jenkinsService.getQueueItem(queueId);
+
+        return ResponseEntity.ok(ApiResponse.success(item, "Successfully fetched queue item"));
+    }
+
     // 모든 노드 정보 조회
     @GetMapping("/nodes")
-    @Operation(summary = "모든 노드 정보 조회", description = "Jenkins에 등록된 모든 노드(에이전트) 정보를 조회합니다.")
-    public ResponseEntity<ApiResponse<List<NodeResponse>>> getAllNodes() {
+    @Operation(summary = "모든 노드 정보 조회", description = "Jenkins에 등록된 모든 노드(에이전트) 정보를 조회합니다. maxStaleness(밀리초)를 지정하면 그 이내로 동기화된 상태 미러에서 응답합니다.")
+    public ResponseEntity<ApiResponse<List<NodeResponse>>> getAllNodes(@RequestParam(required = false) Long maxStaleness) {
 
-        List<NodeResponse> nodes = jenkinsService.getAllNodes();
+        List<NodeResponse> nodes = maxStaleness != null
+            ? jenkinsService.getAllNodes(Duration.ofMillis(maxStaleness))
+            : jenkinsService.getAllNodes();
 
         return ResponseEntity.ok(ApiResponse.success(nodes, "Successfully fetched all nodes"));
     }
+
+    // 레이블별 executor 용량 조회 (노드 용량 모니터 스냅샷, Jenkins를 호출하지 않음)
+    @GetMapping("/nodes/capacity")
+    @Operation(summary = "레이블별 executor 용량 조회", description = "노드 용량 모니터가 주기적으로 동기화한 레이블별 노드 수와 전체/사용 중/유휴 executor 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<LabelCapacityResponse>>> getLabelCapacities() {
+
+        List<LabelCapacityResponse> capacities = requireNodeCapacityMonitor().getLabelCapacities();
+
+        return ResponseEntity.ok(ApiResponse.success(capacities, "Successfully fetched label capacities"));
+    }
+
+    // 레이블 executor 용량 조회
+    @GetMapping("/nodes/capacity/{label}")
+    @Operation(summary = "레이블 executor 용량 조회", description = "지정한 레이블(또는 노드 이름)의 노드 수와 전체/사용 중/유휴 executor 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<LabelCapacityResponse>> getLabelCapacity(@PathVariable String label) {
+
+        LabelCapacityResponse capacity = requireNodeCapacityMonitor().getLabelCapacity(label)
+            .orElseThrow(() -> new ResourceNotFoundException("No nodes with label: " + label));
+
+        return ResponseEntity.ok(ApiResponse.success(capacity, "Successfully fetched label capacity"));
+    }
+
+    // 노드 용량 모니터 (jenkins.node-monitor-enabled=false면 등록되지 않으므로 용량 API를 거부)
+    private NodeCapacityMonitor requireNodeCapacityMonitor() {
+        NodeCapacityMonitor monitor = nodeCapacityMonitor.getIfAvailable();
+        if (monitor == null) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED,
+                "Node capacity monitor is disabled (set jenkins.node-monitor-enabled=true)");
+        }
+        return monitor;
+    }
+
+    // 빌드 대기열 모니터 (jenkins.queue-monitor-enabled=false면 등록되지 않으므로 변경 구독을 거부)
+    private BuildQueueMonitor requireBuildQueueMonitor() {
+        BuildQueueMonitor monitor = buildQueueMonitor.getIfAvailable();
+        if (monitor == null) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED,
+                "Build queue monitor is disabled (set jenkins.queue-monitor-enabled=true)");
+        }
+        return monitor;
+    }
 }
@@ -0,0 +1,76 @@
+package com.modi.core.jenkins.controller;
+
+import com.modi.core.controller.BaseController;
+import com.modi.core.dto.response.ApiResponse;
+import com.modi.core.jenkins.dto.JenkinsNotificationEvent;
+import com.modi.core.jenkins.dto.StatisticsBuildEvent;
+import com.modi.core.jenkins.dto.StatisticsQueueEvent;
+import com.modi.core.jenkins.service.JenkinsEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Jenkins 이벤트(웹훅) 수신 REST API 컨트롤러 (jenkins.event-token과 같은 토큰을 헤더 또는 token 파라미터로 전달)
+@RestController
+@RequestMapping("/jenkins/events")
+@RequiredArgsConstructor
+@Tag(name = "Jenkins Events", description = "Jenkins 이벤트 수신 API")
+public class JenkinsEventController extends BaseController {
+
+    private static final String TOKEN_HEADER = "X-Jenkins-Event-Token";
+
+    private final JenkinsEventService jenkinsEventService;
+
+    // Notification 플러그인 이벤트 수신
+    @PostMapping("/notification")
+    @Operation(summary = "Notification 플러그인 이벤트 수신", description = "Jenkins Notification 플러그인의 JSON 알림(QUEUED/STARTED/COMPLETED/FINALIZED)을 받아 캐시와 구독자에 바로 반영합니다. 중복되거나 순서가 뒤바뀐 이벤트는 무시합니다.")
+    public ResponseEntity<ApiResponse<Boolean>> receiveNotification(@RequestHeader(value = TOKEN_HEADER, required = false) String tokenHeader,
+                                                                    @RequestParam(required = false) String token,
+                                                                    @RequestBody JenkinsNotificationEvent event) {
+
+        jenkinsEventService.verifyToken(tokenHeader != null ? tokenHeader : token);
+        boolean applied = jenkinsEventService.handleNotification(event);
+
+        return accepted(applied);
+    }
+
+    // Statistics Gateway 플러그인 빌드 이벤트 수신
+    @PostMapping("/statistics/builds")
+    @Operation(summary = "Statistics Gateway 빌드 이벤트 수신", description = "Jenkins Statistics Gateway 플러그인의 빌드 시작/완료 이벤트를 받아 캐시와 구독자에 바로 반영합니다.")
+    public ResponseEntity<ApiResponse<Boolean>> receiveStatisticsBuild(@RequestHeader(value = TOKEN_HEADER, required = false) String tokenHeader,
+                                                                       @RequestParam(required = false) String token,
+                                                                       @RequestBody StatisticsBuildEvent event) {
+
+        jenkinsEventService.verifyToken(tokenHeader != null ? tokenHeader : token);
+        boolean applied = jenkinsEventService.handleStatisticsBuild(event);
+
+        return accepted(applied);
+    }
+
+    // Statistics Gateway 플러그인 대기열 이벤트 수신
+    @PostMapping("/statistics/queues")
+    @Operation(summary = "Statistics Gateway 대기열 이벤트 수신", description = "Jenkins Statistics Gateway 플러그인의 대기열 이벤트를 받아 대기열 모니터와 구독자에 바로 반영합니다.")
+    public ResponseEntity<ApiResponse<Boolean>> receiveStatisticsQueue(@RequestHeader(value = TOKEN_HEADER, required = false) String tokenHeader,
+                                                                       @RequestParam(required = false) String token,
+                                                                       @RequestBody StatisticsQueueEvent event) {
+
+        jenkinsEventService.verifyToken(tokenHeader != null ? tokenHeader : token);
+        boolean applied = jenkinsEventService.handleStatisticsQueue(event);
+
+        return accepted(applied);
+    }
+
+    // 중복 이벤트도 재전송하지 않도록 항상 202로 응답
+    private static ResponseEntity<ApiResponse<Boolean>> accepted(boolean applied) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(applied, applied ? "Event applied" : "Duplicate or out-of-order event ignored"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.modi.core.jenkins.controller;
+
+import com.modi.core.dto.response.ApiResponse;
+import com.modi.core.jenkins.dto.*;
+import com.modi.core.jenkins.service.BuildCompletionWatcher;
+import com.modi.core.jenkins.service.ReactiveJenkinsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Jenkins 관리 논블로킹 REST API 컨트롤러 (Jenkins 응답을 기다리는 동안 서블릿 스레드를 점유하지 않음)
+@Slf4j
+@RestController
+@RequestMapping("/jenkins/reactive")
+@RequiredArgsConstructor
+@Tag(name = "Jenkins Management (Reactive)", description = "Jenkins 관리 논블로킹 API")
+public class ReactiveJenkinsController {
+
+    private final ReactiveJenkinsService reactiveJenkinsService;
+    private final BuildCompletionWatcher buildCompletionWatcher;
+
+    // Jenkins 서버 연결 상태 확인
+    @GetMapping("/health")
+    @Operation(summary = "Jenkins 서버 연결 상태 확인", description = "Jenkins 서버가 정상적으로 연결되어 있는지 비동기로 확인합니다.")
+    public Mono<ResponseEntity<ApiResponse<Boolean>>> checkHealth() {
+
+        return reactiveJenkinsService.checkConnection()
+            .map(isRunning -> ResponseEntity.ok(ApiResponse.success(isRunning, "Jenkins server health check completed")));
+    }
+
+    // 모든 Job 목록 조회
+    @GetMapping("/jobs")
+    @Operation(summary = "모든 Job 목록 조회", description = "Jenkins에 등록된 모든 Job 목록을 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<JobResponse>>>> getAllJobs() {
+
+        return reactiveJenkinsService.getAllJobs()
+            .collectList()
+            .map(jobs -> ResponseEntity.ok(ApiResponse.success(jobs, "Successfully fetched all jobs")));
+    }
+
+    // 특정 Job 정보 조회
+    @GetMapping("/jobs/{jobName}")
+    @Operation(summary = "특정 Job 정보 조회", description = "지정한 이름의 Job 정보를 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<JobResponse>>> getJob(@PathVariable String jobName) {
+
+        return reactiveJenkinsService.getJob(jobName)
+            .map(job -> ResponseEntity.ok(ApiResponse.success(job, "Successfully fetched job")));
+    }
+
+    // Job 생성
+    @PostMapping("/jobs")
+    @Operation(summary = "Job 생성", description = "새로운 Jenkins Job을 비동기로 생성합니다.")
+    public Mono<ResponseEntity<ApiResponse<Void>>> createJob(@Valid @RequestBody JobCreateRequest request) {
+
+        return reactiveJenkinsService.createJob(request)
+            .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<Void>success(null, "Successfully created job"))));
+    }
+
+    // Job 업데이트
+    @PutMapping("/jobs/{jobName}")
+    @Operation(summary = "Job 업데이트", description = "기존 Jenkins Job의 설정을 비동기로 업데이트합니다.")
+    public Mono<ResponseEntity<ApiResponse<Void>>> updateJob(@PathVariable String jobName, @Valid @RequestBody JobCreateRequest request) {
+
+        return reactiveJenkinsService.updateJob(jobName, request)
+            .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResponse.<Void>success(null, "Successfully updated job"))));
+    }
+
+    // Job 삭제
+    @DeleteMapping("/jobs/{jobName}")
+    @Operation(summary = "Job 삭제", description = "지정한 Jenkins Job을 비동기로 삭제합니다.")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteJob(@PathVariable String jobName) {
+
+        return reactiveJenkinsService.deleteJob(jobName)
+            .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResponse.<Void>success(null, "Successfully deleted job"))));
+    }
+
+    // Job 빌드 실행
+    @PostMapping("/jobs/{jobName}/build")
+    @Operation(summary = "Job 빌드 실행", description = "지정한 Job의 빌드를 비동기로 실행합니다.")
+    public Mono<ResponseEntity<ApiResponse<QueueItemResponse>>> triggerBuild(@PathVariable String jobName, @RequestBody(required = false) BuildRequest request) {
+
+        BuildRequest buildRequest = BuildRequest.builder()
+            .jobName(jobName)
+            .parameters(request != null ? request.getParameters() : null)
+            .waitForCompletion(request != null ? request.getWaitForCompletion() : null)
+            .build();
+
+        Mono<QueueItemResponse> triggered = reactiveJenkinsService.triggerBuild(buildRequest);
+        if (!Boolean.TRUE.equals(buildRequest.getWaitForCompletion())) {
+            return triggered.map(queueItem -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(queueItem, "Successfully triggered build")));
+        }
+
+        return triggered
+            .flatMap(queueItem -> Mono.fromFuture(() -> buildCompletionWatcher.awaitCompletion(queueItem)))
+            .map(completed -> ResponseEntity.ok(ApiResponse.success(completed, "Build completed")));
+    }
+
+    // Job의 모든 빌드 목록 조회
+    @GetMapping("/jobs/{jobName}/builds")
+    @Operation(summary = "Job의 모든 빌드 목록 조회", description = "지정한 Job의 빌드 목록을 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<BuildResponse>>>> getAllBuilds(@PathVariable String jobName) {
+
+        return reactiveJenkinsService.getAllBuilds(jobName)
+            .collectList()
+            .map(builds -> ResponseEntity.ok(ApiResponse.success(builds, "Successfully fetched all builds")));
+    }
+
+    // 특정 빌드 정보 조회
+    @GetMapping("/jobs/{jobName}/builds/{buildNumber}")
+    @Operation(summary = "특정 빌드 정보 조회", description = "지정한 Job의 특정 빌드 정보를 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<BuildResponse>>> getBuildInfo(@PathVariable String jobName,
+                                                                         @PathVariable int buildNumber) {
+
+        return reactiveJenkinsService.getBuildInfo(jobName, buildNumber)
+            .map(build -> ResponseEntity.ok(ApiResponse.success(build, "Successfully fetched build info")));
+    }
+
+    // 마지막 빌드 정보 조회
+    @GetMapping("/jobs/{jobName}/builds/last")
+    @Operation(summary = "마지막 빌드 정보 조회", description = "지정한 Job의 마지막 빌드 정보를 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<BuildResponse>>> getLastBuild(@PathVariable String jobName) {
+
+        return reactiveJenkinsService.getLastBuild(jobName)
+            .map(build -> ResponseEntity.ok(ApiResponse.success(build, "Successfully fetched last build")));
+    }
+
+    // 빌드 로그 조회
+    @GetMapping("/jobs/{jobName}/builds/{buildNumber}/log")
+    @Operation(summary = "빌드 로그 조회", description = "지정한 빌드의 콘솔 로그를 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<BuildLogResponse>>> getBuildLog(@PathVariable String jobName,
+                                                                           @PathVariable int buildNumber) {
+
+        return reactiveJenkinsService.getBuildLog(jobName, buildNumber)
+            .map(log -> ResponseEntity.ok(ApiResponse.success(log, "Successfully fetched build log")));
+    }
+
+    // 모든 노드 정보 조회
+    @GetMapping("/nodes")
+    @Operation(summary = "모든 노드 정보 조회", description = "Jenkins에 등록된 모든 노드(에이전트) 정보를 비동기로 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<List<NodeResponse>>>> getAllNodes() {
+
+        return reactiveJenkinsService.getAllNodes()
+            .collectList()
+            .map(nodes -> ResponseEntity.ok(ApiResponse.success(nodes, "Successfully fetched all nodes")));
+    }
+}
@@ -0,0 +1,44 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job 빌드 소요 시간/실패율 집계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildAnalyticsResponse {
+
+    // Job 이름
+    private String jobName;
+
+    // 집계 구간 시작 (epoch 밀리초, 버킷 경계로 내림)
+    private Long from;
+
+    // 집계 구간 끝 (epoch 밀리초, 미포함)
+    private Long to;
+
+    // 완료된 빌드 수
+    private Long buildCount;
+
+    // 결과별 빌드 수
+    private Long successCount;
+    private Long failureCount;
+    private Long unstableCount;
+    private Long abortedCount;
+
+    // 실패율 (FAILURE / 전체, 빌드가 없으면 null)
+    private Double failureRate;
+
+    // 소요 시간 백분위 (밀리초, 빌드가 없으면 null)
+    private Long durationP50;
+    private Long durationP95;
+    private Long durationP99;
+    private Long durationMax;
+    private Double durationMean;
+}
@@ -0,0 +1,46 @@
+package com.modi.core.jenkins.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins 빌드 정보 일괄 조회 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildBatchRequest {
+
+    // 조회할 빌드 목록
+    @NotEmpty(message = "Builds are required")
+    private List<@Valid BuildRef> builds;
+
+    /**
+     * 조회할 빌드 (Job 이름 + 빌드 번호)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BuildRef {
+
+        // Job 이름
+        @NotBlank(message = "Job name is required")
+        private String jobName;
+
+        // 빌드 번호
+        @NotNull(message = "Build number is required")
+        @Positive(message = "Build number must be positive")
+        private Integer buildNumber;
+    }
+}
@@ -0,0 +1,49 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins 빌드 정보 일괄 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildBatchResponse {
+
+    // 요청 순서대로의 조회 결과
+    private List<Item> results;
+
+    // 조회에 성공한 빌드 수
+    private Integer succeeded;
+
+    // 조회에 실패한 빌드 수
+    private Integer failed;
+
+    /**
+     * 빌드별 조회 결과 (성공하면 build, 실패하면 error만 채움)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        // Job 이름
+        private String jobName;
+
+        // 빌드 번호
+        private Integer buildNumber;
+
+        // 빌드 정보
+        private BuildResponse build;
+
+        // 실패 사유
+        private String error;
+    }
+}
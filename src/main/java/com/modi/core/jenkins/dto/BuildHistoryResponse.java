@@ -0,0 +1,30 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins 빌드 이력 페이지 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildHistoryResponse {
+
+    // Job 이름
+    private String jobName;
+
+    // 빌드 목록 (빌드 번호 내림차순)
+    private List<BuildResponse> builds;
+
+    // 다음 페이지 조회 시 before로 넘길 빌드 번호 (마지막 페이지면 null)
+    private Integer nextBefore;
+
+    // 다음 페이지 존재 여부
+    private Boolean hasMore;
+}
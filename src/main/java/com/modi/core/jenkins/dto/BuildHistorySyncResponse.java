@@ -0,0 +1,42 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jenkins 빌드 이력 동기화 배치 실행 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildHistorySyncResponse {
+
+    // 배치 실행 ID (재시작/상태 조회 시 사용)
+    private Long executionId;
+
+    // 실행 상태 (STARTING, STARTED, COMPLETED, FAILED, STOPPED ...)
+    private String status;
+
+    // 시작 시각
+    private LocalDateTime startTime;
+
+    // 종료 시각 (실행 중이면 null)
+    private LocalDateTime endTime;
+
+    // 종료 설명 (실패 시 오류 내용)
+    private String exitDescription;
+
+    // 동기화 대상 Job 수 (파티션 수)
+    private Integer jobCount;
+
+    // Jenkins에서 읽은 빌드 수
+    private Long readCount;
+
+    // 저장한 빌드 수
+    private Long writeCount;
+}
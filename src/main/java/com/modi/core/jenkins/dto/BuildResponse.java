@@ -45,4 +45,7 @@ public class BuildResponse {
 
     // 빌드 설명
     private String description;
+
+    // 빌드를 시작한 대기열 항목 ID
+    private Long queueId;
 }
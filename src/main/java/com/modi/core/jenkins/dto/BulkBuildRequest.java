@@ -0,0 +1,27 @@
+package com.modi.core.jenkins.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins 빌드 일괄 실행 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBuildRequest {
+
+    // 실행할 빌드 목록 (Job 이름 + 파라미터)
+    @NotEmpty(message = "Builds are required")
+    private List<@Valid BuildRequest> builds;
+
+    // 실행 후 Queue ID로 대기열 상태(blocked, why, executableNumber)를 조회할지 여부
+    private Boolean resolveQueue;
+}
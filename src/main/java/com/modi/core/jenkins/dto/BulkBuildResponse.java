@@ -0,0 +1,46 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins 빌드 일괄 실행 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBuildResponse {
+
+    // 요청 순서대로의 실행 결과
+    private List<Item> results;
+
+    // 실행에 성공한 빌드 수
+    private Integer triggered;
+
+    // 실행에 실패한 빌드 수
+    private Integer failed;
+
+    /**
+     * 빌드별 실행 결과 (성공하면 queueItem, 실패하면 error만 채움)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        // Job 이름
+        private String jobName;
+
+        // 대기열 항목
+        private QueueItemResponse queueItem;
+
+        // 실패 사유
+        private String error;
+    }
+}
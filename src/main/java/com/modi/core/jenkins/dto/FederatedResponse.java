@@ -0,0 +1,31 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 연합(여러 Jenkins 컨트롤러) 조회에서 컨트롤러 하나의 결과 DTO
+ * 실패하거나 타임아웃된 컨트롤러는 items 없이 error만 채웁니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FederatedResponse<T> {
+
+    // 컨트롤러 이름
+    private String controller;
+
+    // 조회 결과 (실패 시 null)
+    private List<T> items;
+
+    // 오류 내용 (성공 시 null)
+    private String error;
+
+    // 컨트롤러 응답 시간 (밀리초)
+    private Long elapsedMillis;
+}
@@ -0,0 +1,64 @@
+package com.modi.core.jenkins.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Jenkins Notification 플러그인 이벤트 요청 DTO (Job 단위 JSON 알림)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JenkinsNotificationEvent {
+
+    // Job 이름
+    private String name;
+
+    // Job 상대 URL
+    private String url;
+
+    // 빌드 정보
+    private Build build;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Build {
+
+        // 빌드 전체 URL
+        @JsonProperty("full_url")
+        private String fullUrl;
+
+        // 빌드 번호
+        private Integer number;
+
+        // 대기열 항목 ID
+        @JsonProperty("queue_id")
+        private Long queueId;
+
+        // 단계 (QUEUED, STARTED, COMPLETED, FINALIZED)
+        private String phase;
+
+        // 빌드 결과 (COMPLETED/FINALIZED에서만 값이 있음)
+        private String status;
+
+        // 빌드 시작 시간 (타임스탬프)
+        private Long timestamp;
+
+        // 빌드 소요 시간 (밀리초)
+        private Long duration;
+
+        // 빌드 파라미터
+        private Map<String, String> parameters;
+    }
+}
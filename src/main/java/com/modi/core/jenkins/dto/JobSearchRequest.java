@@ -0,0 +1,32 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins Job 목록 검색 조건 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchRequest {
+
+    // Job 이름 접두사
+    private String namePrefix;
+
+    // Job 컬러 필터 (blue, red 등, 실행 중 여부(_anime)와 관계없이 비교)
+    private List<String> colors;
+
+    // 응답에 포함할 필드 (JobResponse 필드명, 비어 있으면 전체)
+    private List<String> fields;
+
+    // 필터 조건이 있는지 여부
+    public boolean hasFilter() {
+        return (namePrefix != null && !namePrefix.isEmpty()) || (colors != null && !colors.isEmpty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레이블별 executor 용량 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LabelCapacityResponse {
+
+    // 레이블 (노드 이름 레이블 포함)
+    private String label;
+
+    // 레이블이 붙은 노드 수
+    private Integer nodeCount;
+
+    // 빌드를 받을 수 있는(온라인이고 임시 오프라인이 아닌) 노드 수
+    private Integer availableNodeCount;
+
+    // 사용 가능한 노드의 전체 executor 수
+    private Integer totalExecutors;
+
+    // 사용 가능한 노드에서 빌드를 실행 중인 executor 수
+    private Integer busyExecutors;
+
+    // 사용 가능한 노드의 유휴 executor 수
+    private Integer freeExecutors;
+
+    // 마지막으로 노드 상태를 동기화한 시각 (epoch 밀리초)
+    private Long syncedAt;
+}
@@ -50,7 +50,12 @@ public class NodeResponse {
     private String offlineCauseReason;
 
     /**
-     * 노드 레이블
+     * 노드 레이블 (공백으로 구분, 노드 자신의 이름 레이블 제외)
      */
     private String labelString;
+
+    /**
+     * 빌드를 실행 중인 executor 수
+     */
+    private Integer busyExecutors;
 }
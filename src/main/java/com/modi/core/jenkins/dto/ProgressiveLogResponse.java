@@ -0,0 +1,37 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+/**
+ * Jenkins progressiveText 기반 빌드 로그 스트리밍 응답
+ * 본문은 전체 문자열로 만들지 않고 DataBuffer 스트림으로 전달합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressiveLogResponse {
+
+    // Job 이름
+    private String jobName;
+
+    // 빌드 번호
+    private Integer buildNumber;
+
+    // 요청한 시작 오프셋 (바이트)
+    private Long start;
+
+    // 다음 요청에 사용할 오프셋 (X-Text-Size)
+    private Long textSize;
+
+    // 로그가 더 이어지는지 여부 (X-More-Data)
+    private Boolean moreData;
+
+    // 로그 본문 (start ~ textSize 구간)
+    private Flux<DataBuffer> content;
+}
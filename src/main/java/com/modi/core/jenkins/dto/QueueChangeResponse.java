@@ -0,0 +1,49 @@
+package com.modi.core.jenkins.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 빌드 대기열 변경분 응답 DTO (직전 조회 이후 바뀐 항목만 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueChangeResponse {
+
+    // 변경 순번 (변경분마다 1씩 증가, snapshot 이벤트는 그 시점까지 반영한 순번이며 구독자는 이 순서대로 받음)
+    private Long sequence;
+
+    // 대기열을 조회한 시각 (epoch 밀리초)
+    private Long syncedAt;
+
+    // 새로 들어온 항목
+    private List<QueueItemResponse> added;
+
+    // 대기 이유/차단/빌드 가능 여부가 바뀐 항목
+    private List<QueueItemResponse> updated;
+
+    // 대기열을 떠난 항목 (실행 시작 또는 취소)
+    private List<LeftItem> left;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeftItem {
+
+        // Queue ID
+        private Long id;
+
+        // Job 이름
+        private String jobName;
+
+        // 대기열에 머문 시간 (밀리초)
+        private Long waitMillis;
+    }
+}
@@ -48,4 +48,14 @@ public class QueueItemResponse {
      * 실행 중인 빌드 번호 (실행된 경우)
      */
     private Integer executableNumber;
+
+    /**
+     * 취소 여부 (대기열을 떠난 항목만 값이 있음)
+     */
+    private Boolean cancelled;
+
+    /**
+     * 완료된 빌드 정보 (waitForCompletion 요청 시)
+     */
+    private BuildResponse build;
 }
@@ -0,0 +1,62 @@
+package com.modi.core.jenkins.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Jenkins Statistics Gateway 플러그인 빌드 이벤트 요청 DTO (빌드 시작/완료 시 전송)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StatisticsBuildEvent {
+
+    // Job 이름 (폴더 밖 Job)
+    private String jobName;
+
+    // 폴더를 포함한 Job 전체 이름
+    private String fullJobName;
+
+    // 빌드 번호
+    private Integer number;
+
+    // 대기열 항목 ID
+    private Long jenkinsQueueId;
+
+    // 빌드 URL
+    private String buildUrl;
+
+    // 빌드 시작 시간 (타임스탬프)
+    private Long startTime;
+
+    // 빌드 종료 시간 (타임스탬프, 시작 이벤트에서는 0)
+    private Long endTime;
+
+    // 빌드 소요 시간 (밀리초)
+    private Long duration;
+
+    // 빌드 결과 (시작 이벤트에서는 null)
+    private String result;
+
+    // 빌드 파라미터
+    private List<Parameter> parameters;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Parameter {
+
+        private String name;
+
+        private String value;
+    }
+}
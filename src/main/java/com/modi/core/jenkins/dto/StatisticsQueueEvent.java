@@ -0,0 +1,33 @@
+package com.modi.core.jenkins.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Jenkins Statistics Gateway 플러그인 대기열 이벤트 요청 DTO (대기열 상태가 바뀔 때마다 전송)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StatisticsQueueEvent {
+
+    // 대기열 항목 ID
+    private Long jenkinsQueueId;
+
+    // Job 이름
+    private String jobName;
+
+    // 상태 (waiting, blocked, buildable, pending, left)
+    private String status;
+
+    // 대기열에 들어간 시간 (타임스탬프)
+    private Long entryTime;
+
+    // 대기열을 떠난 시간 (타임스탬프, 떠나기 전에는 0)
+    private Long exitTime;
+}
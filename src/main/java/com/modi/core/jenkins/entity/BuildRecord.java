@@ -0,0 +1,80 @@
+package com.modi.core.jenkins.entity;
+
+import com.modi.core.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 완료된 Jenkins 빌드 기록
+ * 저장은 BuildRecordStore의 JDBC 일괄 upsert로만 하고, JPA는 조회에만 사용합니다.
+ * (job, number) 유니크 키가 upsert 기준이며, 기간별 조회/결과별 집계를 위해 (job, startedAt)과 result에 인덱스를 둡니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "JENKINS_BUILD_RECORD",
+    uniqueConstraints = @UniqueConstraint(name = "UK_BUILD_RECORD_JOB_NUMBER", columnNames = {"JOB_NAME", "BUILD_NUMBER"}),
+    indexes = {
+        @Index(name = "IX_BUILD_RECORD_JOB_STARTED", columnList = "JOB_NAME, STARTED_AT"),
+        @Index(name = "IX_BUILD_RECORD_RESULT", columnList = "RESULT")
+    })
+public class BuildRecord extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    // Job 이름
+    @Column(name = "JOB_NAME", nullable = false)
+    private String jobName;
+
+    // 빌드 번호
+    @Column(name = "BUILD_NUMBER", nullable = false)
+    private Integer buildNumber;
+
+    // 빌드 결과 (SUCCESS, FAILURE, UNSTABLE, ABORTED 등)
+    @Column(name = "RESULT", length = 32)
+    private String result;
+
+    // 빌드 소요 시간 (밀리초)
+    @Column(name = "DURATION")
+    private Long duration;
+
+    // 예상 소요 시간 (밀리초)
+    @Column(name = "ESTIMATED_DURATION")
+    private Long estimatedDuration;
+
+    // 빌드 시작 시간 (타임스탬프)
+    @Column(name = "STARTED_AT")
+    private Long startedAt;
+
+    // 빌드를 시작한 대기열 항목 ID
+    @Column(name = "QUEUE_ID")
+    private Long queueId;
+
+    // 빌드 URL
+    @Column(name = "URL", length = 1024)
+    private String url;
+
+    // 빌드 파라미터 (JSON 객체)
+    @Column(name = "PARAMETERS", columnDefinition = "TEXT")
+    private String parameters;
+
+    // 빌드를 실행한 사용자
+    @Column(name = "USER_ID")
+    private String userId;
+
+    // 빌드 설명
+    @Column(name = "DESCRIPTION", columnDefinition = "TEXT")
+    private String description;
+}
@@ -0,0 +1,14 @@
+package com.modi.core.jenkins.event;
+
+import com.modi.core.jenkins.dto.BuildResponse;
+
+import java.util.List;
+
+/**
+ * Jenkins에서 완료된 빌드를 조회했을 때 발행하는 이벤트 (빌드 기록 저장소가 구독)
+ *
+ * @param jobName Job 이름
+ * @param builds  완료된 빌드 목록
+ */
+public record FinishedBuildEvent(String jobName, List<BuildResponse> builds) {
+}
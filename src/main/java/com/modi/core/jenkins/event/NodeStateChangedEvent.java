@@ -0,0 +1,22 @@
+package com.modi.core.jenkins.event;
+
+import com.modi.core.jenkins.dto.NodeResponse;
+
+/**
+ * 노드 상태가 바뀌었을 때 노드 용량 모니터가 발행하는 이벤트 (바뀌지 않은 노드는 발행하지 않음)
+ *
+ * @param nodeName 노드 이름
+ * @param change   바뀐 상태
+ * @param node     바뀐 뒤 노드 정보 (REMOVED면 제거 직전 정보)
+ */
+public record NodeStateChangedEvent(String nodeName, Change change, NodeResponse node) {
+
+    public enum Change {
+        ADDED,
+        REMOVED,
+        ONLINE,
+        OFFLINE,
+        BUSY,
+        IDLE
+    }
+}
@@ -0,0 +1,11 @@
+package com.modi.core.jenkins.event;
+
+import com.modi.core.jenkins.dto.QueueChangeResponse;
+
+/**
+ * 빌드 대기열이 바뀌었을 때 대기열 모니터가 발행하는 이벤트 (바뀐 항목이 없으면 발행하지 않음)
+ *
+ * @param changes 직전 조회 이후 바뀐 항목
+ */
+public record QueueChangedEvent(QueueChangeResponse changes) {
+}
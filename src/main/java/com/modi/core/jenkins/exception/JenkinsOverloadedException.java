@@ -0,0 +1,11 @@
+package com.modi.core.jenkins.exception;
+
+/**
+ * Jenkins 과부하 보호(동시 요청 한도 초과, 서킷 브레이커 열림)로 요청을 보내지 않고 거절할 때 발생하는 예외
+ */
+public class JenkinsOverloadedException extends JenkinsConnectionException {
+
+    public JenkinsOverloadedException(String message) {
+        super(message);
+    }
+}
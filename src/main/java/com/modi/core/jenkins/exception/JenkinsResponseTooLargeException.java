@@ -0,0 +1,12 @@
+package com.modi.core.jenkins.exception;
+
+/**
+ * Jenkins 응답 본문이 메모리에 모을 수 있는 최대 크기를 넘을 때 발생하는 예외
+ * Jenkins 장애가 아니라 요청 범위(tree, 빌드 범위)가 너무 넓은 경우이므로 과부하 보호에서는 실패로 세지 않습니다.
+ */
+public class JenkinsResponseTooLargeException extends JenkinsConnectionException {
+
+    public JenkinsResponseTooLargeException(String message, int maxBytes, Throwable cause) {
+        super(message + ": response body exceeds " + maxBytes + " bytes, narrow the tree or range", cause);
+    }
+}
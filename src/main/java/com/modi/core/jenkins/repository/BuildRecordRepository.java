@@ -0,0 +1,28 @@
+package com.modi.core.jenkins.repository;
+
+import com.modi.core.jenkins.entity.BuildRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 빌드 기록 조회 리포지토리 (저장은 BuildRecordStore의 JDBC upsert 사용)
+ */
+public interface BuildRecordRepository extends JpaRepository<BuildRecord, Long> {
+
+    // before보다 작은 번호의 빌드를 최신순으로 조회
+    List<BuildRecord> findByJobNameAndBuildNumberLessThanOrderByBuildNumberDesc(String jobName, int before, Pageable pageable);
+
+    // 기간 내 빌드를 시작 시간순으로 조회 (JOB_NAME, STARTED_AT 인덱스 사용)
+    List<BuildRecord> findByJobNameAndStartedAtBetweenOrderByStartedAt(String jobName, long from, long to);
+
+    // startedAt 이후 시작한 빌드를 id 순으로 조회 (afterId 기준 키셋 페이징, 분석 집계 초기 적재용)
+    List<BuildRecord> findByIdGreaterThanAndStartedAtGreaterThanEqualOrderById(long afterId, long startedAt, Pageable pageable);
+
+    // 저장된 가장 큰 빌드 번호 (없으면 null)
+    @Query("select max(r.buildNumber) from BuildRecord r where r.jobName = :jobName")
+    Integer findMaxBuildNumber(@Param("jobName") String jobName);
+}
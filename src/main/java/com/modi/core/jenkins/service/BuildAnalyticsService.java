@@ -0,0 +1,278 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildAnalyticsResponse;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.entity.BuildRecord;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import com.modi.core.jenkins.repository.BuildRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.IntCountsHistogram;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Job별 빌드 소요 시간/실패율 집계
+ * 완료된 빌드가 들어올 때마다 Job별 시간 버킷(기본 1시간)의 HdrHistogram과 결과별 카운터를 갱신해 두고,
+ * 조회 시에는 구간 안의 버킷만 병합해 백분위를 계산합니다. 조회 비용은 빌드 수가 아닌 버킷 수에만 비례합니다.
+ * 같은 빌드가 여러 번 들어와도 버킷마다 (빌드 번호, 시작 시각)으로 한 번만 집계하며, 기동 시 빌드 기록 저장소에서 보존 기간 내 기록을 적재합니다.
+ * 집계한 빌드 목록은 버킷과 함께 정리되고, Job을 다시 만들어 번호가 처음부터 시작해도 시작 시각이 다르므로 새 빌드로 집계합니다.
+ */
+@Slf4j
+@Service
+public class BuildAnalyticsService implements SchedulingConfigurer {
+
+    // 히스토그램 유효 자릿수 (값의 1% 이내 오차, 버킷당 메모리를 작게 유지)
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    // 기동 시 저장소에서 한 번에 읽을 기록 수
+    private static final int WARM_UP_PAGE_SIZE = 1000;
+
+    // 보존 기간이 지난 버킷 정리 주기
+    private static final Duration PRUNE_INTERVAL = Duration.ofMinutes(10);
+
+    private final BuildRecordRepository buildRecordRepository;
+    private final JenkinsProperties jenkinsProperties;
+
+    private final Map<String, JobAnalytics> jobs = new ConcurrentHashMap<>();
+
+    public BuildAnalyticsService(BuildRecordRepository buildRecordRepository, JenkinsProperties jenkinsProperties) {
+        this.buildRecordRepository = buildRecordRepository;
+        this.jenkinsProperties = jenkinsProperties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::prune, PRUNE_INTERVAL);
+    }
+
+    @EventListener
+    public void onFinishedBuilds(FinishedBuildEvent event) {
+        record(event.jobName(), event.builds());
+    }
+
+    // 완료된 빌드 집계 (이미 집계한 빌드, 실행 중이거나 보존 기간을 벗어난 빌드는 무시)
+    public void record(String jobName, Collection<BuildResponse> builds) {
+        long oldest = oldestBucketStart();
+        JobAnalytics analytics = null;
+
+        for (BuildResponse build : builds) {
+            if (build.getNumber() == null || build.getTimestamp() == null || !Boolean.FALSE.equals(build.getBuilding())
+                || build.getTimestamp() < oldest) {
+                continue;
+            }
+            if (analytics == null) {
+                analytics = jobs.computeIfAbsent(jobName, name -> new JobAnalytics());
+            }
+            analytics.record(build.getNumber(), build.getTimestamp(), build.getDuration(), build.getResult(), bucketMillis());
+        }
+    }
+
+    // 최근 hours 시간 동안의 Job 집계
+    public BuildAnalyticsResponse getJobAnalytics(String jobName, int hours) {
+        long to = bucketStart(System.currentTimeMillis()) + bucketMillis();
+        long from = to - Duration.ofHours(hours).toMillis();
+
+        JobAnalytics analytics = jobs.get(jobName);
+        Bucket merged = analytics != null ? analytics.merge(from, to) : new Bucket();
+        return merged.toResponse(jobName, from, to);
+    }
+
+    // 최근 hours 시간을 stepHours 간격으로 나눈 Job 집계 추이 (오래된 순)
+    public List<BuildAnalyticsResponse> getJobTrend(String jobName, int hours, int stepHours) {
+        long to = bucketStart(System.currentTimeMillis()) + bucketMillis();
+        long step = Duration.ofHours(stepHours).toMillis();
+        long from = to - Duration.ofHours(hours).toMillis();
+
+        JobAnalytics analytics = jobs.get(jobName);
+        List<BuildAnalyticsResponse> trend = new ArrayList<>();
+        for (long start = from; start < to; start += step) {
+            long end = Math.min(start + step, to);
+            Bucket merged = analytics != null ? analytics.merge(start, end) : new Bucket();
+            trend.add(merged.toResponse(jobName, start, end));
+        }
+        return trend;
+    }
+
+    // 최근 hours 시간 동안 빌드가 있었던 모든 Job의 집계 (빌드 수 내림차순)
+    public List<BuildAnalyticsResponse> getAllJobAnalytics(int hours) {
+        long to = bucketStart(System.currentTimeMillis()) + bucketMillis();
+        long from = to - Duration.ofHours(hours).toMillis();
+
+        List<BuildAnalyticsResponse> result = new ArrayList<>();
+        jobs.forEach((jobName, analytics) -> {
+            Bucket merged = analytics.merge(from, to);
+            if (merged.total > 0) {
+                result.add(merged.toResponse(jobName, from, to));
+            }
+        });
+        result.sort(Comparator.comparing(BuildAnalyticsResponse::getBuildCount).reversed());
+        return result;
+    }
+
+    // 기동 후 보존 기간 내 저장된 기록으로 집계 초기화
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long oldest = oldestBucketStart();
+        long afterId = 0;
+        int loaded = 0;
+
+        try {
+            List<BuildRecord> page;
+            do {
+                page = buildRecordRepository.findByIdGreaterThanAndStartedAtGreaterThanEqualOrderById(
+                    afterId, oldest, PageRequest.of(0, WARM_UP_PAGE_SIZE));
+                for (BuildRecord record : page) {
+                    jobs.computeIfAbsent(record.getJobName(), name -> new JobAnalytics())
+                        .record(record.getBuildNumber(), record.getStartedAt(), record.getDuration(), record.getResult(), bucketMillis());
+                    afterId = record.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == WARM_UP_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load build analytics from build records: {}", e.getMessage());
+            return;
+        }
+
+        log.info("Loaded {} build records into build analytics", loaded);
+    }
+
+    // 보존 기간이 지난 버킷과 빈 Job 제거
+    void prune() {
+        long oldest = oldestBucketStart();
+
+        jobs.forEach((jobName, analytics) -> {
+            if (analytics.prune(oldest)) {
+                jobs.remove(jobName, analytics);
+            }
+        });
+    }
+
+    private long bucketMillis() {
+        return Duration.ofMinutes(jenkinsProperties.getAnalyticsBucketMinutes()).toMillis();
+    }
+
+    private long bucketStart(long timestamp) {
+        long bucketMillis = bucketMillis();
+        return timestamp - Math.floorMod(timestamp, bucketMillis);
+    }
+
+    private long oldestBucketStart() {
+        return bucketStart(System.currentTimeMillis() - Duration.ofDays(jenkinsProperties.getAnalyticsRetentionDays()).toMillis());
+    }
+
+    // Job 하나의 시간 버킷 목록
+    private static final class JobAnalytics {
+
+        private final NavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+        void record(Integer number, Long timestamp, Long duration, String result, long bucketMillis) {
+            if (number == null || number < 0 || timestamp == null) {
+                return;
+            }
+
+            long bucketStart = timestamp - Math.floorMod(timestamp, bucketMillis);
+            buckets.computeIfAbsent(bucketStart, start -> new Bucket()).record(new BuildKey(number, timestamp), duration, result);
+        }
+
+        // [from, to) 구간 버킷 병합
+        Bucket merge(long from, long to) {
+            Bucket merged = new Bucket();
+            for (Bucket bucket : buckets.subMap(from, true, to, false).values()) {
+                bucket.mergeInto(merged);
+            }
+            return merged;
+        }
+
+        // oldest 이전 버킷 제거 (남은 버킷이 없으면 true)
+        boolean prune(long oldest) {
+            buckets.headMap(oldest, false).clear();
+            return buckets.isEmpty();
+        }
+    }
+
+    // 집계한 빌드 식별자 (같은 번호라도 Job을 다시 만든 뒤의 빌드는 시작 시각이 다름)
+    private record BuildKey(int number, long timestamp) {
+    }
+
+    // 시간 버킷 하나의 소요 시간 히스토그램과 결과별 카운터, 이 버킷에 집계한 빌드
+    private static final class Bucket {
+
+        private final AbstractHistogram durations = new IntCountsHistogram(SIGNIFICANT_DIGITS);
+        private final Set<BuildKey> recorded = new HashSet<>();
+        private long total;
+        private long success;
+        private long failure;
+        private long unstable;
+        private long aborted;
+
+        // 이미 집계한 빌드면 무시
+        synchronized void record(BuildKey build, Long duration, String result) {
+            if (!recorded.add(build)) {
+                return;
+            }
+            total++;
+            if (result != null) {
+                switch (result) {
+                    case "SUCCESS" -> success++;
+                    case "FAILURE" -> failure++;
+                    case "UNSTABLE" -> unstable++;
+                    case "ABORTED" -> aborted++;
+                    default -> {
+                        // NOT_BUILT 등은 전체 수에만 포함
+                    }
+                }
+            }
+            if (duration != null && duration >= 0) {
+                durations.recordValue(duration);
+            }
+        }
+
+        synchronized void mergeInto(Bucket target) {
+            target.total += total;
+            target.success += success;
+            target.failure += failure;
+            target.unstable += unstable;
+            target.aborted += aborted;
+            target.durations.add(durations);
+        }
+
+        BuildAnalyticsResponse toResponse(String jobName, long from, long to) {
+            boolean hasDurations = durations.getTotalCount() > 0;
+
+            return BuildAnalyticsResponse.builder()
+                .jobName(jobName)
+                .from(from)
+                .to(to)
+                .buildCount(total)
+                .successCount(success)
+                .failureCount(failure)
+                .unstableCount(unstable)
+                .abortedCount(aborted)
+                .failureRate(total > 0 ? (double) failure / total : null)
+                .durationP50(hasDurations ? durations.getValueAtPercentile(50) : null)
+                .durationP95(hasDurations ? durations.getValueAtPercentile(95) : null)
+                .durationP99(hasDurations ? durations.getValueAtPercentile(99) : null)
+                .durationMax(hasDurations ? durations.getMaxValue() : null)
+                .durationMean(hasDurations ? durations.getMean() : null)
+                .build();
+        }
+    }
+}
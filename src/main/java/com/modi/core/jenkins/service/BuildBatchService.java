@@ -0,0 +1,196 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildBatchRequest;
+import com.modi.core.jenkins.dto.BuildBatchResponse;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Jenkins 빌드 정보 일괄 조회
+ * 캐시에 있는 완료된 빌드는 바로 사용하고, 나머지는 논블로킹 클라이언트로 제한된 동시성 안에서 조회합니다.
+ * 한 Job에서 가까운 번호의 빌드를 여러 개 요청하면 allBuilds{from,to} 범위 조회 한 번으로 묶고,
+ * 범위에서 찾지 못한 빌드만 개별로 다시 조회합니다.
+ * 빌드별 실패는 해당 항목의 error로만 기록하고 나머지 결과는 그대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class BuildBatchService {
+
+    // 범위 조회로 묶을 최소 빌드 수 (마지막 빌드 번호 조회 + 범위 조회 두 번이 개별 조회보다 적을 때)
+    private static final int MIN_MERGE_COUNT = 3;
+
+    // 범위 조회로 묶을 최대 번호 폭 (너무 넓으면 필요 없는 빌드까지 받게 됨)
+    private static final int MAX_MERGE_SPAN = 100;
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache buildCache;
+
+    public BuildBatchService(ReactiveJenkinsClient reactiveJenkinsClient,
+                             JenkinsProperties jenkinsProperties,
+                             ApplicationEventPublisher eventPublisher,
+                             CacheManager cacheManager) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.eventPublisher = eventPublisher;
+        this.buildCache = cacheManager.getCache(JenkinsCacheNames.BUILDS);
+    }
+
+    // 요청 순서대로 결과 반환 (중복 요청은 한 번만 조회)
+    public Mono<BuildBatchResponse> getBuilds(List<BuildBatchRequest.BuildRef> refs) {
+        Map<String, BuildBatchResponse.Item> cached = new HashMap<>();
+        Map<String, TreeSet<Integer>> missesByJob = new LinkedHashMap<>();
+
+        for (BuildBatchRequest.BuildRef ref : refs) {
+            String key = JenkinsCacheNames.buildKey(ref.getJobName(), ref.getBuildNumber());
+            if (cached.containsKey(key)) {
+                continue;
+            }
+
+            BuildResponse build = buildCache != null ? buildCache.get(key, BuildResponse.class) : null;
+            if (build != null) {
+                cached.put(key, success(ref.getJobName(), build));
+            } else {
+                missesByJob.computeIfAbsent(ref.getJobName(), jobName -> new TreeSet<>()).add(ref.getBuildNumber());
+            }
+        }
+
+        return Flux.fromIterable(plan(missesByJob))
+            .flatMap(fetch -> fetch, jenkinsProperties.getBatchConcurrency())
+            .flatMapIterable(items -> items)
+            .collectMap(item -> JenkinsCacheNames.buildKey(item.getJobName(), item.getBuildNumber()))
+            .doOnNext(this::publishFinished)
+            .map(fetched -> {
+                fetched.putAll(cached);
+                return assemble(refs, fetched);
+            });
+    }
+
+    // Job별로 범위 조회로 묶을 수 있는 빌드는 묶고, 나머지는 개별 조회로 나눔
+    private List<Mono<List<BuildBatchResponse.Item>>> plan(Map<String, TreeSet<Integer>> missesByJob) {
+        List<Mono<List<BuildBatchResponse.Item>>> fetches = new ArrayList<>();
+
+        missesByJob.forEach((jobName, numbers) -> {
+            if (numbers.size() >= MIN_MERGE_COUNT && numbers.last() - numbers.first() < MAX_MERGE_SPAN) {
+                fetches.add(fetchRange(jobName, numbers));
+            } else {
+                numbers.forEach(number -> fetches.add(fetchOne(jobName, number).map(List::of)));
+            }
+        });
+        return fetches;
+    }
+
+    // 마지막 빌드 번호로 위치를 계산해 한 번에 조회 (중간 빌드가 삭제돼 범위를 벗어난 빌드는 개별 조회)
+    private Mono<List<BuildBatchResponse.Item>> fetchRange(String jobName, TreeSet<Integer> numbers) {
+        return reactiveJenkinsClient.getLastBuildNumber(jobName)
+            .flatMap(lastBuildNumber -> {
+                int from = Math.max(0, lastBuildNumber - numbers.last());
+                int to = Math.max(0, lastBuildNumber - numbers.first()) + 1;
+                return reactiveJenkinsClient.getBuilds(jobName, from, to);
+            })
+            .flatMap(builds -> {
+                List<BuildBatchResponse.Item> items = new ArrayList<>(numbers.size());
+                List<Integer> missing = new ArrayList<>(numbers);
+                for (BuildResponse build : builds) {
+                    if (build.getNumber() != null && missing.remove(build.getNumber())) {
+                        JenkinsCacheNames.cacheIfFinished(buildCache, jobName, build);
+                        items.add(success(jobName, build));
+                    }
+                }
+                if (missing.isEmpty()) {
+                    return Mono.just(items);
+                }
+                return Flux.fromIterable(missing)
+                    .concatMap(number -> fetchOne(jobName, number))
+                    .collectList()
+                    .map(rest -> {
+                        items.addAll(rest);
+                        return items;
+                    });
+            })
+            .onErrorResume(e -> {
+                log.warn("Failed to fetch builds of {} in batch: {}", jobName, e.getMessage());
+                return Mono.just(numbers.stream().map(number -> failure(jobName, number, e)).toList());
+            });
+    }
+
+    private Mono<BuildBatchResponse.Item> fetchOne(String jobName, int buildNumber) {
+        return reactiveJenkinsClient.getBuildInfo(jobName, buildNumber)
+            .doOnNext(build -> JenkinsCacheNames.cacheIfFinished(buildCache, jobName, build))
+            .map(build -> success(jobName, build))
+            .onErrorResume(e -> Mono.just(failure(jobName, buildNumber, e)));
+    }
+
+    // Jenkins에서 새로 받은 완료된 빌드를 Job별로 묶어 기록 저장소에 알림
+    private void publishFinished(Map<String, BuildBatchResponse.Item> fetched) {
+        Map<String, List<BuildResponse>> finishedByJob = new LinkedHashMap<>();
+        fetched.values().forEach(item -> {
+            if (item.getBuild() != null && Boolean.FALSE.equals(item.getBuild().getBuilding())) {
+                finishedByJob.computeIfAbsent(item.getJobName(), jobName -> new ArrayList<>()).add(item.getBuild());
+            }
+        });
+        finishedByJob.forEach((jobName, builds) -> eventPublisher.publishEvent(new FinishedBuildEvent(jobName, builds)));
+    }
+
+    private static BuildBatchResponse assemble(List<BuildBatchRequest.BuildRef> refs,
+                                               Map<String, BuildBatchResponse.Item> resolved) {
+        List<BuildBatchResponse.Item> results = new ArrayList<>(refs.size());
+        int failed = 0;
+
+        for (BuildBatchRequest.BuildRef ref : refs) {
+            BuildBatchResponse.Item item = resolved.get(JenkinsCacheNames.buildKey(ref.getJobName(), ref.getBuildNumber()));
+            if (item == null) {
+                item = BuildBatchResponse.Item.builder()
+                    .jobName(ref.getJobName())
+                    .buildNumber(ref.getBuildNumber())
+                    .error("Build not found: " + ref.getBuildNumber())
+                    .build();
+            }
+            if (item.getError() != null) {
+                failed++;
+            }
+            results.add(item);
+        }
+
+        return BuildBatchResponse.builder()
+            .results(Collections.unmodifiableList(results))
+            .succeeded(results.size() - failed)
+            .failed(failed)
+            .build();
+    }
+
+    private static BuildBatchResponse.Item success(String jobName, BuildResponse build) {
+        return BuildBatchResponse.Item.builder()
+            .jobName(jobName)
+            .buildNumber(build.getNumber())
+            .build(build)
+            .build();
+    }
+
+    private static BuildBatchResponse.Item failure(String jobName, int buildNumber, Throwable e) {
+        return BuildBatchResponse.Item.builder()
+            .jobName(jobName)
+            .buildNumber(buildNumber)
+            .error(e.getMessage())
+            .build();
+    }
+}
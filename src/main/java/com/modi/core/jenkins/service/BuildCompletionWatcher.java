@@ -0,0 +1,449 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import com.modi.core.jenkins.exception.JenkinsBuildException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빌드 완료 감시
+ * 완료를 기다리는 대기열 항목/실행 중 빌드를 한곳에 모아 두고, 폴링 한 주기마다 일괄 조회해 상태를 갱신합니다.
+ * 주기마다 전체 Job 요약(lastBuild 번호, color)을 한 번만 조회하고, lastBuild가 바뀌었거나 기다리는 빌드가 끝났을 수 있는 Job만
+ * 최근 빌드 목록(queueId 포함)을 조회하므로, 기다리는 Job이 많아도 조용한 주기의 업스트림 호출은 요약(과 대기열) 한 번씩입니다.
+ * 같은 대기열 항목/빌드를 기다리는 호출자는 하나의 감시 항목을 공유하고, 기다릴 대상이 없으면 폴링을 멈춥니다.
+ * 조회는 논블로킹 클라이언트로 보내고 응답을 모두 처리한 뒤에 다음 주기를 예약하므로, 느린 Jenkins가 공유 스케줄러 스레드를 붙잡지 않습니다.
+ * Jenkins 이벤트로 빌드 시작/완료를 받으면 바로 반영하고, 이벤트를 받는 동안 폴링은 느린 보정 주기로만 실행합니다.
+ */
+@Slf4j
+@Component
+public class BuildCompletionWatcher {
+
+    // 주기마다 Job별로 확인할 최근 빌드 수
+    private static final int RECENT_BUILD_WINDOW = 50;
+
+    // 실행 중인 빌드를 나타내는 color 접미사 (blue_anime, red_anime 등)
+    private static final String BUILDING_COLOR_SUFFIX = "_anime";
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JenkinsEventActivity eventActivity;
+    private final TaskScheduler taskScheduler;
+
+    // queueId → 대기열에 있는 항목
+    private final Map<Long, Watch> queued = new ConcurrentHashMap<>();
+
+    // jobName#buildNumber → 실행 중인 빌드
+    private final Map<String, Watch> running = new ConcurrentHashMap<>();
+
+    // 기다리는 Job별로 마지막 주기에 확인한 lastBuild 번호 (빌드가 없으면 0)
+    private final Map<String, Integer> lastBuildNumbers = new ConcurrentHashMap<>();
+
+    private final Object pollLock = new Object();
+
+    // 다음 주기가 예약됐거나 진행 중인지 (pollLock 안에서만 갱신)
+    private boolean polling;
+
+    public BuildCompletionWatcher(ReactiveJenkinsClient reactiveJenkinsClient,
+                                  JenkinsProperties jenkinsProperties,
+                                  ApplicationEventPublisher eventPublisher,
+                                  JenkinsEventActivity eventActivity,
+                                  TaskScheduler taskScheduler,
+                                  MeterRegistry meterRegistry) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.eventPublisher = eventPublisher;
+        this.eventActivity = eventActivity;
+        this.taskScheduler = taskScheduler;
+
+        Gauge.builder("jenkins.watcher.queued", queued, Map::size)
+            .description("Queue items watched until their build completes")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.watcher.running", running, Map::size)
+            .description("Running builds watched until they complete")
+            .register(meterRegistry);
+    }
+
+    // 빌드 실행 응답의 대기열 항목이 빌드로 실행돼 완료될 때까지 대기 (완료된 빌드를 채운 대기열 항목 반환)
+    public CompletableFuture<QueueItemResponse> awaitCompletion(QueueItemResponse queueItem) {
+        CompletableFuture<BuildResponse> build;
+
+        if (queueItem.getExecutableNumber() != null) {
+            build = awaitBuild(queueItem.getJobName(), queueItem.getExecutableNumber());
+        } else if (queueItem.getId() != null) {
+            build = queued.computeIfAbsent(queueItem.getId(), id -> new Watch(queueItem.getJobName(), null, deadline()))
+                .future.copy();
+            ensurePolling();
+        } else {
+            return CompletableFuture.failedFuture(
+                new JenkinsBuildException("Cannot wait for build without a queue item: " + queueItem.getJobName()));
+        }
+
+        return build.thenApply(completed -> QueueItemResponse.builder()
+            .id(queueItem.getId())
+            .jobName(queueItem.getJobName())
+            .inQueueSince(queueItem.getInQueueSince())
+            .why(queueItem.getWhy())
+            .blocked(false)
+            .buildable(false)
+            .executableNumber(completed.getNumber())
+            .cancelled(false)
+            .build(completed)
+            .build());
+    }
+
+    // 실행 중인 빌드가 완료될 때까지 대기
+    public CompletableFuture<BuildResponse> awaitBuild(String jobName, int buildNumber) {
+        CompletableFuture<BuildResponse> build = running.computeIfAbsent(JenkinsCacheNames.buildKey(jobName, buildNumber),
+                key -> new Watch(jobName, buildNumber, deadline()))
+            .future.copy();
+        ensurePolling();
+        return build;
+    }
+
+    // 빌드 시작 이벤트 → 해당 대기열 항목을 실행 중 빌드 감시로 옮김
+    public void onBuildStarted(String jobName, int buildNumber, Long queueId) {
+        if (queueId == null) {
+            return;
+        }
+
+        Watch watch = queued.get(queueId);
+        if (watch != null && Objects.equals(watch.jobName, jobName) && queued.remove(queueId, watch)) {
+            startWatching(watch, BuildResponse.builder()
+                .number(buildNumber)
+                .queueId(queueId)
+                .building(true)
+                .build());
+        }
+    }
+
+    // 빌드 완료 이벤트 → 해당 빌드(또는 대기열 항목)를 기다리는 호출자에게 바로 전달
+    public void onBuildFinished(String jobName, BuildResponse build) {
+        if (build.getQueueId() != null) {
+            Watch watch = queued.get(build.getQueueId());
+            if (watch != null && Objects.equals(watch.jobName, jobName) && queued.remove(build.getQueueId(), watch)) {
+                watch.future.complete(build);
+            }
+        }
+
+        String key = JenkinsCacheNames.buildKey(jobName, build.getNumber());
+        Watch watch = running.get(key);
+        if (watch != null && running.remove(key, watch)) {
+            watch.future.complete(build);
+        }
+    }
+
+    // 대기열 항목 취소 이벤트 → 기다리는 호출자를 실패로 완료
+    public void onQueueCancelled(Long queueId) {
+        Watch watch = queued.get(queueId);
+        if (watch != null && queued.remove(queueId, watch)) {
+            watch.future.completeExceptionally(
+                new JenkinsBuildException("Queued build was cancelled: " + watch.jobName + " (queue item " + queueId + ")"));
+        }
+    }
+
+    // 감시 항목이 생기면 폴링 시작 (이미 예약됐거나 진행 중이면 그대로)
+    private void ensurePolling() {
+        synchronized (pollLock) {
+            if (!polling) {
+                polling = true;
+                schedulePoll();
+            }
+        }
+    }
+
+    // 한 주기를 끝낸 뒤 기다리는 항목이 남아 있으면 다음 주기 예약, 없으면 폴링 중단
+    private void pollCompleted() {
+        synchronized (pollLock) {
+            if (queued.isEmpty() && running.isEmpty()) {
+                polling = false;
+                lastBuildNumbers.clear();
+            } else {
+                schedulePoll();
+            }
+        }
+    }
+
+    // pollLock을 잡은 상태에서 호출
+    private void schedulePoll() {
+        long interval = eventActivity.pollInterval(jenkinsProperties.getWatcherPollInterval());
+        try {
+            taskScheduler.schedule(this::poll, Instant.now().plusMillis(interval));
+        } catch (TaskRejectedException e) {
+            log.debug("Build completion polling stopped: {}", e.getMessage());
+            polling = false;
+        }
+    }
+
+    // 조회 요청만 보내고 바로 반환 (응답 처리는 boundedElastic에서, 끝나면 다음 주기 예약)
+    void poll() {
+        pollOnce()
+            .doFinally(signal -> pollCompleted())
+            .subscribe(null, e -> log.warn("Build completion poll failed: {}", e.getMessage()));
+    }
+
+    Mono<Void> pollOnce() {
+        expire(System.currentTimeMillis());
+
+        Set<String> jobNames = new HashSet<>();
+        queued.values().forEach(watch -> jobNames.add(watch.jobName));
+        running.values().forEach(watch -> jobNames.add(watch.jobName));
+        if (jobNames.isEmpty()) {
+            return Mono.empty();
+        }
+
+        // 요약 조회에 실패하면 (과부하 거절 포함) Job별 조회로 부하를 늘리지 않고 이 주기를 건너뜀
+        return reactiveJenkinsClient.pollAllJobs()
+            .onErrorResume(e -> {
+                log.warn("Failed to poll jobs for completion: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .flatMap(jobs -> fetchRecentBuilds(jobsToRefresh(jobNames, jobs)))
+            .publishOn(Schedulers.boundedElastic())
+            .flatMap(this::applyRecentBuilds);
+    }
+
+    // 최근 빌드 목록을 다시 볼 Job
+    // - 요약에 없는 Job (폴더 안 Job 등): 매 주기 조회
+    // - lastBuild 번호가 바뀌었거나 처음 보는 Job: 대기열 항목이 빌드로 시작됐을 수 있음
+    // - 기다리는 실행 중 빌드가 lastBuild가 아니거나 lastBuild가 끝난 Job: 요약만으로는 완료 여부를 알 수 없음
+    private Set<String> jobsToRefresh(Set<String> jobNames, List<JobResponse> jobs) {
+        Map<String, JobResponse> summaries = new HashMap<>();
+        jobs.forEach(job -> summaries.put(job.getName(), job));
+        lastBuildNumbers.keySet().retainAll(jobNames);
+
+        Set<String> refresh = new HashSet<>();
+        for (String jobName : jobNames) {
+            JobResponse summary = summaries.get(jobName);
+            if (summary == null) {
+                refresh.add(jobName);
+                continue;
+            }
+
+            int lastBuildNumber = Objects.requireNonNullElse(summary.getLastBuildNumber(), 0);
+            boolean lastBuildRunning = summary.getColor() != null && summary.getColor().endsWith(BUILDING_COLOR_SUFFIX);
+            Integer previous = lastBuildNumbers.put(jobName, lastBuildNumber);
+            boolean mayHaveFinished = running.values().stream()
+                .anyMatch(watch -> watch.jobName.equals(jobName)
+                    && (watch.buildNumber != lastBuildNumber || !lastBuildRunning));
+
+            if (previous == null || previous != lastBuildNumber || mayHaveFinished) {
+                refresh.add(jobName);
+            }
+        }
+        return refresh;
+    }
+
+    // Job별 최근 빌드 목록 (조회에 실패한 Job은 이번 주기에서 제외하고 다음 주기에 다시 조회)
+    private Mono<Map<String, List<BuildResponse>>> fetchRecentBuilds(Set<String> jobNames) {
+        return Flux.fromIterable(jobNames)
+            .flatMap(jobName -> reactiveJenkinsClient.getBuilds(jobName, 0, RECENT_BUILD_WINDOW)
+                .map(builds -> Tuples.of(jobName, builds))
+                .onErrorResume(e -> {
+                    log.warn("Failed to poll builds of {} for completion: {}", jobName, e.getMessage());
+                    lastBuildNumbers.remove(jobName);
+                    return Mono.empty();
+                }), jenkinsProperties.getWatcherFetchConcurrency())
+            .collectMap(tuple -> tuple.getT1(), tuple -> tuple.getT2());
+    }
+
+    private Mono<Void> applyRecentBuilds(Map<String, List<BuildResponse>> recentBuilds) {
+        List<Long> unmatchedQueueIds = new ArrayList<>();
+        queued.forEach((queueId, watch) -> {
+            List<BuildResponse> builds = recentBuilds.getOrDefault(watch.jobName, List.of());
+            BuildResponse build = builds.stream()
+                .filter(candidate -> queueId.equals(candidate.getQueueId()))
+                .findFirst()
+                .orElse(null);
+            if (build == null) {
+                unmatchedQueueIds.add(queueId);
+            } else if (queued.remove(queueId, watch)) {
+                startWatching(watch, build);
+            }
+        });
+
+        List<String> missingBuilds = new ArrayList<>();
+        running.forEach((key, watch) -> {
+            List<BuildResponse> builds = recentBuilds.get(watch.jobName);
+            if (builds == null) {
+                return;
+            }
+
+            BuildResponse build = builds.stream()
+                .filter(candidate -> Objects.equals(candidate.getNumber(), watch.buildNumber))
+                .findFirst()
+                .orElse(null);
+            if (build == null) {
+                missingBuilds.add(key);
+            } else if (isFinished(build) && running.remove(key, watch)) {
+                complete(watch, build);
+            }
+        });
+
+        return Mono.when(
+            unmatchedQueueIds.isEmpty() ? Mono.empty() : checkLeftQueue(unmatchedQueueIds),
+            missingBuilds.isEmpty() ? Mono.empty() : fetchMissingBuilds(missingBuilds));
+    }
+
+    // 빌드 목록에서 찾지 못한 대기열 항목 중 대기열을 떠난 것만 개별 확인 (취소 또는 빌드 시작)
+    private Mono<Void> checkLeftQueue(List<Long> queueIds) {
+        return reactiveJenkinsClient.pollQueue()
+            .onErrorResume(e -> {
+                log.warn("Failed to poll queue for completion: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .flatMapMany(queue -> {
+                Set<Long> inQueue = new HashSet<>();
+                queue.forEach(item -> inQueue.add(item.getId()));
+
+                return Flux.fromIterable(queueIds)
+                    .filter(queueId -> !inQueue.contains(queueId))
+                    .flatMap(queueId -> reactiveJenkinsClient.getQueueItem(queueId)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(item -> onLeftQueue(queueId, item))
+                        .onErrorResume(e -> {
+                            log.debug("Failed to check queue item {}: {}", queueId, e.getMessage());
+                            return Mono.empty();
+                        }), jenkinsProperties.getWatcherFetchConcurrency());
+            })
+            .then();
+    }
+
+    private void onLeftQueue(Long queueId, QueueItemResponse item) {
+        Watch watch = queued.get(queueId);
+        if (watch == null) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(item.getCancelled())) {
+            if (queued.remove(queueId, watch)) {
+                watch.future.completeExceptionally(
+                    new JenkinsBuildException("Queued build was cancelled: " + watch.jobName + " (queue item " + queueId + ")"));
+            }
+        } else if (item.getExecutableNumber() != null && queued.remove(queueId, watch)) {
+            startWatching(watch, BuildResponse.builder()
+                .number(item.getExecutableNumber())
+                .building(true)
+                .build());
+        }
+    }
+
+    // 최근 빌드 범위를 벗어난 오래 실행 중인 빌드는 개별 조회
+    private Mono<Void> fetchMissingBuilds(List<String> keys) {
+        return Flux.fromIterable(keys)
+            .flatMap(key -> {
+                Watch watch = running.get(key);
+                if (watch == null) {
+                    return Mono.empty();
+                }
+                return reactiveJenkinsClient.getBuildInfo(watch.jobName, watch.buildNumber)
+                    .filter(BuildCompletionWatcher::isFinished)
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(build -> {
+                        if (running.remove(key, watch)) {
+                            complete(watch, build);
+                        }
+                    })
+                    .onErrorResume(e -> {
+                        log.debug("Failed to check build {}: {}", key, e.getMessage());
+                        return Mono.empty();
+                    });
+            }, jenkinsProperties.getWatcherFetchConcurrency())
+            .then();
+    }
+
+    // 대기열 항목이 빌드로 시작됨 → 완료됐으면 바로 완료, 아니면 실행 중 빌드로 옮김
+    private void startWatching(Watch queuedWatch, BuildResponse build) {
+        if (isFinished(build)) {
+            complete(queuedWatch, build);
+            return;
+        }
+
+        Watch runningWatch = new Watch(queuedWatch.jobName, build.getNumber(), queuedWatch.deadline);
+        Watch existing = running.putIfAbsent(JenkinsCacheNames.buildKey(queuedWatch.jobName, build.getNumber()), runningWatch);
+        (existing != null ? existing : runningWatch).future.whenComplete((completed, error) -> {
+            if (error != null) {
+                queuedWatch.future.completeExceptionally(error);
+            } else {
+                queuedWatch.future.complete(completed);
+            }
+        });
+    }
+
+    // 완료된 빌드를 기록 저장소에 알리고 대기 중인 호출자에게 전달
+    private void complete(Watch watch, BuildResponse build) {
+        eventPublisher.publishEvent(new FinishedBuildEvent(watch.jobName, List.of(build)));
+        watch.future.complete(build);
+    }
+
+    // 최대 대기 시간을 넘긴 감시 항목은 실패로 완료
+    private void expire(long now) {
+        expire(queued, now);
+        expire(running, now);
+    }
+
+    private static <K> void expire(Map<K, Watch> watches, long now) {
+        Map<K, Watch> expired = new HashMap<>();
+        watches.forEach((key, watch) -> {
+            if (watch.deadline <= now) {
+                expired.put(key, watch);
+            }
+        });
+
+        expired.forEach((key, watch) -> {
+            if (watches.remove(key, watch)) {
+                watch.future.completeExceptionally(
+                    new JenkinsBuildException("Timed out waiting for build of " + watch.jobName + " to complete"));
+            }
+        });
+    }
+
+    private long deadline() {
+        return System.currentTimeMillis() + jenkinsProperties.getWatcherTimeout();
+    }
+
+    private static boolean isFinished(BuildResponse build) {
+        return Boolean.FALSE.equals(build.getBuilding());
+    }
+
+    // 감시 항목 (같은 대상을 기다리는 호출자는 future를 공유하고 각자 copy()로 받음)
+    private static final class Watch {
+
+        private final String jobName;
+        private final Integer buildNumber;
+        private final long deadline;
+        private final CompletableFuture<BuildResponse> future = new CompletableFuture<>();
+
+        private Watch(String jobName, Integer buildNumber, long deadline) {
+            this.jobName = jobName;
+            this.buildNumber = buildNumber;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.dto.BuildHistoryResponse;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jenkins 빌드 이력 조회
+ * 빌드 번호 기준 커서(before, 미포함)로 페이지를 나누고, 필요한 구간만 allBuilds{from,to} 범위로 조회합니다.
+ * 빌드가 삭제되지 않았다면 빌드 N의 위치는 (lastBuild - N)이므로 이 값으로 범위를 추정하고,
+ * 범위 앞에 커서 빌드 하나를 더 받아 추정이 어긋났는지(중간 빌드 삭제) 확인해 보정합니다.
+ * 완료된 빌드는 빌드 캐시에 넣고 빌드 기록 저장소에도 저장해 두며,
+ * 페이지 전체가 캐시나 저장소에 있으면 Jenkins를 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class BuildHistoryService {
+
+    // 범위 추정 보정 최대 횟수
+    private static final int MAX_CORRECTIONS = 3;
+
+    private final JenkinsClient jenkinsClient;
+    private final BuildRecordStore buildRecordStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache buildCache;
+
+    public BuildHistoryService(JenkinsClient jenkinsClient,
+                               BuildRecordStore buildRecordStore,
+                               ApplicationEventPublisher eventPublisher,
+                               CacheManager cacheManager) {
+        this.jenkinsClient = jenkinsClient;
+        this.buildRecordStore = buildRecordStore;
+        this.eventPublisher = eventPublisher;
+        this.buildCache = cacheManager.getCache(JenkinsCacheNames.BUILDS);
+    }
+
+    // before보다 작은 번호의 빌드를 최신순으로 size개 조회 (before가 없으면 최신 빌드부터)
+    public BuildHistoryResponse getBuildHistory(String jobName, Integer before, int size) {
+        if (before != null) {
+            List<BuildResponse> stored = storedPage(jobName, before, size);
+            if (stored != null) {
+                return page(jobName, stored, before - size > 1);
+            }
+        }
+
+        int lastBuildNumber = jenkinsClient.getLastBuildNumber(jobName);
+        if (lastBuildNumber == 0) {
+            return page(jobName, List.of(), false);
+        }
+
+        int cursor = before == null ? lastBuildNumber + 1 : Math.min(before, lastBuildNumber + 1);
+        if (cursor <= 1) {
+            return page(jobName, List.of(), false);
+        }
+        if (before == null) {
+            List<BuildResponse> stored = storedPage(jobName, cursor, size);
+            if (stored != null) {
+                return page(jobName, stored, cursor - size > 1);
+            }
+        }
+
+        List<BuildResponse> below = fetchBelow(jobName, lastBuildNumber, cursor, size);
+        below.forEach(build -> JenkinsCacheNames.cacheIfFinished(buildCache, jobName, build));
+        eventPublisher.publishEvent(new FinishedBuildEvent(jobName, below));
+
+        boolean hasMore = below.size() > size;
+        return page(jobName, hasMore ? below.subList(0, size) : below, hasMore);
+    }
+
+    // 캐시/저장소를 거치지 않고 Jenkins에서 before보다 작은 번호의 빌드를 최신순으로 최대 size개 조회 (일괄 동기화용)
+    public List<BuildResponse> fetchFromJenkins(String jobName, int before, int size) {
+        int lastBuildNumber = jenkinsClient.getLastBuildNumber(jobName);
+        int cursor = Math.min(before, lastBuildNumber + 1);
+        if (cursor <= 1) {
+            return List.of();
+        }
+
+        List<BuildResponse> below = fetchBelow(jobName, lastBuildNumber, cursor, size);
+        return below.size() > size ? below.subList(0, size) : below;
+    }
+
+    // cursor 바로 아래 번호부터 size+1개(다음 페이지 존재 확인용)를 조회
+    private List<BuildResponse> fetchBelow(String jobName, int lastBuildNumber, int cursor, int size) {
+        // 커서 빌드(또는 그 위치)를 첫 원소로 받도록 한 칸 앞에서 시작
+        int from = Math.max(0, lastBuildNumber - cursor);
+        int to = from + size + 2;
+
+        List<BuildResponse> fetched = jenkinsClient.getBuilds(jobName, from, to);
+        for (int attempt = 0; attempt < MAX_CORRECTIONS && from > 0 && !coversCursor(fetched, cursor); attempt++) {
+            // 중간 빌드가 삭제돼 실제 위치가 추정보다 앞에 있음 → 빠진 번호 수만큼 앞으로 넓혀 다시 조회
+            int shift = fetched.isEmpty() ? size + 1 : cursor - fetched.get(0).getNumber();
+            from = Math.max(0, from - shift);
+            fetched = jenkinsClient.getBuilds(jobName, from, to);
+        }
+        if (from > 0 && !coversCursor(fetched, cursor)) {
+            log.debug("Build history range for {} below #{} could not be aligned after {} corrections",
+                jobName, cursor, MAX_CORRECTIONS);
+        }
+
+        List<BuildResponse> below = new ArrayList<>(size + 1);
+        for (BuildResponse build : fetched) {
+            if (build.getNumber() != null && build.getNumber() < cursor && below.size() <= size) {
+                below.add(build);
+            }
+        }
+        return below;
+    }
+
+    // 첫 원소가 커서 이상이면 커서 아래 빌드를 빠짐없이 받은 것
+    private static boolean coversCursor(List<BuildResponse> fetched, int cursor) {
+        return !fetched.isEmpty() && fetched.get(0).getNumber() != null && fetched.get(0).getNumber() >= cursor;
+    }
+
+    // 캐시, 빌드 기록 저장소 순으로 cursor 아래 연속된 size개 번호를 찾음 (없으면 null)
+    private List<BuildResponse> storedPage(String jobName, int cursor, int size) {
+        List<BuildResponse> cached = cachedPage(jobName, cursor, size);
+        if (cached != null) {
+            return cached;
+        }
+        return buildRecordStore.findContiguousPage(jobName, cursor, size).orElse(null);
+    }
+
+    // cursor 아래 연속된 size개 번호가 모두 캐시에 있으면 반환 (하나라도 없으면 null)
+    private List<BuildResponse> cachedPage(String jobName, int cursor, int size) {
+        if (buildCache == null || cursor - size < 1) {
+            return null;
+        }
+
+        List<BuildResponse> builds = new ArrayList<>(size);
+        for (int number = cursor - 1; number >= cursor - size; number--) {
+            BuildResponse build = buildCache.get(JenkinsCacheNames.buildKey(jobName, number), BuildResponse.class);
+            if (build == null) {
+                return null;
+            }
+            builds.add(build);
+        }
+        return builds;
+    }
+
+    private static BuildHistoryResponse page(String jobName, List<BuildResponse> builds, boolean hasMore) {
+        return BuildHistoryResponse.builder()
+            .jobName(jobName)
+            .builds(builds)
+            .nextBefore(hasMore && !builds.isEmpty() ? builds.get(builds.size() - 1).getNumber() : null)
+            .hasMore(hasMore && !builds.isEmpty())
+            .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.BusinessException;
+import com.modi.core.exception.ResourceNotFoundException;
+import com.modi.core.jenkins.batch.BuildHistorySyncJobConfig;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildHistorySyncResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jenkins 빌드 이력 동기화 배치 실행/재시작/상태 조회
+ * 배치는 별도 스레드에서 비동기로 실행하고 실행 ID를 바로 반환합니다.
+ * historySyncCron을 설정하면 주기적으로 증분 동기화를 실행하며, 이전 실행이 끝나지 않았으면 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class BuildHistorySyncService implements SchedulingConfigurer {
+
+    private static final String REQUESTED_AT_PARAMETER = "requestedAt";
+
+    private final Job buildHistorySyncJob;
+    private final JobExplorer jobExplorer;
+    private final JenkinsProperties jenkinsProperties;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public BuildHistorySyncService(Job buildHistorySyncJob,
+                                   JobRepository jobRepository,
+                                   JobExplorer jobExplorer,
+                                   JenkinsProperties jenkinsProperties) {
+        this.buildHistorySyncJob = buildHistorySyncJob;
+        this.jobExplorer = jobExplorer;
+        this.jenkinsProperties = jenkinsProperties;
+
+        // 요청 스레드를 붙잡지 않도록 비동기 실행 (기본 JobLauncher는 동기 실행)
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.setTaskExecutor(new SimpleAsyncTaskExecutor("history-sync-job-"));
+        this.jobLauncher = launcher;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        String cron = jenkinsProperties.getHistorySyncCron();
+        if (cron == null || cron.isBlank() || ScheduledTaskRegistrar.CRON_DISABLED.equals(cron)) {
+            return;
+        }
+        taskRegistrar.addTriggerTask(this::startScheduled, new CronTrigger(cron));
+    }
+
+    // 새 동기화 실행 (이전 실행 이후 새로 생긴 빌드만 읽음, 처음이면 전체 백필)
+    public BuildHistorySyncResponse start() {
+        JobParameters parameters = new JobParametersBuilder()
+            .addLocalDateTime(REQUESTED_AT_PARAMETER, LocalDateTime.now())
+            .toJobParameters();
+
+        return toResponse(launch(parameters));
+    }
+
+    // 실패/중단된 실행을 같은 파라미터로 재시작 (완료된 Job은 건너뛰고 마지막 커밋 지점부터 이어서 읽음)
+    public BuildHistorySyncResponse restart(long executionId) {
+        JobExecution previous = findExecution(executionId);
+
+        return toResponse(launch(previous.getJobParameters()));
+    }
+
+    // 실행 상태 조회
+    public BuildHistorySyncResponse getStatus(long executionId) {
+        return toResponse(findExecution(executionId));
+    }
+
+    private void startScheduled() {
+        if (!jobExplorer.findRunningJobExecutions(BuildHistorySyncJobConfig.JOB_NAME).isEmpty()) {
+            log.debug("Build history sync is still running, skipping scheduled run");
+            return;
+        }
+        try {
+            start();
+        } catch (RuntimeException e) {
+            log.warn("Failed to start scheduled build history sync: {}", e.getMessage());
+        }
+    }
+
+    private JobExecution launch(JobParameters parameters) {
+        try {
+            return jobLauncher.run(buildHistorySyncJob, parameters);
+        } catch (JobExecutionException e) {
+            // 이미 실행 중이거나 완료된 실행을 재시작하는 경우 등
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Cannot run build history sync: " + e.getMessage());
+        }
+    }
+
+    private JobExecution findExecution(long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || !BuildHistorySyncJobConfig.JOB_NAME.equals(execution.getJobInstance().getJobName())) {
+            throw new ResourceNotFoundException("Build history sync execution not found: " + executionId);
+        }
+        return execution;
+    }
+
+    private static BuildHistorySyncResponse toResponse(JobExecution execution) {
+        int jobCount = 0;
+        long readCount = 0;
+        long writeCount = 0;
+
+        // 관리 스텝을 제외한 파티션(워커) 스텝만 합산
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStepName().contains(":")) {
+                jobCount++;
+                readCount += step.getReadCount();
+                writeCount += step.getWriteCount();
+            }
+        }
+
+        return BuildHistorySyncResponse.builder()
+            .executionId(execution.getId())
+            .status(execution.getStatus().name())
+            .startTime(execution.getStartTime())
+            .endTime(execution.getEndTime())
+            .exitDescription(execution.getExitStatus().getExitDescription())
+            .jobCount(jobCount)
+            .readCount(readCount)
+            .writeCount(writeCount)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 빌드 로그를 SSE로 tail 하는 서비스
+ * 같은 (Job, 빌드)에 대한 구독자들은 처음(오프셋 0)부터 폴링하는 하나의 업스트림 세션을 공유합니다.
+ * 구독자의 Last-Event-ID(이미 받은 오프셋)를 공유 세션의 버퍼로 이어 줄 수 없으면, 그 구독자만을 위한 세션을 그 위치부터 폴링합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BuildLogTailService {
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<String, LogTailSession> sessions = new ConcurrentHashMap<>();
+
+    // 공유 세션으로 이어 줄 수 없는 구독자 한 명씩을 위한 세션
+    private final Set<LogTailSession> privateSessions = ConcurrentHashMap.newKeySet();
+
+    // 빌드 로그 tail 구독
+    public SseEmitter subscribe(String jobName, int buildNumber, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(jenkinsProperties.getLogTailTimeout());
+        String key = jobName + "#" + buildNumber;
+
+        while (true) {
+            LogTailSession session = sessions.computeIfAbsent(key,
+                k -> createSession(k, jobName, buildNumber, 0L, closed -> sessions.remove(k, closed)));
+
+            switch (session.subscribe(emitter, lastEventId)) {
+                case SUBSCRIBED -> {
+                    registerCallbacks(emitter, session);
+                    return emitter;
+                }
+                case OUT_OF_RANGE -> {
+                    return subscribePrivate(emitter, key, jobName, buildNumber, lastEventId);
+                }
+                // 종료 중인 세션이면 제거 후 새 세션으로 재시도
+                case CLOSED -> sessions.remove(key, session);
+            }
+        }
+    }
+
+    // 현재 활성화된 tail 세션 수
+    public int getActiveSessionCount() {
+        return sessions.size() + privateSessions.size();
+    }
+
+    // 구독자가 받은 위치부터 폴링하는 개별 세션 (새 세션은 시작 위치에서 바로 이어 주므로 항상 등록됨)
+    private SseEmitter subscribePrivate(SseEmitter emitter, String key, String jobName, int buildNumber, Long lastEventId) {
+        long startOffset = lastEventId != null ? lastEventId : 0L;
+        LogTailSession session = createSession(key, jobName, buildNumber, startOffset, privateSessions::remove);
+        privateSessions.add(session);
+
+        session.subscribe(emitter, lastEventId);
+        registerCallbacks(emitter, session);
+        return emitter;
+    }
+
+    private void registerCallbacks(SseEmitter emitter, LogTailSession session) {
+        emitter.onCompletion(() -> session.unsubscribe(emitter));
+        emitter.onTimeout(() -> session.unsubscribe(emitter));
+        emitter.onError(e -> session.unsubscribe(emitter));
+    }
+
+    private LogTailSession createSession(String key, String jobName, int buildNumber, long startOffset,
+                                         Consumer<LogTailSession> onClose) {
+        log.debug("Start tailing build log {} from offset {}", key, startOffset);
+
+        return new LogTailSession(reactiveJenkinsClient, jobName, buildNumber, startOffset,
+            jenkinsProperties.getLogTailBufferSize(), taskScheduler,
+            Duration.ofMillis(jenkinsProperties.getLogTailPollInterval()), onClose);
+    }
+}
@@ -0,0 +1,368 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.QueueChangeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modi.core.jenkins.event.QueueChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빌드 대기열 모니터
+ * 대기열을 백그라운드에서 주기적으로 조회해 직전 상태와 비교하고, 새로 들어온/바뀐/떠난 항목만 구독자에게 보냅니다.
+ * 항목이 대기열을 떠날 때 Job별 대기 시간을 Micrometer Timer(jenkins.queue.wait)로 기록합니다.
+ * 최신 대기열은 불변 스냅샷으로 보관해 maxStaleness 이내의 조회는 Jenkins를 다시 호출하지 않습니다.
+ * Jenkins 대기열 이벤트는 스냅샷에 바로 반영하고, 이벤트를 받는 동안 폴링은 느린 보정 주기로만 실행합니다.
+ * 이미 떠난 항목은 기억해 두어 늦게 도착한 조회 결과나 이벤트가 되살리지 못하게 합니다.
+ * 변경분은 스냅샷을 교체하는 잠금 안에서 순번을 매겨 단일 스트림에 넣고 그 순서대로 전달하므로,
+ * 이벤트 반영과 폴링이 겹쳐도 구독자는 스냅샷이 바뀐 순서 그대로 변경분을 받습니다.
+ * 공유 스케줄러에서 주기적으로 대기열을 조회하므로 jenkins.queue-monitor-enabled=true일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jenkins", name = "queue-monitor-enabled", havingValue = "true")
+public class BuildQueueMonitor implements SchedulingConfigurer {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String CHANGES_EVENT = "changes";
+
+    // 떠난 항목을 기억하는 기간 (Jenkins가 떠난 항목을 보관하는 시간보다 충분히 길게)
+    private static final Duration DEPARTED_RETENTION = Duration.ofMinutes(30);
+
+    private static final SyncedSnapshot<QueueState> EMPTY = SyncedSnapshot.empty(QueueState.EMPTY);
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final JenkinsEventActivity eventActivity;
+
+    // 구독자 → 구독 시 snapshot 이벤트에 반영된 순번 (그 이하의 변경분은 보내지 않음)
+    private final Map<SseEmitter, Long> subscribers = new ConcurrentHashMap<>();
+
+    // 순번 순서대로 변경분을 전달하는 스트림 (updateLock 안에서만 넣음)
+    private final Sinks.Many<QueueChangeResponse> changeSink = Sinks.many().unicast().onBackpressureBuffer();
+    private final Cache<Long, Boolean> departed = Caffeine.newBuilder()
+        .expireAfterWrite(DEPARTED_RETENTION)
+        .build();
+
+    // queueId → 이벤트로 마지막 반영한 시각 (이벤트보다 먼저 시작한 조회가 그 항목을 떠난 것으로 보지 않도록)
+    private final Cache<Long, Long> eventAppliedAt = Caffeine.newBuilder()
+        .expireAfterWrite(DEPARTED_RETENTION)
+        .build();
+
+    // 스냅샷 교체(폴링/이벤트)를 직렬화하는 잠금
+    private final Object updateLock = new Object();
+    private volatile SyncedSnapshot<QueueState> snapshot = EMPTY;
+
+    // 마지막으로 매긴 변경 순번 (updateLock 안에서만 갱신)
+    private long sequence;
+
+    public BuildQueueMonitor(ReactiveJenkinsClient reactiveJenkinsClient,
+                             JenkinsProperties jenkinsProperties,
+                             ApplicationEventPublisher eventPublisher,
+                             JenkinsEventActivity eventActivity,
+                             MeterRegistry meterRegistry) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.eventPublisher = eventPublisher;
+        this.eventActivity = eventActivity;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("jenkins.queue.size", this, monitor -> monitor.snapshot.state().items.size())
+            .description("Items waiting in the Jenkins build queue")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.queue.blocked", this, monitor -> monitor.snapshot.state().blockedCount)
+            .description("Blocked items in the Jenkins build queue")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.queue.subscribers", subscribers, Map::size)
+            .description("Clients subscribed to Jenkins build queue changes")
+            .register(meterRegistry);
+
+        // 전달(이벤트 발행, SSE 전송)은 잠금 밖 하나의 워커에서 순번 순서대로
+        changeSink.asFlux()
+            .publishOn(Schedulers.boundedElastic())
+            .subscribe(this::deliver, e -> log.error("Queue change delivery stopped", e));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        Integer interval = jenkinsProperties.getQueueMonitorInterval();
+        if (interval != null && interval > 0) {
+            taskRegistrar.addTriggerTask(this::sync, this::nextExecution);
+        }
+    }
+
+    // 대기열 (스냅샷이 maxStaleness보다 오래됐으면 empty)
+    public Optional<List<QueueItemResponse>> getQueue(Duration maxStaleness) {
+        SyncedSnapshot<QueueState> current = snapshot;
+
+        return current.isFresh(maxStaleness) ? Optional.of(current.state().itemList) : Optional.empty();
+    }
+
+    // 대기열 변경 구독 (구독 즉시 현재 대기열 전체를 snapshot 이벤트로, 이후 변경분만 changes 이벤트로 전송)
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(jenkinsProperties.getQueueStreamTimeout());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+
+        // 스냅샷을 읽고 구독자로 등록하는 사이에 교체가 끼어들면 그 변경분을 놓치므로 같은 잠금 안에서 처리
+        // (반환 전 emitter는 보낸 이벤트를 버퍼에만 담으므로 잠금을 오래 잡지 않음, 스냅샷에 이미 반영된 순번의 변경분은 건너뜀)
+        synchronized (updateLock) {
+            SyncedSnapshot<QueueState> current = snapshot;
+            try {
+                emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(QueueChangeResponse.builder()
+                    .sequence(sequence)
+                    .syncedAt(current.syncedAt())
+                    .added(current.state().itemList)
+                    .updated(List.of())
+                    .left(List.of())
+                    .build()));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            subscribers.put(emitter, sequence);
+        }
+        return emitter;
+    }
+
+    // 대기열 이벤트 반영 (left=true면 대기열을 떠난 항목, 이미 떠난 항목의 이벤트는 무시)
+    public void applyEvent(QueueItemResponse item, boolean left) {
+        if (item.getId() == null) {
+            return;
+        }
+
+        synchronized (updateLock) {
+            // 떠난 항목 확인도 잠금 안에서 (동시에 진행된 조회가 먼저 떠난 것으로 처리했으면 중복으로 보내지 않음)
+            if (departed.getIfPresent(item.getId()) != null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            SyncedSnapshot<QueueState> previous = snapshot;
+            Map<Long, QueueItemResponse> current = new LinkedHashMap<>(previous.state().items);
+            QueueItemResponse before = current.get(item.getId());
+
+            QueueChangeResponse.QueueChangeResponseBuilder builder = QueueChangeResponse.builder()
+                .syncedAt(now)
+                .added(List.of())
+                .updated(List.of())
+                .left(List.of());
+            if (!left) {
+                eventAppliedAt.put(item.getId(), now);
+            }
+            if (left) {
+                departed.put(item.getId(), Boolean.TRUE);
+                current.remove(item.getId());
+                QueueItemResponse known = before != null ? before : item;
+                Long waitMillis = known.getInQueueSince() != null ? Math.max(0, now - known.getInQueueSince()) : null;
+                builder.left(List.of(QueueChangeResponse.LeftItem.builder()
+                    .id(item.getId())
+                    .jobName(known.getJobName())
+                    .waitMillis(waitMillis)
+                    .build()));
+                recordWait(known.getJobName(), waitMillis);
+            } else if (before == null) {
+                current.put(item.getId(), item);
+                builder.added(List.of(item));
+            } else if (changed(before, item)) {
+                current.put(item.getId(), item);
+                builder.updated(List.of(item));
+            } else {
+                return;
+            }
+
+            // 이벤트만으로는 전체 대기열을 확인한 것이 아니므로 동기화 시각은 유지
+            snapshot = previous.withState(QueueState.of(current));
+            emit(builder);
+        }
+    }
+
+    void sync() {
+        List<QueueItemResponse> items;
+        long fetchStartedAt = System.currentTimeMillis();
+        try {
+            items = reactiveJenkinsClient.pollQueue().block();
+        } catch (RuntimeException e) {
+            log.warn("Build queue sync failed: {}", e.getMessage());
+            return;
+        }
+        if (items == null) {
+            return;
+        }
+
+        synchronized (updateLock) {
+            QueueChangeResponse.QueueChangeResponseBuilder changes = diff(items, fetchStartedAt);
+            if (changes != null) {
+                emit(changes);
+            }
+        }
+    }
+
+    // 조회 결과를 스냅샷과 비교해 교체하고 변경분 반환 (첫 조회거나 바뀐 항목이 없으면 null)
+    private QueueChangeResponse.QueueChangeResponseBuilder diff(List<QueueItemResponse> items, long fetchStartedAt) {
+        long now = System.currentTimeMillis();
+        SyncedSnapshot<QueueState> previous = snapshot;
+        Map<Long, QueueItemResponse> current = new LinkedHashMap<>();
+        for (QueueItemResponse item : items) {
+            if (item.getId() != null && departed.getIfPresent(item.getId()) == null) {
+                current.put(item.getId(), item);
+            }
+        }
+
+        // 조회를 시작한 뒤 이벤트로 들어온 항목은 조회 결과에 없어도 유지
+        previous.state().items.forEach((id, item) -> {
+            Long appliedAt = eventAppliedAt.getIfPresent(id);
+            if (appliedAt != null && appliedAt >= fetchStartedAt) {
+                current.putIfAbsent(id, item);
+            }
+        });
+
+        List<QueueItemResponse> added = new ArrayList<>();
+        List<QueueItemResponse> updated = new ArrayList<>();
+        current.forEach((id, item) -> {
+            QueueItemResponse before = previous.state().items.get(id);
+            if (before == null) {
+                added.add(item);
+            } else if (changed(before, item)) {
+                updated.add(item);
+            }
+        });
+
+        List<QueueChangeResponse.LeftItem> left = new ArrayList<>();
+        previous.state().items.forEach((id, item) -> {
+            if (!current.containsKey(id)) {
+                departed.put(id, Boolean.TRUE);
+                Long waitMillis = item.getInQueueSince() != null ? Math.max(0, now - item.getInQueueSince()) : null;
+                left.add(QueueChangeResponse.LeftItem.builder()
+                    .id(id)
+                    .jobName(item.getJobName())
+                    .waitMillis(waitMillis)
+                    .build());
+                recordWait(item.getJobName(), waitMillis);
+            }
+        });
+
+        snapshot = added.isEmpty() && updated.isEmpty() && left.isEmpty()
+            ? previous.verifiedAt(now)
+            : new SyncedSnapshot<>(QueueState.of(current), now);
+
+        // 첫 조회는 기준 상태이므로 변경분으로 보내지 않음 (구독자는 구독 시 snapshot 이벤트로 받음)
+        if (previous == EMPTY || (added.isEmpty() && updated.isEmpty() && left.isEmpty())) {
+            return null;
+        }
+
+        return QueueChangeResponse.builder()
+            .syncedAt(now)
+            .added(added)
+            .updated(updated)
+            .left(left);
+    }
+
+    // 순번을 매겨 전달 스트림에 넣음 (updateLock을 잡은 상태에서 호출하므로 넣는 순서가 곧 순번 순서)
+    private void emit(QueueChangeResponse.QueueChangeResponseBuilder changes) {
+        Sinks.EmitResult result = changeSink.tryEmitNext(changes.sequence(++sequence).build());
+        if (result.isFailure()) {
+            log.warn("Failed to queue build queue change {}: {}", sequence, result);
+        }
+    }
+
+    private void deliver(QueueChangeResponse changes) {
+        try {
+            eventPublisher.publishEvent(new QueueChangedEvent(changes));
+        } catch (RuntimeException e) {
+            log.warn("Queue change listener failed: {}", e.getMessage());
+        }
+        broadcast(changes);
+    }
+
+    private static boolean changed(QueueItemResponse before, QueueItemResponse after) {
+        return !Objects.equals(before.getWhy(), after.getWhy())
+            || !Objects.equals(before.getBlocked(), after.getBlocked())
+            || !Objects.equals(before.getBuildable(), after.getBuildable());
+    }
+
+    private Instant nextExecution(TriggerContext triggerContext) {
+        Instant lastCompletion = triggerContext.lastCompletion();
+        long interval = eventActivity.pollInterval(jenkinsProperties.getQueueMonitorInterval());
+
+        return lastCompletion == null ? Instant.now() : lastCompletion.plusMillis(interval);
+    }
+
+    private void recordWait(String jobName, Long waitMillis) {
+        if (waitMillis == null) {
+            return;
+        }
+        Timer.builder("jenkins.queue.wait")
+            .description("Time builds spent in the Jenkins queue before starting or being cancelled")
+            .tag("job", jobName != null ? jobName : "unknown")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(waitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void broadcast(QueueChangeResponse changes) {
+        for (Map.Entry<SseEmitter, Long> subscriber : subscribers.entrySet()) {
+            SseEmitter emitter = subscriber.getKey();
+            if (changes.getSequence() <= subscriber.getValue()) {
+                continue;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(CHANGES_EVENT).data(changes));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 대기 중인 항목 (queueId 순서 유지)과 차단된 항목 수
+    private static final class QueueState {
+
+        private static final QueueState EMPTY = new QueueState(Map.of(), List.of(), 0);
+
+        private final Map<Long, QueueItemResponse> items;
+        private final List<QueueItemResponse> itemList;
+        private final int blockedCount;
+
+        private QueueState(Map<Long, QueueItemResponse> items, List<QueueItemResponse> itemList, int blockedCount) {
+            this.items = items;
+            this.itemList = itemList;
+            this.blockedCount = blockedCount;
+        }
+
+        static QueueState of(Map<Long, QueueItemResponse> items) {
+            int blocked = (int) items.values().stream().filter(item -> Boolean.TRUE.equals(item.getBlocked())).count();
+
+            return new QueueState(Collections.unmodifiableMap(items), List.copyOf(items.values()), blocked);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.modi.core.jenkins.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.entity.BuildRecord;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import com.modi.core.jenkins.repository.BuildRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 완료된 빌드 기록 저장소
+ * Jenkins에서 완료된 빌드를 조회할 때마다 발행되는 FinishedBuildEvent를 모아 두었다가,
+ * 주기적으로 (job, number) 기준 JDBC 일괄 upsert로 저장해 요청 경로에서 DB 쓰기를 분리합니다.
+ * 이력/분석 조회는 Jenkins 대신 이 저장소를 먼저 사용하며, DB 오류 시에는 저장된 기록이 없는 것으로 보고 Jenkins 조회로 넘어갑니다.
+ * 테이블 DDL은 resources/db/jenkins-schema.sql 입니다.
+ */
+@Slf4j
+@Component
+public class BuildRecordStore implements SchedulingConfigurer {
+
+    // upsert SQL (MariaDB 문법, 테스트용 H2는 MODE=MariaDB로 실행)
+    private static final String UPSERT_SQL = """
+        INSERT INTO jenkins_build_record
+            (job_name, build_number, result, duration, estimated_duration, started_at, queue_id, url, parameters,
+             user_id, description, create_dt, update_dt)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            result = VALUES(result),
+            duration = VALUES(duration),
+            estimated_duration = VALUES(estimated_duration),
+            started_at = VALUES(started_at),
+            queue_id = VALUES(queue_id),
+            url = VALUES(url),
+            parameters = VALUES(parameters),
+            user_id = VALUES(user_id),
+            description = VALUES(description),
+            update_dt = VALUES(update_dt)
+        """;
+
+    // 저장 대기 최대 건수 (DB 장애로 쌓이기만 할 때 메모리 보호, 초과분은 버리고 다음 동기화에서 다시 받음)
+    private static final int MAX_PENDING = 100_000;
+
+    private static final TypeReference<Map<String, String>> PARAMETERS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BuildRecordRepository buildRecordRepository;
+    private final JenkinsProperties jenkinsProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Queue<PendingRecord> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public BuildRecordStore(JdbcTemplate jdbcTemplate,
+                            BuildRecordRepository buildRecordRepository,
+                            JenkinsProperties jenkinsProperties,
+                            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buildRecordRepository = buildRecordRepository;
+        this.jenkinsProperties = jenkinsProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, Duration.ofMillis(jenkinsProperties.getHistoryStoreFlushInterval()));
+    }
+
+    // 완료된 빌드만 저장 대기열에 추가
+    @EventListener
+    public void onFinishedBuilds(FinishedBuildEvent event) {
+        for (BuildResponse build : event.builds()) {
+            if (build.getNumber() == null || !Boolean.FALSE.equals(build.getBuilding())) {
+                continue;
+            }
+            if (!enqueue(new PendingRecord(event.jobName(), build))) {
+                log.warn("Build record buffer is full, dropping {}#{}", event.jobName(), build.getNumber());
+            }
+        }
+    }
+
+    // 대기 중인 기록을 배치 크기 단위로 저장 (실패한 배치는 대기열에 되돌려 다음 주기에 다시 시도)
+    void flush() {
+        int batchSize = jenkinsProperties.getHistoryStoreBatchSize();
+
+        while (!pending.isEmpty()) {
+            List<PendingRecord> batch = new ArrayList<>(batchSize);
+            PendingRecord record;
+            while (batch.size() < batchSize && (record = pending.poll()) != null) {
+                batch.add(record);
+            }
+            pendingCount.addAndGet(-batch.size());
+
+            try {
+                upsert(batch);
+            } catch (RuntimeException e) {
+                int dropped = 0;
+                for (PendingRecord failed : batch) {
+                    if (!enqueue(failed)) {
+                        dropped++;
+                    }
+                }
+                log.warn("Failed to store {} build records, retrying next flush ({} dropped, buffer full): {}",
+                    batch.size(), dropped, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // 저장 대기열에 추가 (MAX_PENDING을 넘으면 false)
+    private boolean enqueue(PendingRecord record) {
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        pending.add(record);
+        return true;
+    }
+
+    // Job의 완료된 빌드를 바로 저장 (일괄 동기화 등 이미 배치로 모은 경우)
+    public void upsert(String jobName, List<BuildResponse> builds) {
+        List<PendingRecord> records = new ArrayList<>(builds.size());
+        for (BuildResponse build : builds) {
+            if (build.getNumber() != null && Boolean.FALSE.equals(build.getBuilding())) {
+                records.add(new PendingRecord(jobName, build));
+            }
+        }
+        if (!records.isEmpty()) {
+            upsert(records);
+        }
+    }
+
+    // before 아래 연속된 size개 번호가 모두 저장돼 있으면 최신순으로 반환
+    public Optional<List<BuildResponse>> findContiguousPage(String jobName, int before, int size) {
+        if (before - size < 1) {
+            return Optional.empty();
+        }
+
+        List<BuildRecord> records;
+        try {
+            records = buildRecordRepository.findByJobNameAndBuildNumberLessThanOrderByBuildNumberDesc(
+                jobName, before, PageRequest.of(0, size));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read build records of {} below #{}, falling back to Jenkins: {}", jobName, before, e.getMessage());
+            return Optional.empty();
+        }
+        if (records.size() < size || records.get(records.size() - 1).getBuildNumber() != before - size) {
+            return Optional.empty();
+        }
+        return Optional.of(records.stream().map(this::toResponse).toList());
+    }
+
+    // 저장된 가장 큰 빌드 번호 (없거나 DB 오류면 0 - 처음부터 Jenkins에서 다시 읽음)
+    public int findHighWaterMark(String jobName) {
+        Integer max;
+        try {
+            max = buildRecordRepository.findMaxBuildNumber(jobName);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read high water mark of {}, syncing from the first build: {}", jobName, e.getMessage());
+            return 0;
+        }
+
+        return max != null ? max : 0;
+    }
+
+    private void upsert(List<PendingRecord> records) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, records, jenkinsProperties.getHistoryStoreBatchSize(), (ps, record) -> {
+            BuildResponse build = record.build();
+            ps.setString(1, record.jobName());
+            ps.setInt(2, build.getNumber());
+            ps.setObject(3, build.getResult(), Types.VARCHAR);
+            ps.setObject(4, build.getDuration(), Types.BIGINT);
+            ps.setObject(5, build.getEstimatedDuration(), Types.BIGINT);
+            ps.setObject(6, build.getTimestamp(), Types.BIGINT);
+            ps.setObject(7, build.getQueueId(), Types.BIGINT);
+            ps.setObject(8, build.getUrl(), Types.VARCHAR);
+            ps.setObject(9, writeParameters(build.getParameters()), Types.VARCHAR);
+            ps.setObject(10, build.getUserId(), Types.VARCHAR);
+            ps.setObject(11, build.getDescription(), Types.VARCHAR);
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+
+    private BuildResponse toResponse(BuildRecord record) {
+        return BuildResponse.builder()
+            .number(record.getBuildNumber())
+            .url(record.getUrl())
+            .result(record.getResult())
+            .building(false)
+            .duration(record.getDuration())
+            .estimatedDuration(record.getEstimatedDuration())
+            .timestamp(record.getStartedAt())
+            .parameters(readParameters(record.getParameters()))
+            .userId(record.getUserId())
+            .description(record.getDescription())
+            .queueId(record.getQueueId())
+            .build();
+    }
+
+    private String writeParameters(Map<String, String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize build parameters", e);
+        }
+    }
+
+    private Map<String, String> readParameters(String parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(parameters, PARAMETERS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable build parameters: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private record PendingRecord(String jobName, BuildResponse build) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildRequest;
+import com.modi.core.jenkins.dto.BulkBuildResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Jenkins 빌드 일괄 실행
+ * 요청마다 실행 간격(초당 최대 실행 수)을 두고, 동시에 진행 중인 요청 수도 제한해 Jenkins에 한꺼번에 몰리지 않게 합니다.
+ * 실행 응답의 Queue ID는 같은 파이프라인 안에서 비동기로 대기열 항목을 조회해 실제 상태로 채웁니다.
+ * 빌드별 실패는 해당 항목의 error로만 기록하고 나머지 결과는 그대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class BulkBuildService {
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final Cache jobsCache;
+    private final Cache jobCache;
+
+    public BulkBuildService(ReactiveJenkinsClient reactiveJenkinsClient,
+                            JenkinsProperties jenkinsProperties,
+                            CacheManager cacheManager) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.jobsCache = cacheManager.getCache(JenkinsCacheNames.JOBS);
+        this.jobCache = cacheManager.getCache(JenkinsCacheNames.JOB);
+    }
+
+    public Mono<BulkBuildResponse> triggerBuilds(List<BuildRequest> requests, boolean resolveQueue) {
+        Flux<Tuple2<Long, BuildRequest>> paced = Flux.fromIterable(requests).index();
+
+        int rate = jenkinsProperties.getBulkTriggerRate();
+        if (rate > 0) {
+            paced = paced.delayElements(Duration.ofNanos(1_000_000_000L / rate));
+        }
+
+        return paced
+            .flatMap(indexed -> trigger(indexed.getT2(), resolveQueue)
+                .map(item -> new IndexedItem(indexed.getT1(), item)), jenkinsProperties.getBulkTriggerConcurrency())
+            .sort(Comparator.comparingLong(IndexedItem::index))
+            .map(IndexedItem::item)
+            .collectList()
+            .doOnNext(this::evictTriggeredJobs)
+            .map(BulkBuildService::summarize);
+    }
+
+    private Mono<BulkBuildResponse.Item> trigger(BuildRequest request, boolean resolveQueue) {
+        Mono<QueueItemResponse> triggered = reactiveJenkinsClient.triggerBuild(request);
+        if (resolveQueue) {
+            triggered = triggered.flatMap(reactiveJenkinsClient::resolveQueueItem);
+        }
+
+        return triggered
+            .map(queueItem -> BulkBuildResponse.Item.builder()
+                .jobName(request.getJobName())
+                .queueItem(queueItem)
+                .build())
+            .onErrorResume(e -> {
+                log.warn("Failed to trigger build for {} in bulk: {}", request.getJobName(), e.getMessage());
+                return Mono.just(BulkBuildResponse.Item.builder()
+                    .jobName(request.getJobName())
+                    .error(e.getMessage())
+                    .build());
+            });
+    }
+
+    // 빌드를 실행한 Job의 캐시 무효화 (단건 실행의 @CacheEvict와 같은 범위)
+    private void evictTriggeredJobs(List<BulkBuildResponse.Item> items) {
+        boolean anyTriggered = false;
+        for (BulkBuildResponse.Item item : items) {
+            if (item.getError() == null) {
+                anyTriggered = true;
+                if (jobCache != null) {
+                    jobCache.evict(item.getJobName());
+                }
+            }
+        }
+        if (anyTriggered && jobsCache != null) {
+            jobsCache.clear();
+        }
+    }
+
+    private static BulkBuildResponse summarize(List<BulkBuildResponse.Item> items) {
+        int failed = (int) items.stream().filter(item -> item.getError() != null).count();
+
+        return BulkBuildResponse.builder()
+            .results(items)
+            .triggered(items.size() - failed)
+            .failed(failed)
+            .build();
+    }
+
+    private record IndexedItem(long index, BulkBuildResponse.Item item) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.JenkinsControllerRegistry;
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.FederatedResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 여러 Jenkins 컨트롤러 연합 조회
+ * 등록된 모든 컨트롤러에 같은 조회를 동시에 보내고(scatter), 응답하는 순서대로 컨트롤러별 결과를 내보냅니다(gather).
+ * 컨트롤러마다 타임아웃이 따로 적용되며, 실패하거나 늦은 컨트롤러는 오류 항목으로만 반환하고 나머지 결과는 그대로 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FederatedJenkinsService {
+
+    // 컨트롤러별 최근 빌드 조회 개수
+    private static final int RECENT_BUILD_COUNT = 10;
+
+    private final JenkinsControllerRegistry jenkinsControllerRegistry;
+
+    // 등록된 컨트롤러 이름 (등록 순서)
+    public List<String> getControllerNames() {
+
+        return jenkinsControllerRegistry.getControllers().stream().map(JenkinsControllerRegistry.Entry::name).toList();
+    }
+
+    // 모든 컨트롤러의 Job 목록
+    public Flux<FederatedResponse<JobResponse>> getAllJobs() {
+
+        return scatter(ReactiveJenkinsClient::getAllJobs);
+    }
+
+    // 모든 컨트롤러의 노드 목록
+    public Flux<FederatedResponse<NodeResponse>> getAllNodes() {
+
+        return scatter(ReactiveJenkinsClient::getAllNodes);
+    }
+
+    // 모든 컨트롤러에서 같은 이름의 Job 최근 빌드 목록 (Job이 없는 컨트롤러는 오류 항목)
+    public Flux<FederatedResponse<BuildResponse>> getBuilds(String jobName) {
+
+        return scatter(client -> client.getBuilds(jobName, 0, RECENT_BUILD_COUNT));
+    }
+
+    // 컨트롤러별로 동시에 조회하고 응답 순서대로 반환
+    private <T> Flux<FederatedResponse<T>> scatter(Function<ReactiveJenkinsClient, Mono<List<T>>> query) {
+        List<JenkinsControllerRegistry.Entry> controllers = jenkinsControllerRegistry.getControllers();
+
+        return Flux.fromIterable(controllers)
+            .flatMap(controller -> gather(controller, query), Math.max(1, controllers.size()));
+    }
+
+    private static <T> Mono<FederatedResponse<T>> gather(JenkinsControllerRegistry.Entry controller,
+                                                         Function<ReactiveJenkinsClient, Mono<List<T>>> query) {
+        return Mono.defer(() -> {
+            long startedAt = System.currentTimeMillis();
+
+            return query.apply(controller.client())
+                .timeout(controller.timeout())
+                .map(items -> FederatedResponse.<T>builder()
+                    .controller(controller.name())
+                    .items(items)
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .build())
+                .onErrorResume(e -> {
+                    String error = e instanceof TimeoutException
+                        ? "Timed out after " + controller.timeout().toMillis() + "ms"
+                        : e.getMessage();
+                    log.warn("Federated query to Jenkins controller {} failed: {}", controller.name(), error);
+
+                    return Mono.just(FederatedResponse.<T>builder()
+                        .controller(controller.name())
+                        .error(error)
+                        .elapsedMillis(System.currentTimeMillis() - startedAt)
+                        .build());
+                });
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jenkins 이벤트(웹훅) 수신 상태
+ * 최근 eventActiveWindow 안에 이벤트를 받았으면 상태 변경은 이벤트로 반영되므로,
+ * 폴링 작업은 평소 주기 대신 느린 보정(reconcile) 주기로 실행합니다.
+ */
+@Component
+public class JenkinsEventActivity {
+
+    private final JenkinsProperties jenkinsProperties;
+
+    private volatile long lastReceivedAt;
+
+    public JenkinsEventActivity(JenkinsProperties jenkinsProperties) {
+        this.jenkinsProperties = jenkinsProperties;
+    }
+
+    // 이벤트 수신 기록
+    public void received() {
+        lastReceivedAt = System.currentTimeMillis();
+    }
+
+    // 최근 이벤트를 받고 있는지 여부
+    public boolean isActive() {
+        return lastReceivedAt > 0
+            && System.currentTimeMillis() - lastReceivedAt <= jenkinsProperties.getEventActiveWindow();
+    }
+
+    // 폴링 주기 (이벤트를 받고 있으면 보정 주기와 평소 주기 중 긴 쪽)
+    public long pollInterval(long normalInterval) {
+        return isActive() ? Math.max(normalInterval, jenkinsProperties.getEventReconcileInterval()) : normalInterval;
+    }
+}
@@ -0,0 +1,277 @@
+package com.modi.core.jenkins.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.AuthenticationException;
+import com.modi.core.exception.BusinessException;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JenkinsNotificationEvent;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import com.modi.core.jenkins.dto.StatisticsBuildEvent;
+import com.modi.core.jenkins.dto.StatisticsQueueEvent;
+import com.modi.core.jenkins.event.FinishedBuildEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jenkins 이벤트(웹훅) 수신 처리
+ * Notification/Statistics Gateway 플러그인이 보내는 빌드 시작/완료, 대기열 이벤트를 공통 형태로 바꿔
+ * 캐시, 빌드 완료 감시, 대기열 모니터, 상태 미러, 빌드 기록 저장소에 바로 반영합니다.
+ * (Job, 빌드 번호)별로 지금까지 반영한 단계를 기록해 두고, 같은 단계 이하의 이벤트는 중복/지연 도착으로 보고 무시합니다.
+ * 이벤트를 받는 동안에는 폴링 작업이 느린 보정 주기로 바뀝니다 (JenkinsEventActivity).
+ */
+@Slf4j
+@Service
+public class JenkinsEventService {
+
+    // 반영 단계 (큰 값만 반영, 완료는 마지막 단계)
+    private static final int PHASE_QUEUED = 1;
+    private static final int PHASE_STARTED = 2;
+    private static final int PHASE_COMPLETED = 3;
+
+    // 단계 기록 보관 기간 (이보다 늦게 도착한 이벤트는 새 이벤트로 처리되지만 반영 내용은 같음)
+    private static final Duration LEDGER_RETENTION = Duration.ofHours(24);
+
+    private static final String STATISTICS_QUEUE_LEFT = "left";
+
+    private final JenkinsProperties jenkinsProperties;
+    private final JenkinsEventActivity eventActivity;
+    private final BuildCompletionWatcher buildCompletionWatcher;
+    private final ObjectProvider<BuildQueueMonitor> buildQueueMonitor;
+    private final ObjectProvider<JenkinsStateMirror> stateMirror;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache buildCache;
+    private final Cache jobCache;
+    private final Cache jobsCache;
+    private final Counter appliedCounter;
+    private final Counter ignoredCounter;
+
+    // jobName#buildNumber → 반영한 단계
+    private final ConcurrentMap<String, Integer> ledger;
+
+    public JenkinsEventService(JenkinsProperties jenkinsProperties,
+                               JenkinsEventActivity eventActivity,
+                               BuildCompletionWatcher buildCompletionWatcher,
+                               ObjectProvider<BuildQueueMonitor> buildQueueMonitor,
+                               ObjectProvider<JenkinsStateMirror> stateMirror,
+                               ApplicationEventPublisher eventPublisher,
+                               CacheManager cacheManager,
+                               MeterRegistry meterRegistry) {
+        this.jenkinsProperties = jenkinsProperties;
+        this.eventActivity = eventActivity;
+        this.buildCompletionWatcher = buildCompletionWatcher;
+        this.buildQueueMonitor = buildQueueMonitor;
+        this.stateMirror = stateMirror;
+        this.eventPublisher = eventPublisher;
+        this.buildCache = cacheManager.getCache(JenkinsCacheNames.BUILDS);
+        this.jobCache = cacheManager.getCache(JenkinsCacheNames.JOB);
+        this.jobsCache = cacheManager.getCache(JenkinsCacheNames.JOBS);
+        this.ledger = Caffeine.newBuilder()
+            .maximumSize(jenkinsProperties.getEventLedgerMaxSize())
+            .expireAfterWrite(LEDGER_RETENTION)
+            .<String, Integer>build()
+            .asMap();
+
+        this.appliedCounter = Counter.builder("jenkins.events")
+            .description("Jenkins webhook events received")
+            .tag("outcome", "applied")
+            .register(meterRegistry);
+        this.ignoredCounter = Counter.builder("jenkins.events")
+            .description("Jenkins webhook events received")
+            .tag("outcome", "ignored")
+            .register(meterRegistry);
+    }
+
+    // 이벤트 토큰 검증 (토큰을 설정하지 않았으면 이벤트 수신 비활성화)
+    public void verifyToken(String token) {
+        String expected = jenkinsProperties.getEventToken();
+        if (expected == null || expected.isBlank()) {
+            throw new AuthenticationException(ErrorCode.FORBIDDEN, "Jenkins event ingestion is disabled");
+        }
+        if (token == null || !MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new AuthenticationException(ErrorCode.UNAUTHORIZED, "Invalid Jenkins event token");
+        }
+    }
+
+    // Notification 플러그인 이벤트 반영 (반영했으면 true, 중복/지연 도착이면 false)
+    public boolean handleNotification(JenkinsNotificationEvent event) {
+        JenkinsNotificationEvent.Build build = event.getBuild();
+        if (event.getName() == null || build == null || build.getNumber() == null || build.getPhase() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Notification event requires name, build.number and build.phase");
+        }
+
+        BuildResponse response = BuildResponse.builder()
+            .number(build.getNumber())
+            .url(build.getFullUrl())
+            .queueId(build.getQueueId())
+            .timestamp(build.getTimestamp())
+            .duration(build.getDuration())
+            .result(build.getStatus())
+            .building(!"COMPLETED".equals(build.getPhase()) && !"FINALIZED".equals(build.getPhase()))
+            .parameters(build.getParameters() != null ? build.getParameters() : Map.of())
+            .build();
+
+        return switch (build.getPhase()) {
+            case "QUEUED" -> applyQueued(event.getName(), response);
+            case "STARTED" -> applyStarted(event.getName(), response);
+            case "COMPLETED", "FINALIZED" -> applyCompleted(event.getName(), response);
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Unknown build phase: " + build.getPhase());
+        };
+    }
+
+    // Statistics Gateway 빌드 이벤트 반영 (결과가 있으면 완료, 없으면 시작)
+    public boolean handleStatisticsBuild(StatisticsBuildEvent event) {
+        if (event.getJobName() == null || event.getNumber() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Build event requires jobName and number");
+        }
+
+        Map<String, String> parameters = new HashMap<>();
+        if (event.getParameters() != null) {
+            event.getParameters().forEach(parameter -> parameters.put(parameter.getName(), parameter.getValue()));
+        }
+        BuildResponse response = BuildResponse.builder()
+            .number(event.getNumber())
+            .url(event.getBuildUrl())
+            .queueId(event.getJenkinsQueueId())
+            .timestamp(event.getStartTime())
+            .duration(event.getDuration())
+            .result(event.getResult())
+            .building(event.getResult() == null)
+            .parameters(parameters)
+            .build();
+
+        return event.getResult() != null
+            ? applyCompleted(event.getJobName(), response)
+            : applyStarted(event.getJobName(), response);
+    }
+
+    // Statistics Gateway 대기열 이벤트 반영
+    public boolean handleStatisticsQueue(StatisticsQueueEvent event) {
+        if (event.getJenkinsQueueId() == null || event.getStatus() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Queue event requires jenkinsQueueId and status");
+        }
+        eventActivity.received();
+
+        QueueItemResponse item = QueueItemResponse.builder()
+            .id(event.getJenkinsQueueId())
+            .jobName(event.getJobName())
+            .inQueueSince(event.getEntryTime())
+            .why(event.getStatus())
+            .blocked("blocked".equals(event.getStatus()))
+            .buildable("buildable".equals(event.getStatus()))
+            .build();
+        applyQueueEvent(item, STATISTICS_QUEUE_LEFT.equals(event.getStatus()));
+        appliedCounter.increment();
+        return true;
+    }
+
+    private boolean applyQueued(String jobName, BuildResponse build) {
+        if (!advance(jobName, build.getNumber(), PHASE_QUEUED)) {
+            return false;
+        }
+
+        if (build.getQueueId() != null) {
+            applyQueueEvent(QueueItemResponse.builder()
+                .id(build.getQueueId())
+                .jobName(jobName)
+                .inQueueSince(System.currentTimeMillis())
+                .build(), false);
+        }
+        return true;
+    }
+
+    private boolean applyStarted(String jobName, BuildResponse build) {
+        if (!advance(jobName, build.getNumber(), PHASE_STARTED)) {
+            return false;
+        }
+
+        evictJob(jobName);
+        stateMirror.ifAvailable(mirror -> mirror.applyBuildEvent(jobName, build));
+        if (build.getQueueId() != null) {
+            applyQueueEvent(QueueItemResponse.builder()
+                .id(build.getQueueId())
+                .jobName(jobName)
+                .build(), true);
+        }
+        buildCompletionWatcher.onBuildStarted(jobName, build.getNumber(), build.getQueueId());
+        return true;
+    }
+
+    private boolean applyCompleted(String jobName, BuildResponse finished) {
+        if (!advance(jobName, finished.getNumber(), PHASE_COMPLETED)) {
+            return false;
+        }
+
+        // 웹훅 빌드는 일부 필드(estimatedDuration, 실행자, 설명 등)가 없으므로 캐시하지 않고 기존 항목만 제거
+        // (다음 조회가 Jenkins에서 온전한 빌드를 받아 캐시, 기록 저장소가 쓰는 필드는 웹훅에도 모두 있음)
+        if (buildCache != null) {
+            buildCache.evict(JenkinsCacheNames.buildKey(jobName, finished.getNumber()));
+        }
+        evictJob(jobName);
+        stateMirror.ifAvailable(mirror -> mirror.applyBuildEvent(jobName, finished));
+        if (finished.getQueueId() != null) {
+            applyQueueEvent(QueueItemResponse.builder()
+                .id(finished.getQueueId())
+                .jobName(jobName)
+                .build(), true);
+        }
+        eventPublisher.publishEvent(new FinishedBuildEvent(jobName, List.of(finished)));
+        buildCompletionWatcher.onBuildFinished(jobName, finished);
+        return true;
+    }
+
+    // 대기열 모니터와 상태 미러에 반영 (사용하지 않으면 무시)
+    private void applyQueueEvent(QueueItemResponse item, boolean left) {
+        buildQueueMonitor.ifAvailable(monitor -> monitor.applyEvent(item, left));
+        stateMirror.ifAvailable(mirror -> mirror.applyQueueEvent(item, left));
+    }
+
+    // (Job, 빌드 번호)의 단계를 앞으로만 진행 (같거나 이전 단계면 중복/지연 도착)
+    private boolean advance(String jobName, int buildNumber, int phase) {
+        eventActivity.received();
+
+        boolean[] advanced = {false};
+        ledger.compute(JenkinsCacheNames.buildKey(jobName, buildNumber), (key, previous) -> {
+            if (previous == null || phase > previous) {
+                advanced[0] = true;
+                return phase;
+            }
+            return previous;
+        });
+
+        if (advanced[0]) {
+            appliedCounter.increment();
+        } else {
+            ignoredCounter.increment();
+            log.debug("Ignoring duplicate or out-of-order event for {}#{} (phase {})", jobName, buildNumber, phase);
+        }
+        return advanced[0];
+    }
+
+    // Job 상태(lastBuild, color 등)가 바뀌었으므로 Job 캐시 제거
+    private void evictJob(String jobName) {
+        if (jobCache != null) {
+            jobCache.evict(jobName);
+        }
+        if (jobsCache != null) {
+            jobsCache.clear();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.modi.core.jenkins.service;
 
 import com.modi.core.jenkins.dto.*;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -15,6 +16,15 @@ public interface JenkinsService {
     // 특정 Job 정보 조회
     JobResponse getJob(String jobName);
 
+    // 페이징/필터용 Job 색인 (이름과 컬러만, Jenkins 목록 순서)
+    List<JobResponse> getJobIndex();
+
+    // 모든 Job 목록 조회 (상태 미러가 maxStaleness 이내로 동기화돼 있으면 미러에서 응답)
+    List<JobResponse> getAllJobs(Duration maxStaleness);
+
+    // 특정 Job 정보 조회 (상태 미러가 maxStaleness 이내로 동기화돼 있으면 미러에서 응답)
+    JobResponse getJob(String jobName, Duration maxStaleness);
+
     // Job 생성
     void createJob(JobCreateRequest request);
 
@@ -39,12 +49,27 @@ public interface JenkinsService {
     // 빌드 로그 조회
     BuildLogResponse getBuildLog(String jobName, int buildNumber);
 
-    //Job의 모든 빌드 목록 조회
+    // 빌드 로그 스트리밍 조회 (start 오프셋부터)
+    ProgressiveLogResponse streamBuildLog(String jobName, int buildNumber, long start);
+
+    // Job의 최근 빌드 목록 조회 (최신순 10개)
     List<BuildResponse> getAllBuilds(String jobName);
 
     //모든 노드 정보 조회
     List<NodeResponse> getAllNodes();
 
+    // 모든 노드 정보 조회 (상태 미러가 maxStaleness 이내로 동기화돼 있으면 미러에서 응답)
+    List<NodeResponse> getAllNodes(Duration maxStaleness);
+
+    // 빌드 대기열 조회
+    List<QueueItemResponse> getQueue();
+
+    // 빌드 대기열 조회 (대기열 모니터/상태 미러가 maxStaleness 이내로 동기화돼 있으면 스냅샷에서 응답)
+    List<QueueItemResponse> getQueue(Duration maxStaleness);
+
+    // 대기열 항목 조회 (대기열을 떠난 항목도 Jenkins가 보관하는 동안 조회 가능)
+    QueueItemResponse getQueueItem(long queueId);
+
     // Jenkins 서버 연결 상태 확인
     boolean checkConnection();
 }
@@ -1,42 +1,94 @@
 package com.modi.core.jenkins.service;
 
 import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
 import com.modi.core.jenkins.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Jenkins 관리 서비스 구현체
+ * 조회 결과는 Caffeine 캐시에 보관하고, Job 변경/빌드 실행 시 관련 캐시를 무효화합니다.
+ * 상태 미러가 활성화된 경우 maxStaleness를 받는 조회는 미러 스냅샷에서 바로 응답합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JenkinsServiceImpl implements JenkinsService {
 
+    // 빌드 목록 조회 시 반환할 최근 빌드 개수 (전체 이력은 BuildHistoryService 사용)
+    private static final int RECENT_BUILD_COUNT = 10;
+
     private final JenkinsClient jenkinsClient;
+    private final ObjectProvider<JenkinsStateMirror> jenkinsStateMirror;
+    private final ObjectProvider<BuildQueueMonitor> buildQueueMonitor;
 
     @Override
+    @Cacheable(cacheNames = JenkinsCacheNames.JOBS, key = "'all'")
     public List<JobResponse> getAllJobs() {
 
         return jenkinsClient.getAllJobs();
     }
 
     @Override
+    @Cacheable(cacheNames = JenkinsCacheNames.JOB, key = "#jobName")
     public JobResponse getJob(String jobName) {
 
         return jenkinsClient.getJob(jobName);
     }
 
     @Override
+    @Cacheable(cacheNames = JenkinsCacheNames.JOBS, key = "'index'")
+    public List<JobResponse> getJobIndex() {
+
+        return jenkinsClient.getJobIndex();
+    }
+
+    // 미러가 없거나 maxStaleness보다 오래됐으면 Jenkins에서 직접 조회
+    @Override
+    public List<JobResponse> getAllJobs(Duration maxStaleness) {
+        JenkinsStateMirror mirror = jenkinsStateMirror.getIfAvailable();
+
+        return mirror != null
+            ? mirror.getAllJobs(maxStaleness).orElseGet(jenkinsClient::getAllJobs)
+            : jenkinsClient.getAllJobs();
+    }
+
+    @Override
+    public JobResponse getJob(String jobName, Duration maxStaleness) {
+        JenkinsStateMirror mirror = jenkinsStateMirror.getIfAvailable();
+
+        return mirror != null
+            ? mirror.getJob(jobName, maxStaleness).orElseGet(() -> jenkinsClient.getJob(jobName))
+            : jenkinsClient.getJob(jobName);
+    }
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOBS, allEntries = true),
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOB, key = "#request.jobName")
+    })
     public void createJob(JobCreateRequest request) {
 
         jenkinsClient.createJob(request);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOBS, allEntries = true),
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOB, key = "#jobName"),
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOB, key = "#request.jobName"),
+        @CacheEvict(cacheNames = JenkinsCacheNames.BUILDS, allEntries = true)
+    })
     public void updateJob(String jobName, JobCreateRequest request) {
 
         // 먼저 기존 Job 삭제
@@ -46,18 +98,29 @@ public class JenkinsServiceImpl implements JenkinsService {
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOBS, allEntries = true),
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOB, key = "#jobName"),
+        @CacheEvict(cacheNames = JenkinsCacheNames.BUILDS, allEntries = true)
+    })
     public void deleteJob(String jobName) {
 
         jenkinsClient.deleteJob(jobName);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOBS, allEntries = true),
+        @CacheEvict(cacheNames = JenkinsCacheNames.JOB, key = "#request.jobName")
+    })
     public QueueItemResponse triggerBuild(BuildRequest request) {
 
         return jenkinsClient.triggerBuild(request);
     }
 
     @Override
+    @Cacheable(cacheNames = JenkinsCacheNames.BUILDS, key = "#jobName + '#' + #buildNumber",
+        unless = "#result == null || #result.building == null || #result.building")
     public BuildResponse getBuildInfo(String jobName, int buildNumber) {
 
         return jenkinsClient.getBuildInfo(jobName, buildNumber);
@@ -76,19 +139,60 @@ public class JenkinsServiceImpl implements JenkinsService {
     }
 
     @Override
-    public List<BuildResponse> getAllBuilds(String jobName) {
+    public ProgressiveLogResponse streamBuildLog(String jobName, int buildNumber, long start) {
 
-        JobResponse job = jenkinsClient.getJob(jobName);
+        return jenkinsClient.streamBuildLog(jobName, buildNumber, Math.max(start, 0L));
+    }
 
-        return job.getBuilds();
+    @Override
+    public List<BuildResponse> getAllBuilds(String jobName) {
+
+        return jenkinsClient.getBuilds(jobName, 0, RECENT_BUILD_COUNT);
     }
 
     @Override
+    @Cacheable(cacheNames = JenkinsCacheNames.NODES, key = "'all'")
     public List<NodeResponse> getAllNodes() {
 
         return jenkinsClient.getAllNodes();
     }
 
+    @Override
+    public List<NodeResponse> getAllNodes(Duration maxStaleness) {
+        JenkinsStateMirror mirror = jenkinsStateMirror.getIfAvailable();
+
+        return mirror != null
+            ? mirror.getAllNodes(maxStaleness).orElseGet(jenkinsClient::getAllNodes)
+            : jenkinsClient.getAllNodes();
+    }
+
+    @Override
+    public List<QueueItemResponse> getQueue() {
+
+        return jenkinsClient.getQueue();
+    }
+
+    // 대기열 모니터 → 상태 미러 → Jenkins 순으로 maxStaleness 이내의 대기열 사용
+    @Override
+    public List<QueueItemResponse> getQueue(Duration maxStaleness) {
+        BuildQueueMonitor monitor = buildQueueMonitor.getIfAvailable();
+        Optional<List<QueueItemResponse>> monitored = monitor != null ? monitor.getQueue(maxStaleness) : Optional.empty();
+        if (monitored.isPresent()) {
+            return monitored.get();
+        }
+
+        JenkinsStateMirror mirror = jenkinsStateMirror.getIfAvailable();
+        return mirror != null
+            ? mirror.getQueue(maxStaleness).orElseGet(jenkinsClient::getQueue)
+            : jenkinsClient.getQueue();
+    }
+
+    @Override
+    public QueueItemResponse getQueueItem(long queueId) {
+
+        return jenkinsClient.getQueueItem(queueId);
+    }
+
     @Override
     public boolean checkConnection() {
 
@@ -0,0 +1,439 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Jenkins 상태 미러
+ * Job/대기열/노드 상태를 백그라운드에서 주기적으로 동기화해 불변 스냅샷으로 보관합니다.
+ * Job 목록은 매번 가볍게 조회해 바로 스냅샷으로 공개하고, lastBuild 번호나 color가 바뀌었거나 아직 받지 못한 Job 상세(빌드 목록)는
+ * 주기마다 mirrorDetailsPerSync개까지 이어서 조회해 도착하는 대로 스냅샷에 채웁니다.
+ * 변경이 있거나 빌드/대기열이 진행 중이면 최소 주기로, 조용하면 최대 주기까지 점점 느리게 폴링합니다.
+ * Jenkins 이벤트(빌드 시작/완료, 대기열)는 받는 즉시 스냅샷에 반영하고, 이벤트를 받는 동안 폴링은 느린 보정 주기로만 실행합니다.
+ * 조회는 논블로킹 클라이언트로 보내고 응답을 모두 처리한 뒤에 다음 주기를 예약하므로, 느린 Jenkins가 공유 스케줄러 스레드를 붙잡지 않습니다.
+ * 조회 시 호출자가 허용할 수 있는 최대 지연(maxStaleness)을 넘긴 스냅샷은 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jenkins", name = "mirror-enabled", havingValue = "true")
+public class JenkinsStateMirror {
+
+    // 실행 중인 빌드를 나타내는 color 접미사 (blue_anime, red_anime 등)
+    private static final String BUILDING_COLOR_SUFFIX = "_anime";
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final TaskScheduler taskScheduler;
+    private final JenkinsEventActivity eventActivity;
+
+    // 스냅샷 교체(읽고-바꾸고-쓰기)는 이 잠금 안에서만, 읽기는 잠금 없이
+    private final Object updateLock = new Object();
+
+    private volatile SyncedSnapshot<MirrorState> snapshot = SyncedSnapshot.empty(MirrorState.EMPTY);
+    private volatile long currentInterval;
+
+    public JenkinsStateMirror(ReactiveJenkinsClient reactiveJenkinsClient,
+                              JenkinsProperties jenkinsProperties,
+                              TaskScheduler taskScheduler,
+                              JenkinsEventActivity eventActivity,
+                              MeterRegistry meterRegistry) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.taskScheduler = taskScheduler;
+        this.eventActivity = eventActivity;
+        this.currentInterval = jenkinsProperties.getMirrorMinInterval();
+
+        Gauge.builder("jenkins.mirror.version", this, mirror -> mirror.snapshot.state().version)
+            .description("Version of the Jenkins state mirror snapshot")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.mirror.age", this, mirror -> mirror.snapshot.ageMillis())
+            .description("Milliseconds since the mirror last synced with Jenkins")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    // 기동이 끝나면 첫 동기화 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            taskScheduler.schedule(this::sync, Instant.now());
+        } catch (TaskRejectedException e) {
+            log.warn("Jenkins state mirror could not be started: {}", e.getMessage());
+        }
+    }
+
+    // 전체 Job 목록 (스냅샷이 maxStaleness보다 오래됐으면 empty)
+    public Optional<List<JobResponse>> getAllJobs(Duration maxStaleness) {
+        SyncedSnapshot<MirrorState> current = snapshot;
+
+        return current.isFresh(maxStaleness) ? Optional.of(current.state().jobList) : Optional.empty();
+    }
+
+    // Job 상세 (스냅샷이 오래됐거나 아직 상세를 받지 못한 Job이면 empty)
+    public Optional<JobResponse> getJob(String jobName, Duration maxStaleness) {
+        SyncedSnapshot<MirrorState> current = snapshot;
+
+        return current.isFresh(maxStaleness) ? Optional.ofNullable(current.state().jobDetails.get(jobName)) : Optional.empty();
+    }
+
+    // 빌드 대기열
+    public Optional<List<QueueItemResponse>> getQueue(Duration maxStaleness) {
+        SyncedSnapshot<MirrorState> current = snapshot;
+
+        return current.isFresh(maxStaleness) ? Optional.of(current.state().queue) : Optional.empty();
+    }
+
+    // 노드 목록
+    public Optional<List<NodeResponse>> getAllNodes(Duration maxStaleness) {
+        SyncedSnapshot<MirrorState> current = snapshot;
+
+        return current.isFresh(maxStaleness) ? Optional.of(current.state().nodes) : Optional.empty();
+    }
+
+    // 현재 스냅샷 버전 (변경이 반영될 때마다 1씩 증가)
+    public long getVersion() {
+
+        return snapshot.state().version;
+    }
+
+    // 빌드 시작/완료 이벤트 반영 (Job 요약의 lastBuild/color를 갱신하고, 상세는 버려 다음 주기에 다시 조회)
+    public void applyBuildEvent(String jobName, BuildResponse build) {
+        synchronized (updateLock) {
+            SyncedSnapshot<MirrorState> current = snapshot;
+            JobResponse summary = current.state().jobs.get(jobName);
+            if (summary == null || build.getNumber() == null) {
+                return;
+            }
+
+            snapshot = current.withState(current.state().withJobSummary(applyBuild(summary, build)));
+        }
+    }
+
+    // 대기열 이벤트 반영 (떠난 항목은 제거, 새 항목은 뒤에 추가)
+    public void applyQueueEvent(QueueItemResponse item, boolean left) {
+        synchronized (updateLock) {
+            SyncedSnapshot<MirrorState> current = snapshot;
+            if (current.syncedAt() == 0 || item.getId() == null) {
+                return;
+            }
+
+            List<QueueItemResponse> queue = new ArrayList<>(current.state().queue);
+            boolean present = queue.removeIf(queued -> item.getId().equals(queued.getId()));
+            if (!left) {
+                if (present) {
+                    return;
+                }
+                queue.add(item);
+            } else if (!present) {
+                return;
+            }
+            snapshot = current.withState(current.state().withQueue(List.copyOf(queue)));
+        }
+    }
+
+    // 조회 요청만 보내고 바로 반환 (응답 처리는 boundedElastic에서, 끝나면 다음 주기 예약)
+    void sync() {
+        syncOnce()
+            .doFinally(signal -> scheduleNextSync())
+            .subscribe(null, e -> log.warn("Jenkins state mirror sync failed: {}", e.getMessage()));
+    }
+
+    // 과부하로 거절되면 이전 응답을 받지 않고 실패하므로 syncedAt을 갱신하지 않고 이 주기를 건너뜀
+    Mono<Void> syncOnce() {
+        return Mono.zip(reactiveJenkinsClient.pollAllJobs(), reactiveJenkinsClient.pollQueue(), reactiveJenkinsClient.pollAllNodes())
+            .publishOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+                log.warn("Jenkins state mirror sync failed: {}", e.getMessage());
+                backOff();
+                return Mono.empty();
+            })
+            .map(state -> applySummary(state.getT1(), state.getT2(), state.getT3()))
+            .flatMap(this::refreshDetails);
+    }
+
+    // Job 목록/대기열/노드를 바로 스냅샷에 반영하고, 이번 주기에 상세를 조회할 Job 반환
+    private List<String> applySummary(List<JobResponse> jobs, List<QueueItemResponse> queue, List<NodeResponse> nodes) {
+        synchronized (updateLock) {
+            SyncedSnapshot<MirrorState> previousSnapshot = snapshot;
+            MirrorState current = previousSnapshot.state();
+
+            // lastBuild 번호/color가 바뀐 Job은 이전 상세가 오래된 내용이므로 버리고 다시 조회
+            Map<String, JobResponse> summaries = new LinkedHashMap<>();
+            List<String> changedJobs = new ArrayList<>();
+            for (JobResponse job : jobs) {
+                summaries.put(job.getName(), job);
+
+                JobResponse previous = current.jobs.get(job.getName());
+                if (previous == null
+                    || !Objects.equals(previous.getLastBuildNumber(), job.getLastBuildNumber())
+                    || !Objects.equals(previous.getColor(), job.getColor())) {
+                    changedJobs.add(job.getName());
+                }
+            }
+            boolean jobsRemoved = !summaries.keySet().containsAll(current.jobs.keySet());
+            boolean queueChanged = !sameQueue(current.queue, queue);
+            boolean nodesChanged = !sameNodes(current.nodes, nodes);
+            boolean changed = !changedJobs.isEmpty() || jobsRemoved || queueChanged || nodesChanged;
+
+            long now = System.currentTimeMillis();
+            MirrorState next = current;
+            if (changed) {
+                Map<String, JobResponse> details = new HashMap<>(current.jobDetails);
+                details.keySet().retainAll(summaries.keySet());
+                changedJobs.forEach(details::remove);
+
+                next = new MirrorState(current.version + 1,
+                    Collections.unmodifiableMap(summaries), Collections.unmodifiableMap(details),
+                    changedJobs.isEmpty() && !jobsRemoved ? current.jobList : List.copyOf(jobs),
+                    queueChanged ? List.copyOf(queue) : current.queue,
+                    nodesChanged ? List.copyOf(nodes) : current.nodes);
+                snapshot = new SyncedSnapshot<>(next, now);
+
+                log.debug("Jenkins state mirror updated to version {} ({} jobs changed, queueChanged={}, nodesChanged={})",
+                    next.version, changedJobs.size(), queueChanged, nodesChanged);
+            } else {
+                snapshot = previousSnapshot.verifiedAt(now);
+            }
+
+            // 바뀐 Job을 먼저, 그다음 아직 상세를 받지 못한 Job 순으로 이번 주기 몫만
+            Set<String> pending = new LinkedHashSet<>(changedJobs);
+            for (String jobName : summaries.keySet()) {
+                if (!next.jobDetails.containsKey(jobName)) {
+                    pending.add(jobName);
+                }
+            }
+            List<String> refresh = pending.stream().limit(jenkinsProperties.getMirrorDetailsPerSync()).toList();
+
+            adjustInterval(changed, isActive(jobs, queue) || !pending.isEmpty());
+            return refresh;
+        }
+    }
+
+    // Job 상세를 제한된 동시성으로 조회해 도착하는 대로 스냅샷에 채움 (실패한 Job은 다음 주기에 다시 조회)
+    private Mono<Void> refreshDetails(List<String> jobNames) {
+        return Flux.fromIterable(jobNames)
+            .flatMap(jobName -> reactiveJenkinsClient.pollJob(jobName)
+                .onErrorResume(e -> {
+                    log.warn("Failed to refresh mirrored job {}: {}", jobName, e.getMessage());
+                    return Mono.empty();
+                }), jenkinsProperties.getMirrorFetchConcurrency())
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(this::applyJobDetail)
+            .then();
+    }
+
+    // 상세 하나를 반영 (내용만 바꾸고 동기화 시각은 유지, 그사이 목록에서 사라진 Job은 무시)
+    private void applyJobDetail(JobResponse job) {
+        synchronized (updateLock) {
+            SyncedSnapshot<MirrorState> current = snapshot;
+            if (current.state().jobs.containsKey(job.getName())) {
+                snapshot = current.withState(current.state().withJobDetail(job));
+            }
+        }
+    }
+
+    private void scheduleNextSync() {
+        try {
+            taskScheduler.schedule(this::sync, Instant.now().plusMillis(nextInterval()));
+        } catch (TaskRejectedException e) {
+            log.debug("Jenkins state mirror stopped: {}", e.getMessage());
+        }
+    }
+
+    // 다음 동기화까지 대기 시간 (이벤트를 받고 있으면 보정 주기까지 늦춤)
+    long nextInterval() {
+
+        return eventActivity.pollInterval(currentInterval);
+    }
+
+    private void adjustInterval(boolean changed, boolean active) {
+        if (changed || active) {
+            currentInterval = jenkinsProperties.getMirrorMinInterval();
+        } else {
+            backOff();
+        }
+    }
+
+    private void backOff() {
+        currentInterval = Math.min(currentInterval * 2, jenkinsProperties.getMirrorMaxInterval());
+    }
+
+    // 실행 중인 빌드나 대기 중인 항목이 있으면 곧 상태가 바뀔 가능성이 높음
+    private static boolean isActive(List<JobResponse> jobs, List<QueueItemResponse> queue) {
+        if (!queue.isEmpty()) {
+            return true;
+        }
+        return jobs.stream()
+            .anyMatch(job -> job.getColor() != null && job.getColor().endsWith(BUILDING_COLOR_SUFFIX));
+    }
+
+    // 이벤트로 받은 빌드를 Job 요약에 반영 (더 최신 빌드가 이미 있으면 color는 그대로)
+    private static JobResponse applyBuild(JobResponse summary, BuildResponse build) {
+        int number = build.getNumber();
+        boolean latest = summary.getLastBuildNumber() == null || number >= summary.getLastBuildNumber();
+        String result = build.getResult();
+        String color = summary.getColor();
+
+        if (latest && Boolean.TRUE.equals(build.getBuilding())) {
+            color = baseColor(color) + BUILDING_COLOR_SUFFIX;
+        } else if (latest && result != null) {
+            color = resultColor(result, baseColor(color));
+        }
+
+        return JobResponse.builder()
+            .name(summary.getName())
+            .url(summary.getUrl())
+            .description(summary.getDescription())
+            .buildable(summary.getBuildable())
+            .lastBuildNumber(latest ? Integer.valueOf(number) : summary.getLastBuildNumber())
+            .lastSuccessfulBuildNumber("SUCCESS".equals(result) || "UNSTABLE".equals(result)
+                ? max(summary.getLastSuccessfulBuildNumber(), number) : summary.getLastSuccessfulBuildNumber())
+            .lastFailedBuildNumber("FAILURE".equals(result)
+                ? max(summary.getLastFailedBuildNumber(), number) : summary.getLastFailedBuildNumber())
+            .color(color)
+            .inQueue(summary.getInQueue())
+            .builds(summary.getBuilds())
+            .build();
+    }
+
+    private static String baseColor(String color) {
+        if (color == null) {
+            return "notbuilt";
+        }
+        return color.endsWith(BUILDING_COLOR_SUFFIX) ? color.substring(0, color.length() - BUILDING_COLOR_SUFFIX.length()) : color;
+    }
+
+    // 빌드 결과에 해당하는 Jenkins color (알 수 없는 결과면 이전 color)
+    private static String resultColor(String result, String fallback) {
+        return switch (result) {
+            case "SUCCESS" -> "blue";
+            case "UNSTABLE" -> "yellow";
+            case "FAILURE" -> "red";
+            case "ABORTED" -> "aborted";
+            case "NOT_BUILT" -> "notbuilt";
+            default -> fallback;
+        };
+    }
+
+    private static Integer max(Integer current, int number) {
+        return current == null || number > current ? Integer.valueOf(number) : current;
+    }
+
+    private static boolean sameQueue(List<QueueItemResponse> previous, List<QueueItemResponse> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            QueueItemResponse a = previous.get(i);
+            QueueItemResponse b = current.get(i);
+            if (!Objects.equals(a.getId(), b.getId())
+                || !Objects.equals(a.getWhy(), b.getWhy())
+                || !Objects.equals(a.getBlocked(), b.getBlocked())
+                || !Objects.equals(a.getBuildable(), b.getBuildable())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameNodes(List<NodeResponse> previous, List<NodeResponse> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            NodeResponse a = previous.get(i);
+            NodeResponse b = current.get(i);
+            if (!Objects.equals(a.getName(), b.getName())
+                || !Objects.equals(a.getOnline(), b.getOnline())
+                || !Objects.equals(a.getTemporarilyOffline(), b.getTemporarilyOffline())
+                || !Objects.equals(a.getIdle(), b.getIdle())
+                || !Objects.equals(a.getNumExecutors(), b.getNumExecutors())
+                || !Objects.equals(a.getBusyExecutors(), b.getBusyExecutors())
+                || !Objects.equals(a.getLabelString(), b.getLabelString())
+                || !Objects.equals(a.getOfflineCauseReason(), b.getOfflineCauseReason())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 미러링한 Job/대기열/노드 상태 (변경이 반영될 때마다 version 증가)
+    private static final class MirrorState {
+
+        private static final MirrorState EMPTY = new MirrorState(0L, Map.of(), Map.of(), List.of(), List.of(), List.of());
+
+        private final long version;
+        private final Map<String, JobResponse> jobs;
+        private final Map<String, JobResponse> jobDetails;
+        private final List<JobResponse> jobList;
+        private final List<QueueItemResponse> queue;
+        private final List<NodeResponse> nodes;
+
+        private MirrorState(long version, Map<String, JobResponse> jobs, Map<String, JobResponse> jobDetails,
+                            List<JobResponse> jobList, List<QueueItemResponse> queue, List<NodeResponse> nodes) {
+            this.version = version;
+            this.jobs = jobs;
+            this.jobDetails = jobDetails;
+            this.jobList = jobList;
+            this.queue = queue;
+            this.nodes = nodes;
+        }
+
+        // Job 요약 하나를 바꾼 다음 버전 (상세는 오래된 내용이므로 버림)
+        private MirrorState withJobSummary(JobResponse job) {
+            Map<String, JobResponse> summaries = new LinkedHashMap<>(jobs);
+            summaries.put(job.getName(), job);
+            Map<String, JobResponse> details = new HashMap<>(jobDetails);
+            details.remove(job.getName());
+            List<JobResponse> list = jobList.stream()
+                .map(listed -> listed.getName().equals(job.getName()) ? job : listed)
+                .toList();
+
+            return new MirrorState(version + 1, Collections.unmodifiableMap(summaries), Collections.unmodifiableMap(details),
+                list, queue, nodes);
+        }
+
+        // 대기열을 바꾼 다음 버전
+        private MirrorState withQueue(List<QueueItemResponse> newQueue) {
+
+            return new MirrorState(version + 1, jobs, jobDetails, jobList, newQueue, nodes);
+        }
+
+        // Job 상세 하나를 넣은 다음 버전
+        private MirrorState withJobDetail(JobResponse job) {
+            Map<String, JobResponse> details = new HashMap<>(jobDetails);
+            details.put(job.getName(), job);
+
+            return new MirrorState(version + 1, jobs, Collections.unmodifiableMap(details), jobList, queue, nodes);
+        }
+    }
+}
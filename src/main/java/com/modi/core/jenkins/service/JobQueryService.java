@@ -0,0 +1,146 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.JobSearchRequest;
+import com.modi.core.jenkins.util.JenkinsUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Jenkins Job 목록 페이징/필터/필드 선택 조회
+ * 이름/컬러만 담은 색인(캐시)으로 전체 개수와 페이지 위치를 계산하고,
+ * 해당 페이지만 Jenkins tree 범위 문법({start,end})과 선택한 필드로 조회합니다.
+ * 필터가 있으면 페이지에 든 Job 위치를 가까운 것끼리 작은 범위로 묶어 범위별로 동시에 조회하므로,
+ * 드문드문 일치하는 필터라도 사이에 있는 Job 전체를 받지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobQueryService {
+
+    // 실행 중인 빌드를 나타내는 color 접미사
+    private static final String BUILDING_COLOR_SUFFIX = "_anime";
+
+    // 이 개수 이하의 일치하지 않는 Job을 사이에 둔 위치는 한 범위로 묶음 (요청 수 대신 몇 개 더 받는 쪽을 선택)
+    static final int MAX_RANGE_GAP = 4;
+
+    private final JenkinsService jenkinsService;
+    private final JenkinsClient jenkinsClient;
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+
+    public Page<JobResponse> getJobs(JobSearchRequest search, Pageable pageable) {
+        String treeFields = JenkinsUtils.jobTreeFields(search.getFields());
+        List<JobResponse> index = jenkinsService.getJobIndex();
+
+        // 필터가 없으면 색인 위치가 곧 Jenkins 목록 위치
+        if (!search.hasFilter()) {
+            int total = index.size();
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = Math.min(from + pageable.getPageSize(), total);
+            if (from >= to) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            return new PageImpl<>(jenkinsClient.getJobs(treeFields, from, to), pageable, total);
+        }
+
+        List<Integer> matched = new ArrayList<>();
+        Set<String> colors = normalizeColors(search.getColors());
+        for (int i = 0; i < index.size(); i++) {
+            if (matches(index.get(i), search.getNamePrefix(), colors)) {
+                matched.add(i);
+            }
+        }
+
+        int total = matched.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        if (from >= to) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 페이지에 해당하는 Job 위치를 작은 범위들로 묶어 동시에 조회
+        List<Integer> pagePositions = matched.subList(from, to);
+        List<JobResponse> fetched = Flux.fromIterable(groupRanges(pagePositions, MAX_RANGE_GAP))
+            .flatMap(range -> reactiveJenkinsClient.getJobs(treeFields, range[0], range[1]), jenkinsProperties.getBatchConcurrency())
+            .flatMapIterable(jobs -> jobs)
+            .collectList()
+            .block();
+
+        // 색인 조회 이후 Job이 추가/삭제됐을 수 있으므로 위치가 아닌 이름으로 다시 맞춤
+        Map<String, JobResponse> byName = fetched == null ? Map.of() : fetched.stream()
+            .collect(Collectors.toMap(JobResponse::getName, Function.identity(), (first, second) -> first));
+        List<JobResponse> content = pagePositions.stream()
+            .map(position -> byName.get(index.get(position).getName()))
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 오름차순 위치 목록을 [start, end) 범위들로 묶음 (사이 간격이 maxGap 이하면 같은 범위)
+    static List<int[]> groupRanges(List<Integer> positions, int maxGap) {
+        List<int[]> ranges = new ArrayList<>();
+        int start = -1;
+        int last = -1;
+
+        for (int position : positions) {
+            if (start < 0) {
+                start = position;
+            } else if (position - last - 1 > maxGap) {
+                ranges.add(new int[]{start, last + 1});
+                start = position;
+            }
+            last = position;
+        }
+        if (start >= 0) {
+            ranges.add(new int[]{start, last + 1});
+        }
+        return ranges;
+    }
+
+    private static boolean matches(JobResponse job, String namePrefix, Set<String> colors) {
+        if (namePrefix != null && !namePrefix.isEmpty()
+            && (job.getName() == null || !job.getName().startsWith(namePrefix))) {
+            return false;
+        }
+        return colors.isEmpty() || colors.contains(baseColor(job.getColor()));
+    }
+
+    private static Set<String> normalizeColors(List<String> colors) {
+        if (colors == null) {
+            return Set.of();
+        }
+        return colors.stream()
+            .map(JobQueryService::baseColor)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private static String baseColor(String color) {
+        if (color == null) {
+            return null;
+        }
+        String normalized = color.trim().toLowerCase(Locale.ROOT);
+        return normalized.endsWith(BUILDING_COLOR_SUFFIX)
+            ? normalized.substring(0, normalized.length() - BUILDING_COLOR_SUFFIX.length())
+            : normalized;
+    }
+}
@@ -0,0 +1,289 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.dto.BuildLogResponse;
+import com.modi.core.jenkins.exception.JenkinsBuildException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 같은 (Job, 빌드) 로그를 tail 하는 구독자들이 공유하는 폴링 세션
+ * 하나의 오프셋 커서로 progressiveText를 폴링하고, 최근 청크는 링 버퍼에 보관해 늦게 붙은 구독자에게 재전송합니다.
+ * 구독자가 이미 받은 위치(Last-Event-ID)가 버퍼로 이어 줄 수 없는 위치면 등록하지 않고 OUT_OF_RANGE를 돌려줍니다.
+ * 폴링은 논블로킹 클라이언트로 보내고 응답을 받은 뒤에 다음 폴링을 예약하므로, 느린 Jenkins가 공유 스케줄러 스레드를 붙잡지 않습니다.
+ * 가상 스레드에서 SSE 전송(I/O) 중 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+ */
+@Slf4j
+class LogTailSession {
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final String jobName;
+    private final int buildNumber;
+    private final int bufferSize;
+    private final TaskScheduler taskScheduler;
+    private final Duration pollInterval;
+    private final Consumer<LogTailSession> onClose;
+
+    private final Deque<LogChunk> recentChunks = new ArrayDeque<>();
+    private final Set<SseEmitter> subscribers = new CopyOnWriteArraySet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 다음 폴링 시작 오프셋 (lock 안에서만 갱신)
+    private long offset;
+
+    private boolean closed;
+
+    // 예약된 다음 폴링
+    private ScheduledFuture<?> pollTask;
+
+    // 진행 중인 progressiveText 요청
+    private Disposable inFlight;
+
+    // startOffset: 폴링을 시작할 위치 (공유 세션은 0, 개별 세션은 구독자의 Last-Event-ID)
+    LogTailSession(ReactiveJenkinsClient reactiveJenkinsClient, String jobName, int buildNumber, long startOffset,
+                   int bufferSize, TaskScheduler taskScheduler, Duration pollInterval, Consumer<LogTailSession> onClose) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jobName = jobName;
+        this.buildNumber = buildNumber;
+        this.offset = Math.max(startOffset, 0L);
+        this.bufferSize = bufferSize;
+        this.taskScheduler = taskScheduler;
+        this.pollInterval = pollInterval;
+        this.onClose = onClose;
+    }
+
+    // 구독자 등록 (이미 종료된 세션이면 CLOSED, 구독자의 위치부터 이어 줄 수 없으면 OUT_OF_RANGE)
+    SubscribeResult subscribe(SseEmitter emitter, Long lastEventId) {
+        lock.lock();
+        try {
+            if (closed) {
+                return SubscribeResult.CLOSED;
+            }
+
+            long position = lastEventId != null ? lastEventId : 0L;
+            if (!canResumeFrom(position)) {
+                // 방금 만들어져 구독자가 없는 세션이면 폴링을 시작하지 않은 채로 남지 않도록 정리
+                if (subscribers.isEmpty()) {
+                    close();
+                }
+                return SubscribeResult.OUT_OF_RANGE;
+            }
+
+            // 링 버퍼에 남아 있는 청크 중 클라이언트가 아직 받지 못한 부분만 재전송
+            for (LogChunk chunk : recentChunks) {
+                if (chunk.endOffset <= position) {
+                    continue;
+                }
+                if (!send(emitter, chunk)) {
+                    if (subscribers.isEmpty()) {
+                        close();
+                    }
+                    return SubscribeResult.SUBSCRIBED;
+                }
+            }
+
+            subscribers.add(emitter);
+
+            if (pollTask == null && inFlight == null) {
+                pollTask = taskScheduler.schedule(this::poll, Instant.now());
+            }
+            return SubscribeResult.SUBSCRIBED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 구독자 해제 (마지막 구독자가 빠지면 폴링 중단)
+    void unsubscribe(SseEmitter emitter) {
+        lock.lock();
+        try {
+            subscribers.remove(emitter);
+
+            if (subscribers.isEmpty()) {
+                close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // progressiveText 요청만 보내고 바로 반환 (응답 처리는 boundedElastic에서, SSE 전송이 Netty 이벤트 루프를 막지 않도록)
+    void poll() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            pollTask = null;
+            inFlight = reactiveJenkinsClient.getProgressiveLog(jobName, buildNumber, offset)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(this::onLog, this::onError);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onLog(BuildLogResponse response) {
+        lock.lock();
+        try {
+            inFlight = null;
+            if (closed) {
+                return;
+            }
+
+            String text = response.getConsoleOutput();
+            long endOffset = response.getSize() != null ? response.getSize() : offset + text.length();
+
+            if (!text.isEmpty()) {
+                LogChunk chunk = new LogChunk(offset, endOffset, text);
+                if (recentChunks.size() >= bufferSize) {
+                    recentChunks.pollFirst();
+                }
+                recentChunks.addLast(chunk);
+
+                for (SseEmitter emitter : subscribers) {
+                    send(emitter, chunk);
+                }
+            }
+            offset = endOffset;
+
+            // 빌드가 끝나면 (X-More-Data 없음) 세션 종료, 아니면 다음 폴링 예약
+            if (!Boolean.TRUE.equals(response.getHasMoreData())) {
+                finish("complete", String.valueOf(offset));
+            } else {
+                scheduleNextPoll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onError(Throwable e) {
+        lock.lock();
+        try {
+            inFlight = null;
+            if (closed) {
+                return;
+            }
+            if (e instanceof JenkinsBuildException) {
+                log.warn("Stop tailing {}#{}: {}", jobName, buildNumber, e.getMessage());
+                finish("error", e.getMessage());
+                return;
+            }
+
+            log.warn("Failed to poll build log {}#{}, retrying: {}", jobName, buildNumber, e.getMessage());
+            scheduleNextPoll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 버퍼로 빠짐없이, 중복 없이 이어 줄 수 있는 위치인지 (버퍼 시작 또는 청크 경계만 허용, lock을 잡은 상태에서 호출)
+    private boolean canResumeFrom(long position) {
+        if (recentChunks.isEmpty()) {
+            return position == offset;
+        }
+        if (position == recentChunks.peekFirst().startOffset) {
+            return true;
+        }
+        for (LogChunk chunk : recentChunks) {
+            if (chunk.endOffset == position) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void scheduleNextPoll() {
+
+        pollTask = taskScheduler.schedule(this::poll, Instant.now().plus(pollInterval));
+    }
+
+    private void finish(String eventName, String data) {
+        lock.lock();
+        try {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event()
+                        .name(eventName)
+                        .id(String.valueOf(offset))
+                        .data(data));
+                    emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            }
+            subscribers.clear();
+            close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (pollTask != null) {
+            pollTask.cancel(false);
+        }
+        if (inFlight != null) {
+            inFlight.dispose();
+        }
+        recentChunks.clear();
+        onClose.accept(this);
+    }
+
+    private boolean send(SseEmitter emitter, LogChunk chunk) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("log")
+                .id(String.valueOf(chunk.endOffset))
+                .data(chunk.text));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    // 구독 결과
+    enum SubscribeResult {
+        SUBSCRIBED,
+        CLOSED,
+        OUT_OF_RANGE
+    }
+
+    // 로그 청크 (endOffset은 SSE 이벤트 ID로 사용)
+    private static final class LogChunk {
+
+        private final long startOffset;
+        private final long endOffset;
+        private final String text;
+
+        private LogChunk(long startOffset, long endOffset, String text) {
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.text = text;
+        }
+    }
+}
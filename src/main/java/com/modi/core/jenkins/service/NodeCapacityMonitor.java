@@ -0,0 +1,268 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.LabelCapacityResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.event.NodeStateChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 노드/executor 용량 모니터
+ * 노드 목록을 백그라운드에서 주기적으로 조회해 노드별 상태와 레이블별 executor 집계를 불변 스냅샷으로 보관합니다.
+ * 레이블 집계는 동기화할 때 미리 계산해 두므로 조회는 맵 조회 한 번으로 끝납니다.
+ * 노드가 추가/제거되거나 온라인/오프라인, 유휴/사용 중 상태가 바뀐 경우에만 NodeStateChangedEvent를 발행합니다.
+ * 공유 스케줄러에서 주기적으로 노드 목록을 조회하므로 jenkins.node-monitor-enabled=true일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jenkins", name = "node-monitor-enabled", havingValue = "true")
+public class NodeCapacityMonitor implements SchedulingConfigurer {
+
+    private static final SyncedSnapshot<NodeState> EMPTY = SyncedSnapshot.empty(NodeState.EMPTY);
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final JenkinsProperties jenkinsProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile SyncedSnapshot<NodeState> snapshot = EMPTY;
+
+    public NodeCapacityMonitor(ReactiveJenkinsClient reactiveJenkinsClient,
+                               JenkinsProperties jenkinsProperties,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jenkinsProperties = jenkinsProperties;
+        this.eventPublisher = eventPublisher;
+
+        Gauge.builder("jenkins.nodes.executors.free", this, monitor -> monitor.snapshot.state().freeExecutors)
+            .description("Idle executors on available Jenkins nodes")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.nodes.executors.busy", this, monitor -> monitor.snapshot.state().busyExecutors)
+            .description("Busy executors on available Jenkins nodes")
+            .register(meterRegistry);
+        Gauge.builder("jenkins.nodes.available", this, monitor -> monitor.snapshot.state().availableNodes)
+            .description("Jenkins nodes that are online and accepting builds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        Integer interval = jenkinsProperties.getNodeMonitorInterval();
+        if (interval != null && interval > 0) {
+            taskRegistrar.addFixedDelayTask(this::sync, Duration.ofMillis(interval));
+        }
+    }
+
+    // 노드 목록 (동기화 순서)
+    public List<NodeResponse> getNodes() {
+
+        return snapshot.state().nodeList;
+    }
+
+    // 노드 정보
+    public Optional<NodeResponse> getNode(String nodeName) {
+
+        return Optional.ofNullable(snapshot.state().nodes.get(nodeName));
+    }
+
+    // 레이블별 executor 용량 (레이블 이름순)
+    public List<LabelCapacityResponse> getLabelCapacities() {
+
+        return snapshot.state().labelList;
+    }
+
+    // 레이블 executor 용량 (그 레이블을 가진 노드가 없으면 empty)
+    public Optional<LabelCapacityResponse> getLabelCapacity(String label) {
+
+        return Optional.ofNullable(snapshot.state().labels.get(label));
+    }
+
+    // 마지막 동기화 시각 (epoch 밀리초, 아직 동기화하지 않았으면 0)
+    public long getSyncedAt() {
+
+        return snapshot.syncedAt();
+    }
+
+    void sync() {
+        List<NodeResponse> nodes;
+        try {
+            nodes = reactiveJenkinsClient.pollAllNodes().block();
+        } catch (RuntimeException e) {
+            log.warn("Node capacity sync failed: {}", e.getMessage());
+            return;
+        }
+        if (nodes == null) {
+            return;
+        }
+
+        SyncedSnapshot<NodeState> previous = snapshot;
+        Map<String, NodeResponse> current = new LinkedHashMap<>();
+        for (NodeResponse node : nodes) {
+            if (node.getName() != null) {
+                current.put(node.getName(), node);
+            }
+        }
+
+        List<NodeStateChangedEvent> changes = diff(previous, current);
+        long now = System.currentTimeMillis();
+        snapshot = new SyncedSnapshot<>(NodeState.of(current, now), now);
+
+        if (!changes.isEmpty()) {
+            log.debug("Node capacity changed: {} node events", changes.size());
+            changes.forEach(eventPublisher::publishEvent);
+        }
+    }
+
+    // 이전 스냅샷과 비교해 뒤집힌 상태만 이벤트로 (첫 동기화는 기준 상태이므로 이벤트 없음)
+    private static List<NodeStateChangedEvent> diff(SyncedSnapshot<NodeState> previous, Map<String, NodeResponse> current) {
+        if (previous == EMPTY) {
+            return List.of();
+        }
+
+        List<NodeStateChangedEvent> changes = new ArrayList<>();
+        current.forEach((name, node) -> {
+            NodeResponse before = previous.state().nodes.get(name);
+            if (before == null) {
+                changes.add(new NodeStateChangedEvent(name, NodeStateChangedEvent.Change.ADDED, node));
+                return;
+            }
+            if (isAvailable(before) != isAvailable(node)) {
+                changes.add(new NodeStateChangedEvent(name,
+                    isAvailable(node) ? NodeStateChangedEvent.Change.ONLINE : NodeStateChangedEvent.Change.OFFLINE, node));
+            }
+            if (isBusy(before) != isBusy(node)) {
+                changes.add(new NodeStateChangedEvent(name,
+                    isBusy(node) ? NodeStateChangedEvent.Change.BUSY : NodeStateChangedEvent.Change.IDLE, node));
+            }
+        });
+        previous.state().nodes.forEach((name, node) -> {
+            if (!current.containsKey(name)) {
+                changes.add(new NodeStateChangedEvent(name, NodeStateChangedEvent.Change.REMOVED, node));
+            }
+        });
+        return changes;
+    }
+
+    // 온라인이고 임시 오프라인이 아닌 노드만 빌드를 받을 수 있음
+    private static boolean isAvailable(NodeResponse node) {
+        return Boolean.TRUE.equals(node.getOnline()) && !Boolean.TRUE.equals(node.getTemporarilyOffline());
+    }
+
+    private static boolean isBusy(NodeResponse node) {
+        return busyExecutors(node) > 0;
+    }
+
+    // executors[idle]를 받지 못한 경우 노드 idle 여부로 추정
+    private static int busyExecutors(NodeResponse node) {
+        if (node.getBusyExecutors() != null) {
+            return node.getBusyExecutors();
+        }
+        return Boolean.FALSE.equals(node.getIdle()) ? 1 : 0;
+    }
+
+    // 노드별 상태와 레이블별 집계
+    private static final class NodeState {
+
+        private static final NodeState EMPTY = new NodeState(Map.of(), List.of(), Map.of(), List.of(), 0, 0, 0);
+
+        private final Map<String, NodeResponse> nodes;
+        private final List<NodeResponse> nodeList;
+        private final Map<String, LabelCapacityResponse> labels;
+        private final List<LabelCapacityResponse> labelList;
+        private final int availableNodes;
+        private final int busyExecutors;
+        private final int freeExecutors;
+
+        private NodeState(Map<String, NodeResponse> nodes, List<NodeResponse> nodeList,
+                         Map<String, LabelCapacityResponse> labels, List<LabelCapacityResponse> labelList,
+                         int availableNodes, int busyExecutors, int freeExecutors) {
+            this.nodes = nodes;
+            this.nodeList = nodeList;
+            this.labels = labels;
+            this.labelList = labelList;
+            this.availableNodes = availableNodes;
+            this.busyExecutors = busyExecutors;
+            this.freeExecutors = freeExecutors;
+        }
+
+        // 노드별 레이블(노드 이름 포함)마다 executor 수를 합산
+        static NodeState of(Map<String, NodeResponse> nodes, long syncedAt) {
+            Map<String, int[]> totals = new HashMap<>();
+            int availableNodes = 0;
+            int busyTotal = 0;
+            int freeTotal = 0;
+
+            for (NodeResponse node : nodes.values()) {
+                boolean available = isAvailable(node);
+                int executors = node.getNumExecutors() != null ? node.getNumExecutors() : 0;
+                int busy = Math.min(busyExecutors(node), executors);
+
+                if (available) {
+                    availableNodes++;
+                    busyTotal += busy;
+                    freeTotal += executors - busy;
+                }
+                for (String label : labelsOf(node)) {
+                    // [노드 수, 사용 가능 노드 수, executor 수, 사용 중 executor 수]
+                    int[] total = totals.computeIfAbsent(label, key -> new int[4]);
+                    total[0]++;
+                    if (available) {
+                        total[1]++;
+                        total[2] += executors;
+                        total[3] += busy;
+                    }
+                }
+            }
+
+            Map<String, LabelCapacityResponse> labels = new HashMap<>(totals.size() * 2);
+            totals.forEach((label, total) -> labels.put(label, LabelCapacityResponse.builder()
+                .label(label)
+                .nodeCount(total[0])
+                .availableNodeCount(total[1])
+                .totalExecutors(total[2])
+                .busyExecutors(total[3])
+                .freeExecutors(total[2] - total[3])
+                .syncedAt(syncedAt)
+                .build()));
+
+            List<LabelCapacityResponse> labelList = new ArrayList<>(labels.values());
+            labelList.sort((a, b) -> a.getLabel().compareTo(b.getLabel()));
+
+            return new NodeState(Collections.unmodifiableMap(nodes), List.copyOf(nodes.values()),
+                Collections.unmodifiableMap(labels), Collections.unmodifiableList(labelList),
+                availableNodes, busyTotal, freeTotal);
+        }
+
+        // 노드 이름 레이블 + labelString의 레이블
+        private static List<String> labelsOf(NodeResponse node) {
+            List<String> labels = new ArrayList<>();
+            labels.add(node.getName());
+            if (node.getLabelString() != null) {
+                for (String label : node.getLabelString().split(" ")) {
+                    if (!label.isEmpty() && !Objects.equals(label, node.getName()) && !labels.contains(label)) {
+                        labels.add(label);
+                    }
+                }
+            }
+            return labels;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.dto.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Jenkins 관리 논블로킹 서비스 인터페이스
+ * JenkinsService와 같은 기능을 Mono/Flux로 제공합니다.
+ */
+public interface ReactiveJenkinsService {
+
+    // 모든 Job 목록 조회
+    Flux<JobResponse> getAllJobs();
+
+    // 특정 Job 정보 조회
+    Mono<JobResponse> getJob(String jobName);
+
+    // Job 생성
+    Mono<Void> createJob(JobCreateRequest request);
+
+    // Job 업데이트
+    Mono<Void> updateJob(String jobName, JobCreateRequest request);
+
+    // Job 삭제
+    Mono<Void> deleteJob(String jobName);
+
+    // Job 빌드 실행
+    Mono<QueueItemResponse> triggerBuild(BuildRequest request);
+
+    // 특정 빌드 정보 조회
+    Mono<BuildResponse> getBuildInfo(String jobName, int buildNumber);
+
+    // 마지막 빌드 정보 조회
+    Mono<BuildResponse> getLastBuild(String jobName);
+
+    // 빌드 로그 조회
+    Mono<BuildLogResponse> getBuildLog(String jobName, int buildNumber);
+
+    // 빌드 로그 스트리밍 조회 (start 오프셋부터)
+    Mono<ProgressiveLogResponse> streamBuildLog(String jobName, int buildNumber, long start);
+
+    // Job의 모든 빌드 목록 조회
+    Flux<BuildResponse> getAllBuilds(String jobName);
+
+    // 모든 노드 정보 조회
+    Flux<NodeResponse> getAllNodes();
+
+    // Jenkins 서버 연결 상태 확인
+    Mono<Boolean> checkConnection();
+}
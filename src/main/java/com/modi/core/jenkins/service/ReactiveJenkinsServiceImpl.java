@@ -0,0 +1,133 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsCacheNames;
+import com.modi.core.jenkins.dto.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Jenkins 관리 논블로킹 서비스 구현체
+ * 변경(생성/수정/삭제/빌드 실행)이 성공하면 JenkinsServiceImpl의 @CacheEvict와 같은 범위의 캐시를 직접 무효화합니다.
+ */
+@Slf4j
+@Service
+public class ReactiveJenkinsServiceImpl implements ReactiveJenkinsService {
+
+    // 빌드 목록 조회 시 반환할 최근 빌드 개수
+    private static final int RECENT_BUILD_COUNT = 10;
+
+    private final ReactiveJenkinsClient reactiveJenkinsClient;
+    private final Cache jobsCache;
+    private final Cache jobCache;
+    private final Cache buildCache;
+
+    public ReactiveJenkinsServiceImpl(ReactiveJenkinsClient reactiveJenkinsClient, CacheManager cacheManager) {
+        this.reactiveJenkinsClient = reactiveJenkinsClient;
+        this.jobsCache = cacheManager.getCache(JenkinsCacheNames.JOBS);
+        this.jobCache = cacheManager.getCache(JenkinsCacheNames.JOB);
+        this.buildCache = cacheManager.getCache(JenkinsCacheNames.BUILDS);
+    }
+
+    @Override
+    public Flux<JobResponse> getAllJobs() {
+
+        return reactiveJenkinsClient.getAllJobs().flatMapIterable(jobs -> jobs);
+    }
+
+    @Override
+    public Mono<JobResponse> getJob(String jobName) {
+
+        return reactiveJenkinsClient.getJob(jobName);
+    }
+
+    @Override
+    public Mono<Void> createJob(JobCreateRequest request) {
+
+        return reactiveJenkinsClient.createJob(request)
+            .doOnSuccess(done -> evictJob(request.getJobName(), false));
+    }
+
+    @Override
+    public Mono<Void> updateJob(String jobName, JobCreateRequest request) {
+
+        // 기존 Job 삭제 후 새로운 설정으로 재생성 (재생성에 실패해도 삭제는 반영)
+        return deleteJob(jobName)
+            .then(createJob(request));
+    }
+
+    @Override
+    public Mono<Void> deleteJob(String jobName) {
+
+        return reactiveJenkinsClient.deleteJob(jobName)
+            .doOnSuccess(done -> evictJob(jobName, true));
+    }
+
+    @Override
+    public Mono<QueueItemResponse> triggerBuild(BuildRequest request) {
+
+        return reactiveJenkinsClient.triggerBuild(request)
+            .doOnSuccess(queueItem -> evictJob(request.getJobName(), false))
+            .flatMap(reactiveJenkinsClient::resolveQueueItem);
+    }
+
+    @Override
+    public Mono<BuildResponse> getBuildInfo(String jobName, int buildNumber) {
+
+        return reactiveJenkinsClient.getBuildInfo(jobName, buildNumber);
+    }
+
+    @Override
+    public Mono<BuildResponse> getLastBuild(String jobName) {
+
+        return reactiveJenkinsClient.getLastBuild(jobName);
+    }
+
+    @Override
+    public Mono<BuildLogResponse> getBuildLog(String jobName, int buildNumber) {
+
+        return reactiveJenkinsClient.getBuildLog(jobName, buildNumber);
+    }
+
+    @Override
+    public Mono<ProgressiveLogResponse> streamBuildLog(String jobName, int buildNumber, long start) {
+
+        return reactiveJenkinsClient.streamBuildLog(jobName, buildNumber, Math.max(start, 0L));
+    }
+
+    @Override
+    public Flux<BuildResponse> getAllBuilds(String jobName) {
+
+        return reactiveJenkinsClient.getBuilds(jobName, 0, RECENT_BUILD_COUNT)
+            .flatMapIterable(builds -> builds);
+    }
+
+    @Override
+    public Flux<NodeResponse> getAllNodes() {
+
+        return reactiveJenkinsClient.getAllNodes().flatMapIterable(nodes -> nodes);
+    }
+
+    @Override
+    public Mono<Boolean> checkConnection() {
+
+        return reactiveJenkinsClient.isRunning();
+    }
+
+    // Job 목록/Job 캐시 무효화 (Job이 사라지거나 다시 만들어지면 빌드 캐시도 전체 무효화)
+    private void evictJob(String jobName, boolean builds) {
+        if (jobsCache != null) {
+            jobsCache.clear();
+        }
+        if (jobCache != null) {
+            jobCache.evict(jobName);
+        }
+        if (builds && buildCache != null) {
+            buildCache.clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.modi.core.jenkins.service;
+
+import java.time.Duration;
+
+/**
+ * 백그라운드 동기화 결과를 담는 불변 스냅샷
+ * 교체만 하고 수정하지 않으므로 읽기 쪽은 volatile 참조 하나로 잠금 없이 읽습니다.
+ * syncedAt은 Jenkins와 마지막으로 동기화한 시각(epoch 밀리초)이며, 0이면 아직 동기화하지 않은 상태입니다.
+ */
+record SyncedSnapshot<T>(T state, long syncedAt) {
+
+    // 아직 동기화하지 않은 스냅샷
+    static <T> SyncedSnapshot<T> empty(T state) {
+
+        return new SyncedSnapshot<>(state, 0L);
+    }
+
+    // 내용은 그대로 두고 동기화 시각만 갱신
+    SyncedSnapshot<T> verifiedAt(long now) {
+
+        return new SyncedSnapshot<>(state, now);
+    }
+
+    // 내용만 교체하고 동기화 시각은 유지 (전체 상태를 다시 확인하지 않은 부분 반영)
+    SyncedSnapshot<T> withState(T newState) {
+
+        return new SyncedSnapshot<>(newState, syncedAt);
+    }
+
+    // 동기화한 적이 있고 마지막 동기화가 maxStaleness 이내인지
+    boolean isFresh(Duration maxStaleness) {
+
+        return syncedAt > 0 && ageMillis() <= maxStaleness.toMillis();
+    }
+
+    // 마지막 동기화 이후 경과 시간 (밀리초, 아직 동기화하지 않았으면 -1)
+    long ageMillis() {
+
+        return syncedAt > 0 ? System.currentTimeMillis() - syncedAt : -1L;
+    }
+}
@@ -0,0 +1,288 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins 캐시 값 바이너리 직렬화기
+ * 필드 이름이나 타입 정보를 싣지 않고 태그 1바이트 + 값만 기록하므로 JSON 직렬화보다 작고 빠릅니다.
+ * DTO 필드를 추가/변경하면 FORMAT_VERSION을 올립니다.
+ * 형식 버전이 다르거나 읽을 수 없는 값은 SerializationException으로 알리고, TwoLevelCache가 이를 캐시 미스로 처리해 L2에서 지웁니다.
+ * 읽은 List/Map은 수정할 수 없는 컬렉션으로 반환해, 캐시에서 꺼낸 값을 호출자가 바꿔 L1에 공유된 값이 달라지는 일을 막습니다.
+ */
+public class JenkinsCacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_VERSION = 3;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_BOOLEAN = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_LIST = 5;
+    private static final byte TAG_MAP = 6;
+    private static final byte TAG_JOB = 10;
+    private static final byte TAG_BUILD = 11;
+    private static final byte TAG_NODE = 12;
+    private static final byte TAG_QUEUE_ITEM = 13;
+
+    // 컬렉션 초기 용량 상한 (손상된 크기 값으로 큰 배열을 미리 잡지 않도록, 실제 원소가 더 많으면 늘어남)
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeValue(out, value);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize cache value", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new SerializationException("Unsupported cache value format version: " + version);
+            }
+            return readValue(in);
+        } catch (IOException | ClassCastException e) {
+            throw new SerializationException("Failed to deserialize cache value", e);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            writeString(out, s);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TAG_INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(l);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            writeVarInt(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof JobResponse job) {
+            out.writeByte(TAG_JOB);
+            writeValue(out, job.getName());
+            writeValue(out, job.getUrl());
+            writeValue(out, job.getDescription());
+            writeValue(out, job.getBuildable());
+            writeValue(out, job.getLastBuildNumber());
+            writeValue(out, job.getLastSuccessfulBuildNumber());
+            writeValue(out, job.getLastFailedBuildNumber());
+            writeValue(out, job.getColor());
+            writeValue(out, job.getInQueue());
+            writeValue(out, job.getBuilds());
+        } else if (value instanceof BuildResponse build) {
+            out.writeByte(TAG_BUILD);
+            writeValue(out, build.getNumber());
+            writeValue(out, build.getUrl());
+            writeValue(out, build.getResult());
+            writeValue(out, build.getBuilding());
+            writeValue(out, build.getDuration());
+            writeValue(out, build.getEstimatedDuration());
+            writeValue(out, build.getTimestamp());
+            writeValue(out, build.getParameters());
+            writeValue(out, build.getUserId());
+            writeValue(out, build.getDescription());
+            writeValue(out, build.getQueueId());
+        } else if (value instanceof NodeResponse node) {
+            out.writeByte(TAG_NODE);
+            writeValue(out, node.getName());
+            writeValue(out, node.getDescription());
+            writeValue(out, node.getOnline());
+            writeValue(out, node.getTemporarilyOffline());
+            writeValue(out, node.getNumExecutors());
+            writeValue(out, node.getIdle());
+            writeValue(out, node.getOfflineCauseReason());
+            writeValue(out, node.getLabelString());
+            writeValue(out, node.getBusyExecutors());
+        } else if (value instanceof QueueItemResponse item) {
+            out.writeByte(TAG_QUEUE_ITEM);
+            writeValue(out, item.getId());
+            writeValue(out, item.getJobName());
+            writeValue(out, item.getInQueueSince());
+            writeValue(out, item.getWhy());
+            writeValue(out, item.getBlocked());
+            writeValue(out, item.getBuildable());
+            writeValue(out, item.getExecutableNumber());
+            writeValue(out, item.getCancelled());
+            writeValue(out, item.getBuild());
+        } else {
+            throw new SerializationException("Unsupported cache value type: " + value.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_INTEGER:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_LIST: {
+                int size = readSize(in);
+                List<Object> list = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                // 원소에 null이 있을 수 있어 List.copyOf 대신 읽기 전용 뷰로 감쌈 (원본 list는 밖으로 나가지 않음)
+                return Collections.unmodifiableList(list);
+            }
+            case TAG_MAP: {
+                int size = readSize(in);
+                Map<Object, Object> map = new LinkedHashMap<>(Math.min(size, MAX_INITIAL_CAPACITY) * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                return Collections.unmodifiableMap(map);
+            }
+            case TAG_JOB:
+                return JobResponse.builder()
+                        .name((String) readValue(in))
+                        .url((String) readValue(in))
+                        .description((String) readValue(in))
+                        .buildable((Boolean) readValue(in))
+                        .lastBuildNumber((Integer) readValue(in))
+                        .lastSuccessfulBuildNumber((Integer) readValue(in))
+                        .lastFailedBuildNumber((Integer) readValue(in))
+                        .color((String) readValue(in))
+                        .inQueue((Boolean) readValue(in))
+                        .builds((List<BuildResponse>) readValue(in))
+                        .build();
+            case TAG_BUILD:
+                return BuildResponse.builder()
+                        .number((Integer) readValue(in))
+                        .url((String) readValue(in))
+                        .result((String) readValue(in))
+                        .building((Boolean) readValue(in))
+                        .duration((Long) readValue(in))
+                        .estimatedDuration((Long) readValue(in))
+                        .timestamp((Long) readValue(in))
+                        .parameters((Map<String, String>) readValue(in))
+                        .userId((String) readValue(in))
+                        .description((String) readValue(in))
+                        .queueId((Long) readValue(in))
+                        .build();
+            case TAG_NODE:
+                return NodeResponse.builder()
+                        .name((String) readValue(in))
+                        .description((String) readValue(in))
+                        .online((Boolean) readValue(in))
+                        .temporarilyOffline((Boolean) readValue(in))
+                        .numExecutors((Integer) readValue(in))
+                        .idle((Boolean) readValue(in))
+                        .offlineCauseReason((String) readValue(in))
+                        .labelString((String) readValue(in))
+                        .busyExecutors((Integer) readValue(in))
+                        .build();
+            case TAG_QUEUE_ITEM:
+                return QueueItemResponse.builder()
+                        .id((Long) readValue(in))
+                        .jobName((String) readValue(in))
+                        .inQueueSince((Long) readValue(in))
+                        .why((String) readValue(in))
+                        .blocked((Boolean) readValue(in))
+                        .buildable((Boolean) readValue(in))
+                        .executableNumber((Integer) readValue(in))
+                        .cancelled((Boolean) readValue(in))
+                        .build((BuildResponse) readValue(in))
+                        .build();
+            default:
+                throw new SerializationException("Unknown cache value tag: " + tag);
+        }
+    }
+
+    // DataOutput.writeUTF는 64KB 제한이 있어 길이(varint) + UTF-8 바이트로 기록
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 컬렉션 크기 (손상된 값이 음수 크기로 읽히면 형식 오류)
+    private static int readSize(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        if (size < 0) {
+            throw new SerializationException("Malformed collection size in cache value: " + size);
+        }
+        return size;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new SerializationException("Malformed varint in cache value");
+            }
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
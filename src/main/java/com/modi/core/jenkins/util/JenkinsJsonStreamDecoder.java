@@ -0,0 +1,455 @@
+package com.modi.core.jenkins.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins JSON 응답 스트리밍 디코더
+ * JsonNode 트리를 만들지 않고 JsonParser 토큰을 읽으면서 바로 DTO로 변환합니다.
+ * Job/노드가 수만 개인 응답에서도 결과 DTO 외의 중간 객체를 거의 만들지 않습니다.
+ * 필드 의미는 JenkinsUtils의 트리 기반 변환과 같고, JSON null은 "null" 문자열이 아닌 null로 변환합니다.
+ */
+public class JenkinsJsonStreamDecoder {
+
+    // 응답 본문을 모을 때 허용하는 최대 크기 (바이트)
+    public static final int MAX_BODY_BYTES = 64 * 1024 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JenkinsJsonStreamDecoder() {
+        // 인스턴스 생성 방지
+    }
+
+    // DataBuffer 본문을 디코딩하는 함수 (클라이언트에서 디코더를 넘길 때 사용)
+    @FunctionalInterface
+    public interface BodyDecoder<T> {
+        T decode(DataBuffer body) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    // /api/json?tree=jobs[...] 응답 → Job 목록 (버퍼는 읽은 뒤 해제)
+    public static List<JobResponse> decodeJobs(DataBuffer body) throws IOException {
+        try (InputStream in = body.asInputStream(true)) {
+            return decodeJobs(in);
+        }
+    }
+
+    public static List<JobResponse> decodeJobs(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return readArrayField(parser, "jobs", JenkinsJsonStreamDecoder::readJob);
+        }
+    }
+
+    // /job/{jobName}/api/json 응답 → Job 상세 (버퍼는 읽은 뒤 해제)
+    public static JobResponse decodeJob(DataBuffer body) throws IOException {
+        try (InputStream in = body.asInputStream(true)) {
+            return decodeJob(in);
+        }
+    }
+
+    public static JobResponse decodeJob(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            expectStartObject(parser, parser.nextToken());
+            return readJob(parser);
+        }
+    }
+
+    // /job/{jobName}/api/json?tree=allBuilds[...]{from,to} 응답 → 빌드 목록 (버퍼는 읽은 뒤 해제)
+    public static List<BuildResponse> decodeAllBuilds(DataBuffer body) throws IOException {
+        try (InputStream in = body.asInputStream(true)) {
+            try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+                return readArrayField(parser, "allBuilds", JenkinsJsonStreamDecoder::readBuild);
+            }
+        }
+    }
+
+    // /computer/api/json?tree=computer[...] 응답 → 노드 목록 (버퍼는 읽은 뒤 해제)
+    public static List<NodeResponse> decodeNodes(DataBuffer body) throws IOException {
+        try (InputStream in = body.asInputStream(true)) {
+            return decodeNodes(in);
+        }
+    }
+
+    public static List<NodeResponse> decodeNodes(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return readArrayField(parser, "computer", JenkinsJsonStreamDecoder::readNode);
+        }
+    }
+
+    // /queue/api/json?tree=items[...] 응답 → 대기열 항목 목록 (버퍼는 읽은 뒤 해제)
+    public static List<QueueItemResponse> decodeQueue(DataBuffer body) throws IOException {
+        try (InputStream in = body.asInputStream(true)) {
+            try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+                return readArrayField(parser, "items", JenkinsJsonStreamDecoder::readQueueItem);
+            }
+        }
+    }
+
+    // 최상위 객체에서 지정한 배열 필드의 원소만 읽고 나머지 필드는 건너뜀
+    private static <T> List<T> readArrayField(JsonParser parser, String fieldName, ElementReader<T> reader) throws IOException {
+        expectStartObject(parser, parser.nextToken());
+
+        List<T> result = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (fieldName.equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        result.add(reader.read(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static JobResponse readJob(JsonParser parser) throws IOException {
+        JobResponse.JobResponseBuilder job = JobResponse.builder();
+        List<BuildResponse> builds = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "name" -> job.name(textValue(parser, token));
+                case "url" -> job.url(textValue(parser, token));
+                case "description" -> job.description(textValue(parser, token));
+                case "buildable" -> job.buildable(booleanValue(parser, token));
+                case "color" -> job.color(textValue(parser, token));
+                case "inQueue" -> job.inQueue(booleanValue(parser, token));
+                case "lastBuild" -> job.lastBuildNumber(nestedNumber(parser, token));
+                case "lastSuccessfulBuild" -> job.lastSuccessfulBuildNumber(nestedNumber(parser, token));
+                case "lastFailedBuild" -> job.lastFailedBuildNumber(nestedNumber(parser, token));
+                case "builds" -> readBuilds(parser, token, builds);
+                default -> parser.skipChildren();
+            }
+        }
+        return job.builds(Collections.unmodifiableList(builds)).build();
+    }
+
+    private static void readBuilds(JsonParser parser, JsonToken token, List<BuildResponse> builds) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                builds.add(readBuild(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static BuildResponse readBuild(JsonParser parser) throws IOException {
+        BuildResponse.BuildResponseBuilder build = BuildResponse.builder();
+        Map<String, String> parameters = new HashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "number" -> build.number(intValue(parser, token));
+                case "url" -> build.url(textValue(parser, token));
+                case "result" -> build.result(textValue(parser, token));
+                case "building" -> build.building(booleanValue(parser, token));
+                case "duration" -> build.duration(longValue(parser, token));
+                case "estimatedDuration" -> build.estimatedDuration(longValue(parser, token));
+                case "timestamp" -> build.timestamp(longValue(parser, token));
+                case "queueId" -> build.queueId(longValue(parser, token));
+                case "actions" -> readParameterActions(parser, token, parameters);
+                default -> parser.skipChildren();
+            }
+        }
+        return build.parameters(Collections.unmodifiableMap(parameters)).build();
+    }
+
+    // actions[].parameters[] 의 name/value 쌍 수집
+    private static void readParameterActions(JsonParser parser, JsonToken token, Map<String, String> parameters) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ("parameters".equals(field) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.START_OBJECT) {
+                            readParameter(parser, parameters);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void readParameter(JsonParser parser, Map<String, String> parameters) throws IOException {
+        String name = null;
+        String value = null;
+        boolean hasName = false;
+        boolean hasValue = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if ("name".equals(field)) {
+                name = textValue(parser, token);
+                hasName = true;
+            } else if ("value".equals(field)) {
+                value = textValue(parser, token);
+                hasValue = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (hasName && hasValue) {
+            parameters.put(name, value);
+        }
+    }
+
+    private static NodeResponse readNode(JsonParser parser) throws IOException {
+        NodeResponse.NodeResponseBuilder node = NodeResponse.builder();
+        String name = null;
+        List<String> labels = new ArrayList<>();
+        Integer busyExecutors = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "displayName" -> {
+                    name = textValue(parser, token);
+                    node.name(name);
+                }
+                case "description" -> node.description(textValue(parser, token));
+                case "offline" -> {
+                    Boolean offline = booleanValue(parser, token);
+                    node.online(offline != null ? !offline : null);
+                }
+                case "temporarilyOffline" -> node.temporarilyOffline(booleanValue(parser, token));
+                case "numExecutors" -> node.numExecutors(intValue(parser, token));
+                case "idle" -> node.idle(booleanValue(parser, token));
+                case "offlineCauseReason" -> node.offlineCauseReason(textValue(parser, token));
+                case "assignedLabels" -> readLabels(parser, token, labels);
+                case "executors" -> busyExecutors = countBusyExecutors(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        return node.labelString(JenkinsUtils.joinLabels(labels, name)).busyExecutors(busyExecutors).build();
+    }
+
+    // assignedLabels[].name 수집
+    private static void readLabels(JsonParser parser, JsonToken token, List<String> labels) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ("name".equals(field)) {
+                    String label = textValue(parser, valueToken);
+                    if (label != null) {
+                        labels.add(label);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    // executors[].idle 이 false인 executor 수
+    private static Integer countBusyExecutors(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        int busy = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ("idle".equals(field)) {
+                    if (Boolean.FALSE.equals(booleanValue(parser, valueToken))) {
+                        busy++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return busy;
+    }
+
+    private static QueueItemResponse readQueueItem(JsonParser parser) throws IOException {
+        QueueItemResponse.QueueItemResponseBuilder item = QueueItemResponse.builder();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "id" -> item.id(longValue(parser, token));
+                case "task" -> item.jobName(nestedName(parser, token));
+                case "inQueueSince" -> item.inQueueSince(longValue(parser, token));
+                case "why" -> item.why(textValue(parser, token));
+                case "blocked" -> item.blocked(booleanValue(parser, token));
+                case "buildable" -> item.buildable(booleanValue(parser, token));
+                case "cancelled" -> item.cancelled(booleanValue(parser, token));
+                case "executable" -> item.executableNumber(nestedNumber(parser, token));
+                default -> parser.skipChildren();
+            }
+        }
+        return item.build();
+    }
+
+    // {"name": "..."} 형태의 중첩 객체에서 이름만 추출
+    private static String nestedName(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if ("name".equals(field)) {
+                name = textValue(parser, valueToken);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    // {"number": N} 형태의 중첩 객체에서 번호만 추출
+    private static Integer nestedNumber(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        Integer number = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if ("number".equals(field)) {
+                number = intValue(parser, valueToken);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return number;
+    }
+
+    private static String textValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private static Boolean booleanValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsBoolean();
+    }
+
+    private static Integer intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsInt();
+    }
+
+    private static Long longValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsLong();
+    }
+
+    private static void expectStartObject(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected JSON object but found " + token);
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package com.modi.core.jenkins.util;
 
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.BusinessException;
 import com.modi.core.jenkins.dto.BuildResponse;
 import com.modi.core.jenkins.dto.JobCreateRequest;
 import com.modi.core.jenkins.dto.JobResponse;
 import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -18,6 +30,33 @@ import java.util.stream.StreamSupport;
  */
 public class JenkinsUtils {
 
+    // progressiveText 응답 헤더: 다음 요청 시작 오프셋
+    public static final String X_TEXT_SIZE = "X-Text-Size";
+
+    // progressiveText 응답 헤더: 로그가 더 이어지는지 여부
+    public static final String X_MORE_DATA = "X-More-Data";
+
+    // 로그 스트리밍 시 한 번에 대기열에 쌓아둘 최대 DataBuffer 개수
+    private static final int LOG_STREAM_PREFETCH = 16;
+
+    private static final int LOG_COPY_CHUNK_SIZE = 8192;
+
+    // 목록 조회 시 선택할 수 있는 JobResponse 필드 → Jenkins tree 식
+    private static final Map<String, String> JOB_TREE_FIELDS = Map.of(
+            "name", "name",
+            "url", "url",
+            "description", "description",
+            "buildable", "buildable",
+            "color", "color",
+            "inQueue", "inQueue",
+            "lastBuildNumber", "lastBuild[number]",
+            "lastSuccessfulBuildNumber", "lastSuccessfulBuild[number]",
+            "lastFailedBuildNumber", "lastFailedBuild[number]"
+    );
+
+    private static final String DEFAULT_JOB_TREE_FIELDS =
+            "name,url,description,buildable,color,inQueue,lastBuild[number],lastSuccessfulBuild[number],lastFailedBuild[number]";
+
     private JenkinsUtils() {
         // 인스턴스 생성 방지
     }
@@ -28,7 +67,6 @@ public class JenkinsUtils {
             JsonNode buildsNode = json.get("builds");
             builds = StreamSupport.stream(buildsNode.spliterator(), false)
                     .map(JenkinsUtils::convertJsonToBuildResponse)
-                    .limit(10)
                     .collect(Collectors.toList());
         }
 
@@ -45,7 +83,7 @@ public class JenkinsUtils {
                         json.get("lastFailedBuild").get("number").asInt() : null)
                 .color(json.has("color") ? json.get("color").asText() : null)
                 .inQueue(json.has("inQueue") ? json.get("inQueue").asBoolean() : null)
-                .builds(builds)
+                .builds(Collections.unmodifiableList(builds))
                 .build();
     }
 
@@ -77,79 +115,145 @@ public class JenkinsUtils {
                 .duration(json.has("duration") ? json.get("duration").asLong() : null)
                 .estimatedDuration(json.has("estimatedDuration") ? json.get("estimatedDuration").asLong() : null)
                 .timestamp(json.has("timestamp") ? json.get("timestamp").asLong() : null)
-                .parameters(parameters)
+                .queueId(json.has("queueId") ? json.get("queueId").asLong() : null)
+                .parameters(Collections.unmodifiableMap(parameters))
                 .build();
     }
 
     public static NodeResponse convertJsonToNodeResponse(JsonNode json) {
+        String name = json.has("displayName") ? json.get("displayName").asText() : null;
+
+        List<String> labels = new ArrayList<>();
+        if (json.has("assignedLabels")) {
+            for (JsonNode label : json.get("assignedLabels")) {
+                if (label.hasNonNull("name")) {
+                    labels.add(label.get("name").asText());
+                }
+            }
+        }
+
+        Integer busyExecutors = null;
+        if (json.has("executors")) {
+            int busy = 0;
+            for (JsonNode executor : json.get("executors")) {
+                if (executor.has("idle") && !executor.get("idle").asBoolean()) {
+                    busy++;
+                }
+            }
+            busyExecutors = busy;
+        }
+
         return NodeResponse.builder()
-                .name(json.has("displayName") ? json.get("displayName").asText() : null)
+                .name(name)
                 .description(json.has("description") ? json.get("description").asText() : null)
                 .online(json.has("offline") ? !json.get("offline").asBoolean() : null)
                 .temporarilyOffline(json.has("temporarilyOffline") ? json.get("temporarilyOffline").asBoolean() : null)
                 .numExecutors(json.has("numExecutors") ? json.get("numExecutors").asInt() : null)
                 .idle(json.has("idle") ? json.get("idle").asBoolean() : null)
                 .offlineCauseReason(json.has("offlineCauseReason") ? json.get("offlineCauseReason").asText() : null)
+                .labelString(joinLabels(labels, name))
+                .busyExecutors(busyExecutors)
+                .build();
+    }
+
+    // 노드 레이블을 공백으로 연결 (Jenkins labelString과 같이 노드 자신의 이름 레이블은 제외, 레이블이 없으면 null)
+    public static String joinLabels(List<String> labels, String nodeName) {
+        StringBuilder labelString = new StringBuilder();
+        for (String label : labels) {
+            if (label.isEmpty() || label.equals(nodeName)) {
+                continue;
+            }
+            if (!labelString.isEmpty()) {
+                labelString.append(' ');
+            }
+            labelString.append(label);
+        }
+        return labelString.isEmpty() ? null : labelString.toString();
+    }
+
+    public static QueueItemResponse convertJsonToQueueItemResponse(JsonNode json) {
+        return QueueItemResponse.builder()
+                .id(json.has("id") ? json.get("id").asLong() : null)
+                .jobName(json.has("task") && json.get("task").has("name") ? json.get("task").get("name").asText() : null)
+                .inQueueSince(json.has("inQueueSince") ? json.get("inQueueSince").asLong() : null)
+                .why(json.has("why") && !json.get("why").isNull() ? json.get("why").asText() : null)
+                .blocked(json.has("blocked") ? json.get("blocked").asBoolean() : null)
+                .buildable(json.has("buildable") ? json.get("buildable").asBoolean() : null)
+                .executableNumber(json.has("executable") && json.get("executable").has("number") ?
+                        json.get("executable").get("number").asInt() : null)
+                .cancelled(json.has("cancelled") ? json.get("cancelled").asBoolean() : null)
                 .build();
     }
 
+    // jobType(freestyle/pipeline)에 맞는 config.xml 생성 (JobConfigTemplate 사용)
     public static String generateJobXml(JobCreateRequest request) {
-        StringBuilder xml = new StringBuilder();
-        xml.append("<?xml version='1.1' encoding='UTF-8'?>\n");
-        xml.append("<project>\n");
-        xml.append("  <description>").append(request.getDescription() != null ? request.getDescription() : "").append("</description>\n");
-        xml.append("  <keepDependencies>false</keepDependencies>\n");
-        xml.append("  <properties/>\n");
-
-        // Git 설정
-        if (request.getGitUrl() != null) {
-            xml.append("  <scm class='hudson.plugins.git.GitSCM'>\n");
-            xml.append("    <userRemoteConfigs>\n");
-            xml.append("      <hudson.plugins.git.UserRemoteConfig>\n");
-            xml.append("        <url>").append(request.getGitUrl()).append("</url>\n");
-            xml.append("      </hudson.plugins.git.UserRemoteConfig>\n");
-            xml.append("    </userRemoteConfigs>\n");
-            xml.append("    <branches>\n");
-            xml.append("      <hudson.plugins.git.BranchSpec>\n");
-            xml.append("        <name>").append(request.getGitBranch() != null ? request.getGitBranch() : "*/main").append("</name>\n");
-            xml.append("      </hudson.plugins.git.BranchSpec>\n");
-            xml.append("    </branches>\n");
-            xml.append("  </scm>\n");
-        } else {
-            xml.append("  <scm class='hudson.scm.NullSCM'/>\n");
+
+        return JobConfigTemplate.render(request);
+    }
+
+    public static String escapeXml(String text) {
+
+        return XmlEscaper.escape(text);
+    }
+
+    // 선택한 필드를 jobs[...] 안에 들어갈 tree 식으로 변환 (name은 항상 포함)
+    public static String jobTreeFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return DEFAULT_JOB_TREE_FIELDS;
         }
 
-        xml.append("  <canRoam>true</canRoam>\n");
-        xml.append("  <disabled>false</disabled>\n");
-        xml.append("  <blockBuildWhenDownstreamBuilding>false</blockBuildWhenDownstreamBuilding>\n");
-        xml.append("  <blockBuildWhenUpstreamBuilding>false</blockBuildWhenUpstreamBuilding>\n");
-        xml.append("  <triggers/>\n");
-        xml.append("  <concurrentBuild>false</concurrentBuild>\n");
-
-        // 빌드 스크립트
-        if (request.getBuildScript() != null) {
-            xml.append("  <builders>\n");
-            xml.append("    <hudson.tasks.Shell>\n");
-            xml.append("      <command>").append(escapeXml(request.getBuildScript())).append("</command>\n");
-            xml.append("    </hudson.tasks.Shell>\n");
-            xml.append("  </builders>\n");
-        } else {
-            xml.append("  <builders/>\n");
+        StringBuilder tree = new StringBuilder("name");
+        for (String field : fields) {
+            String expression = JOB_TREE_FIELDS.get(field.trim());
+            if (expression == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Unsupported job field: " + field);
+            }
+            if (!"name".equals(expression)) {
+                tree.append(',').append(expression);
+            }
         }
+        return tree.toString();
+    }
 
-        xml.append("  <publishers/>\n");
-        xml.append("  <buildWrappers/>\n");
-        xml.append("</project>");
+    public static long parseTextSize(HttpHeaders headers, long defaultValue) {
+        String textSize = headers.getFirst(X_TEXT_SIZE);
+        if (textSize == null || textSize.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(textSize.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 
-        return xml.toString();
+    public static boolean hasMoreData(HttpHeaders headers) {
+        return Boolean.parseBoolean(headers.getFirst(X_MORE_DATA));
     }
 
-    public static String escapeXml(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&apos;");
+    // DataBuffer 스트림을 OutputStream으로 복사 (대기열 크기를 제한해 힙 사용량을 고정)
+    public static void copyLog(Flux<DataBuffer> content, OutputStream outputStream) throws IOException {
+        byte[] chunk = new byte[LOG_COPY_CHUNK_SIZE];
+
+        try (Stream<DataBuffer> buffers = content
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .toStream(LOG_STREAM_PREFETCH)) {
+
+            Iterator<DataBuffer> iterator = buffers.iterator();
+            while (iterator.hasNext()) {
+                DataBuffer buffer = iterator.next();
+                try {
+                    int remaining;
+                    while ((remaining = buffer.readableByteCount()) > 0) {
+                        int length = Math.min(remaining, chunk.length);
+                        buffer.read(chunk, 0, length);
+                        outputStream.write(chunk, 0, length);
+                    }
+                    outputStream.flush();
+                } finally {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+        }
     }
 }
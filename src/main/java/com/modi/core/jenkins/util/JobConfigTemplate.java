@@ -0,0 +1,241 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.error.enums.ErrorCode;
+import com.modi.core.exception.BusinessException;
+import com.modi.core.jenkins.dto.JobCreateRequest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins Job config.xml 템플릿
+ * 템플릿 문자열은 클래스 로딩 시 한 번만 고정 조각/슬롯 목록으로 컴파일하고,
+ * 렌더링할 때는 고정 조각을 그대로 복사하고 슬롯 값만 단일 패스로 이스케이프해 기록합니다.
+ * 큰 빌드 스크립트는 writeTo()로 문자열을 만들지 않고 OutputStream에 바로 흘려보냅니다.
+ */
+public final class JobConfigTemplate {
+
+    public static final String JOB_TYPE_FREESTYLE = "freestyle";
+    public static final String JOB_TYPE_PIPELINE = "pipeline";
+
+    // 이 크기(문자 수)를 넘는 빌드 스크립트는 스트리밍으로 전송
+    public static final int STREAMING_THRESHOLD = 256 * 1024;
+
+    // 스레드별 재사용 버퍼의 최대 보관 크기 (이보다 커진 버퍼는 버려서 메모리를 붙잡지 않음)
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    // 슬롯 값을 기록하는 함수
+    @FunctionalInterface
+    private interface Slot {
+        void write(JobCreateRequest request, Appendable out) throws IOException;
+    }
+
+    private static final JobConfigTemplate GIT_SCM = compile("""
+              <scm class="hudson.plugins.git.GitSCM" plugin="git">
+                <configVersion>2</configVersion>
+                <userRemoteConfigs>
+                  <hudson.plugins.git.UserRemoteConfig>
+                    <url>${gitUrl}</url>
+                  </hudson.plugins.git.UserRemoteConfig>
+                </userRemoteConfigs>
+                <branches>
+                  <hudson.plugins.git.BranchSpec>
+                    <name>${gitBranch}</name>
+                  </hudson.plugins.git.BranchSpec>
+                </branches>
+              </scm>
+            """, Map.of());
+
+    private static final JobConfigTemplate SHELL_BUILDERS = compile("""
+              <builders>
+                <hudson.tasks.Shell>
+                  <command>${buildScript}</command>
+                </hudson.tasks.Shell>
+              </builders>
+            """, Map.of());
+
+    private static final JobConfigTemplate FREESTYLE = compile("""
+            <?xml version='1.1' encoding='UTF-8'?>
+            <project>
+              <description>${description}</description>
+              <keepDependencies>false</keepDependencies>
+              <properties/>
+            ${scm}  <canRoam>true</canRoam>
+              <disabled>false</disabled>
+              <blockBuildWhenDownstreamBuilding>false</blockBuildWhenDownstreamBuilding>
+              <blockBuildWhenUpstreamBuilding>false</blockBuildWhenUpstreamBuilding>
+              <triggers/>
+              <concurrentBuild>false</concurrentBuild>
+            ${builders}  <publishers/>
+              <buildWrappers/>
+            </project>""", Map.of(
+            "scm", (request, out) -> {
+                if (request.getGitUrl() != null) {
+                    GIT_SCM.write(request, out);
+                } else {
+                    out.append("  <scm class=\"hudson.scm.NullSCM\"/>\n");
+                }
+            },
+            "builders", (request, out) -> {
+                if (request.getBuildScript() != null) {
+                    SHELL_BUILDERS.write(request, out);
+                } else {
+                    out.append("  <builders/>\n");
+                }
+            }));
+
+    // 스크립트를 직접 지정한 Pipeline
+    private static final JobConfigTemplate INLINE_PIPELINE_DEFINITION = compile("""
+              <definition class="org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition" plugin="workflow-cps">
+                <script>${buildScript}</script>
+                <sandbox>true</sandbox>
+              </definition>
+            """, Map.of());
+
+    // 스크립트 없이 Git 저장소의 Jenkinsfile을 사용하는 Pipeline
+    private static final JobConfigTemplate SCM_PIPELINE_DEFINITION = compile("""
+              <definition class="org.jenkinsci.plugins.workflow.cps.CpsScmFlowDefinition" plugin="workflow-cps">
+            ${scm}    <scriptPath>Jenkinsfile</scriptPath>
+                <lightweight>true</lightweight>
+              </definition>
+            """, Map.of("scm", (request, out) -> GIT_SCM.write(request, out)));
+
+    private static final JobConfigTemplate PIPELINE = compile("""
+            <?xml version='1.1' encoding='UTF-8'?>
+            <flow-definition plugin="workflow-job">
+              <description>${description}</description>
+              <keepDependencies>false</keepDependencies>
+              <properties/>
+            ${definition}  <triggers/>
+              <disabled>false</disabled>
+            </flow-definition>""", Map.of(
+            "definition", (request, out) -> {
+                if (request.getBuildScript() == null && request.getGitUrl() != null) {
+                    SCM_PIPELINE_DEFINITION.write(request, out);
+                } else {
+                    INLINE_PIPELINE_DEFINITION.write(request, out);
+                }
+            }));
+
+    // 고정 조각은 String, 슬롯은 Slot
+    private final Object[] segments;
+
+    private JobConfigTemplate(Object[] segments) {
+        this.segments = segments;
+    }
+
+    // jobType에 맞는 config.xml 문자열 생성 (스레드별 버퍼 재사용)
+    public static String render(JobCreateRequest request) {
+        JobConfigTemplate template = forJobType(request.getJobType());
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        try {
+            template.write(request, buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            } else {
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    // jobType에 맞는 config.xml을 UTF-8로 OutputStream에 바로 기록 (스트림은 닫지 않음)
+    public static void writeTo(JobCreateRequest request, OutputStream outputStream) {
+        JobConfigTemplate template = forJobType(request.getJobType());
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            template.write(request, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 문자열로 만들기보다 스트리밍이 나은 요청인지 여부
+    public static boolean requiresStreaming(JobCreateRequest request) {
+        return request.getBuildScript() != null && request.getBuildScript().length() > STREAMING_THRESHOLD;
+    }
+
+    // jobType 검증 (비어 있으면 freestyle)
+    public static JobConfigTemplate forJobType(String jobType) {
+        if (jobType == null || jobType.isBlank() || JOB_TYPE_FREESTYLE.equalsIgnoreCase(jobType)) {
+            return FREESTYLE;
+        }
+        if (JOB_TYPE_PIPELINE.equalsIgnoreCase(jobType)) {
+            return PIPELINE;
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Unsupported job type: " + jobType);
+    }
+
+    private void write(JobCreateRequest request, Appendable out) throws IOException {
+        for (Object segment : segments) {
+            if (segment instanceof String literal) {
+                out.append(literal);
+            } else {
+                ((Slot) segment).write(request, out);
+            }
+        }
+    }
+
+    // ${name} 자리표시자를 기준으로 고정 조각과 슬롯으로 분리 (공통 슬롯 + 템플릿별 슬롯)
+    private static JobConfigTemplate compile(String source, Map<String, Slot> templateSlots) {
+        List<Object> segments = new ArrayList<>();
+        int position = 0;
+
+        while (position < source.length()) {
+            int open = source.indexOf("${", position);
+            if (open < 0) {
+                segments.add(source.substring(position));
+                break;
+            }
+
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed placeholder in job config template at " + open);
+            }
+            if (open > position) {
+                segments.add(source.substring(position, open));
+            }
+
+            String name = source.substring(open + 2, close);
+            Slot slot = templateSlots.containsKey(name) ? templateSlots.get(name) : commonSlot(name);
+            if (slot == null) {
+                throw new IllegalStateException("Unknown placeholder in job config template: " + name);
+            }
+            segments.add(slot);
+            position = close + 1;
+        }
+
+        return new JobConfigTemplate(segments.toArray());
+    }
+
+    // 요청 필드를 이스케이프해 기록하는 공통 슬롯
+    private static Slot commonSlot(String name) {
+        return switch (name) {
+            case "description" -> (request, out) -> XmlEscaper.escape(request.getDescription(), out);
+            case "gitUrl" -> (request, out) -> XmlEscaper.escape(request.getGitUrl(), out);
+            case "gitBranch" -> (request, out) ->
+                XmlEscaper.escape(request.getGitBranch() != null ? request.getGitBranch() : "*/main", out);
+            case "buildScript" -> (request, out) -> XmlEscaper.escape(request.getBuildScript(), out);
+            default -> null;
+        };
+    }
+}
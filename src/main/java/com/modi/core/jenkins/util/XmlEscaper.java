@@ -0,0 +1,98 @@
+package com.modi.core.jenkins.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * 단일 패스 XML 이스케이퍼
+ * 문자열을 한 번만 훑으면서 특수문자가 없는 구간은 그대로 복사하고, 특수문자만 엔티티로 바꿔 씁니다.
+ * 결과를 새 문자열로 만들지 않고 호출자가 넘긴 버퍼/Writer에 바로 기록합니다.
+ */
+public class XmlEscaper {
+
+    private XmlEscaper() {
+        // 인스턴스 생성 방지
+    }
+
+    // text를 이스케이프해 out에 기록 (null이면 아무것도 쓰지 않음)
+    public static void escape(CharSequence text, Appendable out) {
+        if (text == null) {
+            return;
+        }
+
+        escapeFrom(text, 0, out);
+    }
+
+    // 이스케이프 결과를 문자열로 반환 (특수문자가 없으면 원본 그대로)
+    public static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        int first = firstEscapeIndex(text);
+        if (first < 0) {
+            return text;
+        }
+
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        out.append(text, 0, first);
+        escapeFrom(text, first, out);
+        return out.toString();
+    }
+
+    private static void escapeFrom(CharSequence text, int from, Appendable out) {
+        try {
+            int length = text.length();
+            int start = from;
+
+            for (int i = from; i < length; i++) {
+                String entity = entityFor(text.charAt(i));
+                if (entity == null) {
+                    continue;
+                }
+                if (i > start) {
+                    appendRange(text, start, i, out);
+                }
+                out.append(entity);
+                start = i + 1;
+            }
+            if (start < length) {
+                appendRange(text, start, length, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int firstEscapeIndex(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (entityFor(text.charAt(i)) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String entityFor(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&apos;";
+            default -> null;
+        };
+    }
+
+    // 구간 복사 (Writer/StringBuilder는 중간 문자열을 만들지 않는 메서드 사용)
+    private static void appendRange(CharSequence text, int start, int end, Appendable out) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            builder.append(text, start, end);
+        } else if (out instanceof Writer writer && text instanceof String string) {
+            writer.write(string, start, end - start);
+        } else {
+            out.append(text, start, end);
+        }
+    }
+}
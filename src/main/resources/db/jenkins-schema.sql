@@ -0,0 +1,29 @@
+-- 완료된 Jenkins 빌드 기록 (BuildRecord 엔티티, BuildRecordStore upsert 대상)
+-- 기동 시마다 실행되므로 이미 있으면 건너뜀 (MariaDB)
+CREATE TABLE IF NOT EXISTS jenkins_build_record
+(
+    id                 BIGINT        NOT NULL AUTO_INCREMENT,
+    job_name           VARCHAR(255)  NOT NULL,
+    build_number       INT           NOT NULL,
+    result             VARCHAR(32),
+    duration           BIGINT,
+    estimated_duration BIGINT,
+    started_at         BIGINT,
+    queue_id           BIGINT,
+    url                VARCHAR(1024),
+    parameters         TEXT,
+    user_id            VARCHAR(255),
+    description        TEXT,
+    create_dt          DATETIME(6)   NOT NULL,
+    update_dt          DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_build_record_job_number UNIQUE (job_name, build_number),
+    INDEX ix_build_record_job_started (job_name, started_at),
+    INDEX ix_build_record_result (result)
+);
+
+-- 이전 버전 테이블에 나중에 추가된 컬럼 보강 (MariaDB)
+ALTER TABLE jenkins_build_record
+    ADD COLUMN IF NOT EXISTS estimated_duration BIGINT AFTER duration,
+    ADD COLUMN IF NOT EXISTS user_id VARCHAR(255) AFTER parameters,
+    ADD COLUMN IF NOT EXISTS description TEXT AFTER user_id;
@@ -0,0 +1,104 @@
+package com.modi.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.util.JenkinsCacheValueSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void valueIsSharedThroughL2() {
+        InMemoryL2CacheStore store = new InMemoryL2CacheStore();
+        TwoLevelCache writer = cache(store);
+        TwoLevelCache reader = cache(store);
+
+        writer.put("job#1", BuildResponse.builder().number(1).result("SUCCESS").parameters(Map.of("env", "prod")).build());
+
+        BuildResponse build = reader.get("job#1", BuildResponse.class);
+        assertThat(build).isNotNull();
+        assertThat(build.getResult()).isEqualTo("SUCCESS");
+        assertThat(build.getParameters()).containsEntry("env", "prod");
+    }
+
+    @Test
+    void entryWithOldFormatVersionIsTreatedAsMissAndEvicted() {
+        InMemoryL2CacheStore store = new InMemoryL2CacheStore();
+        store.put("builds", "job#1", new byte[]{1, 0}, TTL);
+        TwoLevelCache cache = cache(store);
+
+        assertThat(cache.get("job#1")).isNull();
+        assertThat(store.get("builds", "job#1")).isNull();
+
+        BuildResponse loaded = cache.get("job#1", () -> BuildResponse.builder().number(1).build());
+        assertThat(loaded.getNumber()).isEqualTo(1);
+        assertThat(store.get("builds", "job#1")).isNotNull();
+    }
+
+    @Test
+    void truncatedEntryIsTreatedAsMiss() {
+        InMemoryL2CacheStore store = new InMemoryL2CacheStore();
+        byte[] bytes = new JenkinsCacheValueSerializer().serialize(BuildResponse.builder().number(7).url("http://x/7/").build());
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        store.put("builds", "job#7", truncated, TTL);
+
+        assertThat(cache(store).get("job#7")).isNull();
+        assertThat(store.get("builds", "job#7")).isNull();
+    }
+
+    @Test
+    void unavailableL2FallsBackToLoader() {
+        TwoLevelCache cache = cache(new FailingL2CacheStore());
+
+        assertThat(cache.get("job#1")).isNull();
+        assertThat(cache.get("job#1", () -> "loaded")).isEqualTo("loaded");
+        // L1에는 적재되어 다음 조회는 로더 없이 반환
+        assertThat(cache.get("job#1", () -> "reloaded")).isEqualTo("loaded");
+
+        cache.put("job#2", "value");
+        cache.evict("job#2");
+        cache.clear();
+    }
+
+    private static TwoLevelCache cache(L2CacheStore store) {
+        return new TwoLevelCache("builds", Caffeine.newBuilder().maximumSize(100).build(), store,
+            new JenkinsCacheValueSerializer(), TTL);
+    }
+
+    // Redis 장애를 흉내 내는 저장소
+    private static final class FailingL2CacheStore implements L2CacheStore {
+
+        @Override
+        public byte[] get(String cacheName, String key) {
+            throw new IllegalStateException("connection refused");
+        }
+
+        @Override
+        public void put(String cacheName, String key, byte[] value, Duration ttl) {
+            throw new IllegalStateException("connection refused");
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            throw new IllegalStateException("connection refused");
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            throw new IllegalStateException("connection refused");
+        }
+
+        @Override
+        public void addInvalidationListener(BiConsumer<String, String> listener) {
+        }
+    }
+}
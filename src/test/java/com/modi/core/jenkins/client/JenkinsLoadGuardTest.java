@@ -0,0 +1,330 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.exception.JenkinsConnectionException;
+import com.modi.core.jenkins.exception.JenkinsOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JenkinsLoadGuardTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final ClientRequest REQUEST = ClientRequest.create(HttpMethod.GET, URI.create("http://jenkins/api/json")).build();
+
+    private JenkinsProperties properties;
+    private AtomicInteger exchanges;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JenkinsProperties();
+        exchanges = new AtomicInteger();
+    }
+
+    @Test
+    void limitGrowsAdditivelyWhileRequestsUseIt() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterMinLimit(1);
+        properties.setLimiterInitialLimit(2);
+        JenkinsLoadGuard guard = guard();
+
+        // 2 → 2.5 → 2.9 (두 번째 요청도 한도 절반 이상을 쓰는 중이었으므로 증가)
+        Sinks.One<ClientResponse> first = pending(guard);
+        Sinks.One<ClientResponse> second = pending(guard);
+        respond(first, HttpStatus.OK);
+        respond(second, HttpStatus.OK);
+        assertThat(guard.getLimit()).isEqualTo(2);
+
+        // 한도의 절반 미만을 쓰던 요청은 늘리지 않음: 2.9 → 2.9 → 3.24
+        first = pending(guard);
+        second = pending(guard);
+        respond(first, HttpStatus.OK);
+        respond(second, HttpStatus.OK);
+        assertThat(guard.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void limitIsCutOncePerOverloadedBatch() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterInitialLimit(20);
+        properties.setLimiterBackoffRatio(0.5);
+        JenkinsLoadGuard guard = guard();
+
+        // 같은 시점에 나간 요청들이 함께 실패해도 한 번만 줄임
+        Sinks.One<ClientResponse> first = pending(guard);
+        Sinks.One<ClientResponse> second = pending(guard);
+        respond(first, HttpStatus.SERVICE_UNAVAILABLE);
+        respond(second, HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(guard.getLimit()).isEqualTo(10);
+
+        // 감소 이후 시작한 요청의 실패는 다시 반영
+        respond(pending(guard), HttpStatus.BAD_GATEWAY);
+        assertThat(guard.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void limitNeverDropsBelowMinimum() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterMinLimit(3);
+        properties.setLimiterInitialLimit(4);
+        properties.setLimiterBackoffRatio(0.1);
+        JenkinsLoadGuard guard = guard();
+
+        respond(pending(guard), HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(guard.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void requestsBeyondLimitAreRejectedWithoutBeingSent() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterMinLimit(1);
+        properties.setLimiterInitialLimit(2);
+        JenkinsLoadGuard guard = guard();
+
+        Sinks.One<ClientResponse> first = pending(guard);
+        pending(guard);
+
+        assertThatThrownBy(() -> call(guard, HttpStatus.OK)).isInstanceOf(JenkinsOverloadedException.class);
+        assertThat(exchanges).hasValue(2);
+
+        // 허가를 반납하면 다시 보낼 수 있음
+        respond(first, HttpStatus.OK);
+        assertThat(call(guard, HttpStatus.OK).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void breakerOpensWhenFailureRateReachesThreshold() {
+        breakerProperties();
+        JenkinsLoadGuard guard = guard();
+
+        call(guard, HttpStatus.OK);
+        call(guard, HttpStatus.OK);
+        call(guard, HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.CLOSED);
+
+        call(guard, HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.OPEN);
+
+        assertThatThrownBy(() -> call(guard, HttpStatus.OK)).isInstanceOf(JenkinsOverloadedException.class);
+        assertThat(exchanges).hasValue(4);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsFailures() {
+        breakerProperties();
+        JenkinsLoadGuard guard = guard();
+
+        for (int i = 0; i < 4; i++) {
+            call(guard, HttpStatus.NOT_FOUND);
+        }
+
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.CLOSED);
+    }
+
+    @Test
+    void successfulTrialCallsCloseTheBreaker() throws InterruptedException {
+        breakerProperties();
+        JenkinsLoadGuard guard = openedGuard();
+
+        Thread.sleep(300);
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.HALF_OPEN);
+
+        call(guard, HttpStatus.OK);
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.HALF_OPEN);
+        call(guard, HttpStatus.OK);
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.CLOSED);
+    }
+
+    @Test
+    void failedTrialCallReopensTheBreaker() throws InterruptedException {
+        breakerProperties();
+        JenkinsLoadGuard guard = openedGuard();
+
+        Thread.sleep(300);
+        call(guard, HttpStatus.OK);
+        call(guard, HttpStatus.SERVICE_UNAVAILABLE);
+
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.OPEN);
+        assertThatThrownBy(() -> call(guard, HttpStatus.OK)).isInstanceOf(JenkinsOverloadedException.class);
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyTrialCalls() throws InterruptedException {
+        breakerProperties();
+        JenkinsLoadGuard guard = openedGuard();
+
+        Thread.sleep(300);
+        pending(guard);
+        pending(guard);
+
+        assertThatThrownBy(() -> call(guard, HttpStatus.OK)).isInstanceOf(JenkinsOverloadedException.class);
+    }
+
+    @Test
+    void permitIsHeldUntilBodyIsRead() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterMinLimit(1);
+        properties.setLimiterInitialLimit(1);
+        JenkinsLoadGuard guard = guard();
+
+        // 헤더는 받았지만 본문을 아직 읽는 중이면 허가를 쥐고 있음
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        ClientResponse response = guard.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+            .body(body.asFlux())
+            .build())).block(TIMEOUT);
+        CompletableFuture<String> content = response.bodyToMono(String.class).toFuture();
+
+        assertThatThrownBy(() -> call(guard, HttpStatus.OK)).isInstanceOf(JenkinsOverloadedException.class);
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("{}".getBytes(StandardCharsets.UTF_8)));
+        body.tryEmitComplete();
+        assertThat(content.join()).isEqualTo("{}");
+        assertThat(call(guard, HttpStatus.OK).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void slowBodyCountsAsSlowResponse() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterInitialLimit(8);
+        properties.setLimiterBackoffRatio(0.5);
+        properties.setLimiterLatencyThreshold(100L);
+        JenkinsLoadGuard guard = guard();
+
+        // 헤더는 바로 오고 본문이 임계값보다 늦게 끝나는 응답
+        Flux<DataBuffer> slowBody = Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{'x'}))
+            .delayElement(Duration.ofMillis(300))
+            .flux();
+        guard.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK).body(slowBody).build()))
+            .flatMap(response -> response.releaseBody())
+            .block(TIMEOUT);
+
+        assertThat(guard.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void streamingRequestsReleaseOnHeaders() {
+        properties.setBreakerEnabled(false);
+        properties.setLimiterMinLimit(1);
+        properties.setLimiterInitialLimit(1);
+        JenkinsLoadGuard guard = guard();
+        ClientRequest streaming = ClientRequest.from(REQUEST).attribute(JenkinsLoadGuard.STREAMING_ATTRIBUTE, true).build();
+
+        guard.filter(streaming, request -> Mono.just(ClientResponse.create(HttpStatus.OK).body(Flux.never()).build()))
+            .block(TIMEOUT);
+
+        assertThat(call(guard, HttpStatus.OK).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void oversizedBodiesDoNotCountAsFailures() {
+        breakerProperties();
+        JenkinsLoadGuard guard = guard();
+
+        for (int i = 0; i < 2; i++) {
+            // 디코더가 한도를 넘겨 본문을 취소하는 경우
+            Flux<DataBuffer> body = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(new byte[16]));
+            Mono<DataBuffer> joined = guard.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK).body(body).build()))
+                .flatMap(response -> DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), 8));
+            assertThatThrownBy(() -> joined.block(TIMEOUT)).isInstanceOf(DataBufferLimitException.class);
+
+            // 본문 스트림 자체가 한도 초과로 끝나는 경우
+            Mono<Void> failed = guard.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .body(Flux.error(new DataBufferLimitException("Exceeded limit on max bytes to buffer : 8")))
+                    .build()))
+                .flatMap(response -> response.bodyToMono(Void.class));
+            assertThatThrownBy(() -> failed.block(TIMEOUT)).satisfiesAnyOf(
+                e -> assertThat(e).isInstanceOf(DataBufferLimitException.class),
+                e -> assertThat(e).hasRootCauseInstanceOf(DataBufferLimitException.class));
+        }
+
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.CLOSED);
+        assertThat(call(guard, HttpStatus.OK).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void staleFallbackAnswersOnlyOverloadRejections() {
+        JenkinsLoadGuard guard = guard();
+
+        assertThat(guard.withStaleFallback("jobs", guard.rememberLastGood("jobs", Mono.just("v1"))).block(TIMEOUT))
+            .isEqualTo("v1");
+
+        Mono<String> rejected = Mono.error(new JenkinsOverloadedException("overloaded"));
+        assertThat(guard.withStaleFallback("jobs", rejected).block(TIMEOUT)).isEqualTo("v1");
+
+        // 다른 실패나 기억한 응답이 없는 키는 그대로 실패
+        Mono<String> failed = Mono.error(new JenkinsConnectionException("down"));
+        assertThatThrownBy(() -> guard.withStaleFallback("jobs", failed).block(TIMEOUT))
+            .isInstanceOf(JenkinsConnectionException.class)
+            .isNotInstanceOf(JenkinsOverloadedException.class);
+        assertThatThrownBy(() -> guard.withStaleFallback("nodes", rejected).block(TIMEOUT))
+            .isInstanceOf(JenkinsOverloadedException.class);
+    }
+
+    // 4번 중 절반이 실패하면 열고, 200ms 뒤 시험 호출 2번
+    private void breakerProperties() {
+        properties.setLimiterEnabled(false);
+        properties.setBreakerWindowSize(4);
+        properties.setBreakerMinimumCalls(4);
+        properties.setBreakerFailureRateThreshold(50);
+        properties.setBreakerOpenDuration(200L);
+        properties.setBreakerHalfOpenCalls(2);
+    }
+
+    private JenkinsLoadGuard openedGuard() {
+        JenkinsLoadGuard guard = guard();
+        for (int i = 0; i < 4; i++) {
+            call(guard, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        assertThat(guard.getState()).isEqualTo(JenkinsLoadGuard.State.OPEN);
+        return guard;
+    }
+
+    private JenkinsLoadGuard guard() {
+
+        return new JenkinsLoadGuard("test", properties, new SimpleMeterRegistry());
+    }
+
+    // WebClient처럼 응답 본문까지 소비 (허가는 본문을 다 읽어야 반납)
+    private ClientResponse call(JenkinsLoadGuard guard, HttpStatus status) {
+        return guard.filter(REQUEST, request -> {
+            exchanges.incrementAndGet();
+            return Mono.just(ClientResponse.create(status).build());
+        }).flatMap(response -> response.releaseBody().thenReturn(response)).block(TIMEOUT);
+    }
+
+    // 허가를 잡은 채 응답을 기다리는 요청
+    private Sinks.One<ClientResponse> pending(JenkinsLoadGuard guard) {
+        Sinks.One<ClientResponse> response = Sinks.one();
+        CompletableFuture<ClientResponse> result = guard.filter(REQUEST, request -> {
+            exchanges.incrementAndGet();
+            return response.asMono();
+        }).flatMap(received -> received.releaseBody().thenReturn(received)).toFuture();
+        assertThat(result).isNotDone();
+        return response;
+    }
+
+    private static void respond(Sinks.One<ClientResponse> response, HttpStatus status) {
+        response.tryEmitValue(ClientResponse.create(status).build());
+    }
+}
@@ -0,0 +1,133 @@
+package com.modi.core.jenkins.client;
+
+import com.modi.core.jenkins.config.JenkinsConfig;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildRequest;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스텁 Jenkins 서버를 상대로 실제 요청 형태(헤더/본문)를 확인
+ */
+class ReactiveJenkinsClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    // 경로별 마지막 요청 (Content-Type, 본문)
+    private final Map<String, String[]> requests = new ConcurrentHashMap<>();
+
+    // 경로별 마지막 조회의 tree 파라미터
+    private final Map<String, String> trees = new ConcurrentHashMap<>();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private ReactiveJenkinsClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .route(routes -> routes
+                .post("/job/{jobName}/buildWithParameters", (request, response) -> request.receive().aggregate().asString()
+                    .defaultIfEmpty("")
+                    .flatMap(body -> {
+                        requests.put(request.path(), new String[]{request.requestHeaders().get(HttpHeaders.CONTENT_TYPE), body});
+                        return response.status(201)
+                            .header(HttpHeaders.LOCATION, "http://127.0.0.1/queue/item/123/")
+                            .send()
+                            .then();
+                    }))
+                .post("/job/{jobName}/build", (request, response) -> {
+                    requests.put(request.path(), new String[]{request.requestHeaders().get(HttpHeaders.CONTENT_TYPE), ""});
+                    return response.status(201)
+                        .header(HttpHeaders.LOCATION, "http://127.0.0.1/queue/item/124/")
+                        .send();
+                })
+                .get("/job/{jobName}/{buildNumber}/api/json", (request, response) -> {
+                    trees.put(request.path(), new QueryStringDecoder(request.uri()).parameters().get("tree").get(0));
+                    return response.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .sendString(Mono.just("""
+                            {"number":7,"url":"http://127.0.0.1/job/deploy/7/","result":"SUCCESS","building":false,
+                             "duration":1200,"estimatedDuration":1500,"timestamp":1700000000000,"queueId":321,"actions":[]}
+                            """))
+                        .then();
+                }))
+            .bindNow();
+
+        // 운영과 같은 WebClient 설정(기본 헤더 포함)을 사용
+        JenkinsProperties properties = new JenkinsProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JenkinsLoadGuard loadGuard = new JenkinsLoadGuard("test", properties, meterRegistry);
+        connectionProvider = JenkinsConfig.createConnectionProvider("test", 4, properties);
+        client = new ReactiveJenkinsClient(
+            JenkinsConfig.createWebClient(connectionProvider, loadGuard, "http://127.0.0.1:" + server.port(),
+                "user", "token", 1000, 5000, properties),
+            new RequestCoalescer("test", meterRegistry),
+            loadGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.disposeLater().block(TIMEOUT);
+        server.disposeNow();
+    }
+
+    @Test
+    void parametersAreSentAsFormBody() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("BRANCH", "release/1.0");
+        parameters.put("MESSAGE", "a&b=c d");
+
+        QueueItemResponse queued = client.triggerBuild(BuildRequest.builder()
+                .jobName("deploy")
+                .parameters(parameters)
+                .build())
+            .block(TIMEOUT);
+
+        String[] request = requests.get("job/deploy/buildWithParameters");
+        assertThat(request).isNotNull();
+        assertThat(request[0]).startsWith("application/x-www-form-urlencoded");
+        assertThat(request[1]).isEqualTo("BRANCH=release%2F1.0&MESSAGE=a%26b%3Dc+d");
+        assertThat(queued).isNotNull();
+        assertThat(queued.getId()).isEqualTo(123L);
+        assertThat(queued.getJobName()).isEqualTo("deploy");
+    }
+
+    @Test
+    void buildLookupsRequestSameFieldsAsBuildHistory() {
+        BuildResponse build = client.getBuildInfo("deploy", 7).block(TIMEOUT);
+        BuildResponse last = client.getLastBuild("deploy").block(TIMEOUT);
+
+        assertThat(trees.get("job/deploy/7/api/json")).contains("queueId").isEqualTo(trees.get("job/deploy/lastBuild/api/json"));
+        assertThat(build).isNotNull();
+        assertThat(build.getQueueId()).isEqualTo(321L);
+        assertThat(last).usingRecursiveComparison().isEqualTo(build);
+    }
+
+    @Test
+    void buildWithoutParametersUsesBuildEndpoint() {
+        QueueItemResponse queued = client.triggerBuild(BuildRequest.builder().jobName("deploy").build()).block(TIMEOUT);
+
+        assertThat(requests).containsKey("job/deploy/build");
+        assertThat(queued).isNotNull();
+        assertThat(queued.getId()).isEqualTo(124L);
+    }
+}
@@ -0,0 +1,152 @@
+package com.modi.core.jenkins.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private RequestCoalescer coalescer;
+    private AtomicInteger upstreamSubscriptions;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new RequestCoalescer("test", new SimpleMeterRegistry());
+        upstreamSubscriptions = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentCallersShareOneUpstreamCall() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = call("job", upstream).toFuture();
+        CompletableFuture<String> second = call("job", upstream).toFuture();
+        CompletableFuture<String> third = call("job", upstream).toFuture();
+        upstream.tryEmitValue("result");
+
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(third.join()).isEqualTo("result");
+        assertThat(upstreamSubscriptions).hasValue(1);
+        assertThat(coalescer.getUpstreamCount()).isEqualTo(1.0);
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(2.0);
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        assertThat(coalescer.coalesce("a", () -> counted(Mono.just("a"))).block(TIMEOUT)).isEqualTo("a");
+        assertThat(coalescer.coalesce("b", () -> counted(Mono.just("b"))).block(TIMEOUT)).isEqualTo("b");
+
+        assertThat(upstreamSubscriptions).hasValue(2);
+        assertThat(coalescer.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void errorIsDeliveredToEveryCallerAndNotCached() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = call("job", upstream).toFuture();
+        CompletableFuture<String> second = call("job", upstream).toFuture();
+        upstream.tryEmitError(new IllegalStateException("jenkins down"));
+
+        assertThatThrownBy(first::join).hasRootCauseInstanceOf(IllegalStateException.class).hasRootCauseMessage("jenkins down");
+        assertThatThrownBy(second::join).hasRootCauseInstanceOf(IllegalStateException.class).hasRootCauseMessage("jenkins down");
+
+        // 실패한 호출은 제거되므로 다음 호출은 다시 Jenkins로 감
+        assertThat(coalescer.coalesce("job", () -> counted(Mono.just("retry"))).block(TIMEOUT)).isEqualTo("retry");
+        assertThat(upstreamSubscriptions).hasValue(2);
+    }
+
+    @Test
+    void supplierFailureIsDeliveredAsError() {
+        Mono<String> result = coalescer.coalesce("job", () -> {
+            throw new IllegalArgumentException("bad request");
+        });
+
+        assertThatThrownBy(() -> result.block(TIMEOUT)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(coalescer.coalesce("job", () -> Mono.just("ok")).block(TIMEOUT)).isEqualTo("ok");
+    }
+
+    @Test
+    void emptyResultCompletesEveryCallerEmpty() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = call("job", upstream).toFuture();
+        CompletableFuture<String> second = call("job", upstream).toFuture();
+        upstream.tryEmitEmpty();
+
+        assertThat(first.join()).isNull();
+        assertThat(second.join()).isNull();
+    }
+
+    @Test
+    void finishedCallDoesNotRemoveNewerCallForSameKey() {
+        Sinks.One<String> older = Sinks.one();
+        CompletableFuture<String> olderResult = call("job", older).toFuture();
+        older.tryEmitValue("old");
+        assertThat(olderResult.join()).isEqualTo("old");
+
+        // 새 리더가 진행 중일 때 들어온 호출은 새 리더에 합류해야 함
+        Sinks.One<String> newer = Sinks.one();
+        CompletableFuture<String> newerResult = call("job", newer).toFuture();
+        CompletableFuture<String> joined = coalescer.coalesce("job", () -> counted(Mono.just("unexpected"))).toFuture();
+        newer.tryEmitValue("new");
+
+        assertThat(newerResult.join()).isEqualTo("new");
+        assertThat(joined.join()).isEqualTo("new");
+        assertThat(upstreamSubscriptions).hasValue(2);
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotCancelSharedCall() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        Disposable cancelled = call("job", upstream).subscribe();
+        CompletableFuture<String> remaining = call("job", upstream).toFuture();
+        cancelled.dispose();
+        upstream.tryEmitValue("result");
+
+        assertThat(remaining.join()).isEqualTo("result");
+        assertThat(upstreamSubscriptions).hasValue(1);
+    }
+
+    @Test
+    void metersAreSeparatedPerController() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestCoalescer primary = new RequestCoalescer("primary", meterRegistry);
+        RequestCoalescer secondary = new RequestCoalescer("secondary", meterRegistry);
+
+        primary.coalesce("job", () -> Mono.just("a")).block(TIMEOUT);
+        primary.coalesce("job", () -> Mono.just("b")).block(TIMEOUT);
+        secondary.coalesce("job", () -> Mono.just("c")).block(TIMEOUT);
+
+        assertThat(meterRegistry.get("jenkins.client.requests").tags("controller", "primary", "outcome", "upstream")
+            .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("jenkins.client.requests").tags("controller", "secondary", "outcome", "upstream")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jenkins.client.requests.inflight").gauges()).hasSize(2);
+    }
+
+    private Mono<String> call(String key, Sinks.One<String> upstream) {
+
+        return coalescer.coalesce(key, () -> counted(upstream.asMono()));
+    }
+
+    private <T> Mono<T> counted(Mono<T> upstream) {
+
+        return upstream.doOnSubscribe(subscription -> upstreamSubscriptions.incrementAndGet());
+    }
+}
@@ -0,0 +1,86 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildAnalyticsResponse;
+import com.modi.core.jenkins.dto.BuildResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildAnalyticsServiceTest {
+
+    private static final int HOURS = 24;
+
+    private BuildAnalyticsService service;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        service = new BuildAnalyticsService(null, new JenkinsProperties());
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void sameBuildIsCountedOnce() {
+        List<BuildResponse> builds = List.of(
+            build(1, ago(50), "SUCCESS"),
+            build(2, ago(40), "FAILURE"));
+
+        service.record("api", builds);
+        service.record("api", builds);
+        service.record("api", List.of(build(2, ago(40), "FAILURE")));
+
+        BuildAnalyticsResponse analytics = service.getJobAnalytics("api", HOURS);
+        assertThat(analytics.getBuildCount()).isEqualTo(2);
+        assertThat(analytics.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recreatedJobRestartingNumbersIsCounted() {
+        service.record("api", List.of(
+            build(1, ago(120), "SUCCESS"),
+            build(2, ago(90), "SUCCESS")));
+
+        // 같은 이름으로 Job을 다시 만들어 번호가 1부터 다시 시작 (같은 버킷 안에 들어올 수 있는 간격)
+        service.record("api", List.of(
+            build(1, ago(30), "FAILURE"),
+            build(2, ago(20), "FAILURE")));
+        // 다시 만든 Job의 빌드도 중복은 한 번만
+        service.record("api", List.of(build(1, ago(30), "FAILURE")));
+
+        BuildAnalyticsResponse analytics = service.getJobAnalytics("api", HOURS);
+        assertThat(analytics.getBuildCount()).isEqualTo(4);
+        assertThat(analytics.getSuccessCount()).isEqualTo(2);
+        assertThat(analytics.getFailureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void runningAndExpiredBuildsAreIgnored() {
+        BuildResponse running = BuildResponse.builder().number(3).timestamp(ago(10)).building(true).build();
+        BuildResponse expired = build(4, now - Duration.ofDays(new JenkinsProperties().getAnalyticsRetentionDays() + 1).toMillis(), "SUCCESS");
+
+        service.record("api", List.of(running, expired));
+
+        assertThat(service.getJobAnalytics("api", HOURS).getBuildCount()).isZero();
+        assertThat(service.getAllJobAnalytics(HOURS)).isEmpty();
+    }
+
+    private long ago(int seconds) {
+
+        return now - Duration.ofSeconds(seconds).toMillis();
+    }
+
+    private static BuildResponse build(int number, long timestamp, String result) {
+        return BuildResponse.builder()
+            .number(number)
+            .timestamp(timestamp)
+            .duration(30_000L)
+            .result(result)
+            .building(false)
+            .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.JenkinsClient;
+import com.modi.core.jenkins.dto.BuildResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildHistoryServiceTest {
+
+    @Test
+    void rangeIsEstimatedFromLastBuildWhenNothingWasDeleted() {
+        FakeJenkins jenkins = new FakeJenkins(range(100, 1));
+
+        List<BuildResponse> builds = service(jenkins).fetchFromJenkins("api", 51, 10);
+
+        assertThat(numbers(builds)).containsExactly(50, 49, 48, 47, 46, 45, 44, 43, 42, 41);
+        assertThat(jenkins.rangeCalls).isEqualTo(1);
+    }
+
+    @Test
+    void deletedBuildsAboveCursorShiftTheRangeBack() {
+        // 90~99번이 삭제돼 51번의 실제 위치는 추정(49)보다 10칸 앞
+        List<Integer> existing = new ArrayList<>(List.of(100));
+        existing.addAll(range(89, 1));
+        FakeJenkins jenkins = new FakeJenkins(existing);
+
+        List<BuildResponse> builds = service(jenkins).fetchFromJenkins("api", 51, 10);
+
+        assertThat(numbers(builds)).containsExactly(50, 49, 48, 47, 46, 45, 44, 43, 42, 41);
+        assertThat(jenkins.rangeCalls).isEqualTo(2);
+    }
+
+    @Test
+    void deletedBuildsBelowCursorAreSkipped() {
+        List<Integer> existing = new ArrayList<>(range(100, 48));
+        existing.addAll(range(44, 1));
+        FakeJenkins jenkins = new FakeJenkins(existing);
+
+        List<BuildResponse> builds = service(jenkins).fetchFromJenkins("api", 51, 6);
+
+        assertThat(numbers(builds)).containsExactly(50, 49, 48, 44, 43, 42);
+        assertThat(jenkins.rangeCalls).isEqualTo(1);
+    }
+
+    @Test
+    void cursorAboveLastBuildStartsFromNewest() {
+        FakeJenkins jenkins = new FakeJenkins(range(20, 1));
+
+        List<BuildResponse> builds = service(jenkins).fetchFromJenkins("api", 500, 3);
+
+        assertThat(numbers(builds)).containsExactly(20, 19, 18);
+    }
+
+    @Test
+    void lastPageStopsAtFirstBuild() {
+        FakeJenkins jenkins = new FakeJenkins(range(20, 1));
+
+        assertThat(numbers(service(jenkins).fetchFromJenkins("api", 4, 10))).containsExactly(3, 2, 1);
+        assertThat(service(jenkins).fetchFromJenkins("api", 1, 10)).isEmpty();
+    }
+
+    private static BuildHistoryService service(JenkinsClient jenkinsClient) {
+
+        return new BuildHistoryService(jenkinsClient, null, event -> { }, new ConcurrentMapCacheManager());
+    }
+
+    private static List<Integer> range(int from, int downTo) {
+
+        return IntStream.iterate(from, number -> number >= downTo, number -> number - 1).boxed().toList();
+    }
+
+    private static List<Integer> numbers(List<BuildResponse> builds) {
+
+        return builds.stream().map(BuildResponse::getNumber).toList();
+    }
+
+    // allBuilds{from,to}처럼 최신순 목록의 위치 범위를 돌려주는 Jenkins
+    private static final class FakeJenkins extends JenkinsClient {
+
+        private final List<Integer> existing;
+        private int rangeCalls;
+
+        private FakeJenkins(List<Integer> existing) {
+            super(null);
+            this.existing = existing;
+        }
+
+        @Override
+        public int getLastBuildNumber(String jobName) {
+
+            return existing.isEmpty() ? 0 : existing.get(0);
+        }
+
+        @Override
+        public List<BuildResponse> getBuilds(String jobName, int from, int to) {
+            rangeCalls++;
+            if (from >= existing.size()) {
+                return List.of();
+            }
+            return existing.subList(from, Math.min(to, existing.size())).stream()
+                .map(number -> BuildResponse.builder().number(number).building(false).build())
+                .toList();
+        }
+    }
+}
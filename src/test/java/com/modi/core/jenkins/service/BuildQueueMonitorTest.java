@@ -0,0 +1,111 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.QueueChangeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import com.modi.core.jenkins.event.QueueChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildQueueMonitorTest {
+
+    private static final int ITEMS = 200;
+
+    @Test
+    void changesAreDeliveredInSnapshotOrderUnderConcurrentEventsAndPolls() throws Exception {
+        // Jenkins 대기열에 지금 있는 항목 (이벤트를 보내기 직전에 반영해 조회와 이벤트가 서로 앞서거니 뒤서거니 하게)
+        Set<Long> jenkinsQueue = ConcurrentHashMap.newKeySet();
+        List<QueueChangeResponse> delivered = new CopyOnWriteArrayList<>();
+        BuildQueueMonitor monitor = new BuildQueueMonitor(new FakeJenkins(jenkinsQueue), new JenkinsProperties(),
+            event -> delivered.add(((QueueChangedEvent) event).changes()), new JenkinsEventActivity(new JenkinsProperties()),
+            new SimpleMeterRegistry());
+        monitor.sync();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (long id = 1; id <= ITEMS; id++) {
+                long queueId = id;
+                tasks.add(executor.submit(() -> {
+                    QueueItemResponse item = QueueItemResponse.builder().id(queueId).jobName("job-" + queueId).build();
+                    jenkinsQueue.add(queueId);
+                    monitor.applyEvent(item, false);
+                    jenkinsQueue.remove(queueId);
+                    monitor.applyEvent(item, true);
+                }));
+                tasks.add(executor.submit(monitor::sync));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // 모든 항목이 들어왔다가 떠났으므로 변경분은 최소 2 * ITEMS개 (조회가 먼저 본 항목은 더 많을 수 있음)
+        long deadline = System.currentTimeMillis() + 5000;
+        while (leftCount(delivered) < ITEMS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(leftCount(delivered)).isEqualTo(ITEMS);
+
+        // 순번은 1부터 빠짐없이 증가하는 순서로 도착
+        for (int i = 0; i < delivered.size(); i++) {
+            assertThat(delivered.get(i).getSequence()).isEqualTo(i + 1L);
+        }
+
+        // 항목마다 들어온 변경분이 떠난 변경분보다 먼저 도착하고, 떠난 뒤에는 다시 나타나지 않음
+        Map<Long, String> lastSeen = new HashMap<>();
+        for (QueueChangeResponse changes : delivered) {
+            changes.getAdded().forEach(item -> {
+                assertThat(lastSeen.get(item.getId())).as("added %d", item.getId()).isNull();
+                lastSeen.put(item.getId(), "added");
+            });
+            changes.getUpdated().forEach(item ->
+                assertThat(lastSeen.get(item.getId())).as("updated %d", item.getId()).isEqualTo("added"));
+            changes.getLeft().forEach(item -> {
+                assertThat(lastSeen.get(item.getId())).as("left %d", item.getId()).isEqualTo("added");
+                lastSeen.put(item.getId(), "left");
+            });
+        }
+    }
+
+    private static long leftCount(List<QueueChangeResponse> delivered) {
+
+        return delivered.stream().mapToLong(changes -> changes.getLeft().size()).sum();
+    }
+
+    private static final class FakeJenkins extends ReactiveJenkinsClient {
+
+        private final Set<Long> queue;
+
+        private FakeJenkins(Set<Long> queue) {
+            super(null, null, null);
+            this.queue = queue;
+        }
+
+        @Override
+        public Mono<List<QueueItemResponse>> pollQueue() {
+            List<QueueItemResponse> items = queue.stream()
+                .sorted()
+                .map(id -> QueueItemResponse.builder().id(id).jobName("job-" + id).build())
+                .toList();
+            return Mono.just(items);
+        }
+    }
+}
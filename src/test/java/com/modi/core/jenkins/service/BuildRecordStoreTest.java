@@ -0,0 +1,94 @@
+package com.modi.core.jenkins.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.repository.BuildRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2(MODE=MariaDB)에서 운영과 같은 ON DUPLICATE KEY UPDATE upsert를 실행
+// upsert는 JDBC, 조회는 JPA라 영속성 컨텍스트에 남은 이전 값을 읽지 않도록 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BuildRecordStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BuildRecordRepository buildRecordRepository;
+
+    private BuildRecordStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new BuildRecordStore(jdbcTemplate, buildRecordRepository, new JenkinsProperties(), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        buildRecordRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void upsertingSameBuildTwiceUpdatesRowAndReadsBackLiveResponse() {
+        BuildResponse first = build(1, "SUCCESS", "first run");
+        BuildResponse aborted = build(2, "ABORTED", null);
+        store.upsert("api", List.of(first, aborted));
+
+        // 같은 (job, number)를 다른 값으로 다시 저장
+        BuildResponse rebuilt = build(2, "FAILURE", "rebuilt after abort");
+        store.upsert("api", List.of(rebuilt));
+
+        Integer rows = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM jenkins_build_record WHERE job_name = ? AND build_number = ?", Integer.class, "api", 2);
+        assertThat(rows).isEqualTo(1);
+
+        List<BuildResponse> page = store.findContiguousPage("api", 3, 2).orElseThrow();
+        assertThat(page).hasSize(2);
+        assertThat(page.get(0)).usingRecursiveComparison().isEqualTo(rebuilt);
+        assertThat(page.get(1)).usingRecursiveComparison().isEqualTo(first);
+        assertThat(store.findHighWaterMark("api")).isEqualTo(2);
+    }
+
+    @Test
+    void runningBuildsAreNotStored() {
+        BuildResponse running = BuildResponse.builder().number(1).building(true).build();
+        store.upsert("api", List.of(running));
+
+        assertThat(buildRecordRepository.count()).isZero();
+        assertThat(store.findHighWaterMark("api")).isZero();
+    }
+
+    private static BuildResponse build(int number, String result, String description) {
+        return BuildResponse.builder()
+            .number(number)
+            .url("http://jenkins/job/api/" + number + "/")
+            .result(result)
+            .building(false)
+            .duration(1200L * number)
+            .estimatedDuration(1500L)
+            .timestamp(1_700_000_000_000L + number)
+            .parameters(Map.of("BRANCH", "main"))
+            .userId("deployer")
+            .description(description)
+            .queueId(100L + number)
+            .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.modi.core.jenkins.service;
+
+import com.modi.core.jenkins.client.ReactiveJenkinsClient;
+import com.modi.core.jenkins.config.JenkinsProperties;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JenkinsStateMirrorTest {
+
+    private static final Duration FRESH = Duration.ofMinutes(1);
+
+    private JenkinsProperties properties;
+    private JenkinsEventActivity eventActivity;
+    private RecordingScheduler scheduler;
+    private JenkinsStateMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JenkinsProperties();
+        properties.setMirrorMinInterval(2000);
+        properties.setEventReconcileInterval(60000L);
+        eventActivity = new JenkinsEventActivity(properties);
+        scheduler = new RecordingScheduler();
+        mirror = new JenkinsStateMirror(new FakeJenkins(), properties, scheduler, eventActivity, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void pollingStretchesToReconcileIntervalWhileEventsArrive() throws InterruptedException {
+        Instant before = Instant.now();
+        mirror.sync();
+        assertThat(Duration.between(before, scheduler.next()).toMillis()).isBetween(2000L, 5000L);
+
+        eventActivity.received();
+        assertThat(mirror.nextInterval()).isEqualTo(60000L);
+
+        before = Instant.now();
+        mirror.sync();
+        assertThat(Duration.between(before, scheduler.next()).toMillis()).isBetween(60000L, 63000L);
+    }
+
+    @Test
+    void buildEventsUpdateJobSummaryAndDropStaleDetail() {
+        mirror.syncOnce().block();
+        assertThat(mirror.getJob("api", FRESH)).isPresent();
+        long version = mirror.getVersion();
+
+        mirror.applyBuildEvent("api", BuildResponse.builder().number(5).building(true).build());
+
+        JobResponse started = mirror.getAllJobs(FRESH).orElseThrow().get(0);
+        assertThat(started.getLastBuildNumber()).isEqualTo(5);
+        assertThat(started.getColor()).isEqualTo("blue_anime");
+        assertThat(mirror.getJob("api", FRESH)).isEmpty();
+        assertThat(mirror.getVersion()).isGreaterThan(version);
+
+        mirror.applyBuildEvent("api", BuildResponse.builder().number(5).building(false).result("FAILURE").build());
+
+        JobResponse finished = mirror.getAllJobs(FRESH).orElseThrow().get(0);
+        assertThat(finished.getColor()).isEqualTo("red");
+        assertThat(finished.getLastFailedBuildNumber()).isEqualTo(5);
+        assertThat(finished.getLastSuccessfulBuildNumber()).isEqualTo(4);
+    }
+
+    @Test
+    void olderBuildEventKeepsLatestColor() {
+        mirror.syncOnce().block();
+
+        mirror.applyBuildEvent("api", BuildResponse.builder().number(3).building(false).result("FAILURE").build());
+
+        JobResponse job = mirror.getAllJobs(FRESH).orElseThrow().get(0);
+        assertThat(job.getLastBuildNumber()).isEqualTo(4);
+        assertThat(job.getColor()).isEqualTo("blue");
+    }
+
+    @Test
+    void queueEventsUpdateMirroredQueue() {
+        mirror.syncOnce().block();
+        QueueItemResponse item = QueueItemResponse.builder().id(7L).jobName("api").build();
+
+        mirror.applyQueueEvent(item, false);
+        assertThat(mirror.getQueue(FRESH).orElseThrow()).extracting(QueueItemResponse::getId).containsExactly(7L);
+
+        mirror.applyQueueEvent(item, true);
+        assertThat(mirror.getQueue(FRESH).orElseThrow()).isEmpty();
+    }
+
+    // 빌드 4번까지 성공한 Job 하나만 있는 Jenkins
+    private static final class FakeJenkins extends ReactiveJenkinsClient {
+
+        private FakeJenkins() {
+            super(null, null, null);
+        }
+
+        @Override
+        public Mono<List<JobResponse>> pollAllJobs() {
+
+            return Mono.just(List.of(job().build()));
+        }
+
+        @Override
+        public Mono<JobResponse> pollJob(String jobName) {
+
+            return Mono.just(job().builds(List.of(BuildResponse.builder().number(4).building(false).build())).build());
+        }
+
+        @Override
+        public Mono<List<QueueItemResponse>> pollQueue() {
+
+            return Mono.just(List.of());
+        }
+
+        @Override
+        public Mono<List<NodeResponse>> pollAllNodes() {
+
+            return Mono.just(List.of());
+        }
+
+        private static JobResponse.JobResponseBuilder job() {
+            return JobResponse.builder()
+                .name("api")
+                .color("blue")
+                .lastBuildNumber(4)
+                .lastSuccessfulBuildNumber(4);
+        }
+    }
+
+    // 예약 시각만 기록하고 실행하지 않는 스케줄러
+    private static final class RecordingScheduler extends ThreadPoolTaskScheduler {
+
+        private final LinkedBlockingQueue<Instant> scheduled = new LinkedBlockingQueue<>();
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+            scheduled.add(startTime);
+            return null;
+        }
+
+        private Instant next() throws InterruptedException {
+            Instant startTime = scheduled.poll(5, TimeUnit.SECONDS);
+            assertThat(startTime).isNotNull();
+            return startTime;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.modi.core.jenkins.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobQueryServiceTest {
+
+    @Test
+    void contiguousPositionsFormOneRange() {
+        List<int[]> ranges = JobQueryService.groupRanges(List.of(3, 4, 5, 6), JobQueryService.MAX_RANGE_GAP);
+
+        assertThat(ranges).containsExactly(new int[]{3, 7});
+    }
+
+    @Test
+    void smallGapsAreMergedAndLargeGapsSplit() {
+        List<int[]> ranges = JobQueryService.groupRanges(List.of(0, 2, 7, 500, 501, 9000), 4);
+
+        assertThat(ranges).containsExactly(new int[]{0, 8}, new int[]{500, 502}, new int[]{9000, 9001});
+    }
+
+    @Test
+    void sparseMatchesDoNotFetchTheWholeSpan() {
+        List<Integer> positions = List.of(10, 1000, 2000, 3000, 4000);
+
+        int fetched = JobQueryService.groupRanges(positions, JobQueryService.MAX_RANGE_GAP).stream()
+            .mapToInt(range -> range[1] - range[0])
+            .sum();
+
+        assertThat(fetched).isEqualTo(positions.size());
+    }
+
+    @Test
+    void noPositionsMeansNoRanges() {
+
+        assertThat(JobQueryService.groupRanges(List.of(), JobQueryService.MAX_RANGE_GAP)).isEmpty();
+    }
+}
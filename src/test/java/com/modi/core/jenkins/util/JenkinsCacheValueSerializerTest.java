@@ -0,0 +1,160 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JenkinsCacheValueSerializerTest {
+
+    private final JenkinsCacheValueSerializer serializer = new JenkinsCacheValueSerializer();
+
+    @Test
+    void jobWithNestedBuildsRoundTrips() {
+        JobResponse job = JobResponse.builder()
+            .name("api")
+            .url("http://jenkins/job/api/")
+            .description("API 서버 배포")
+            .buildable(true)
+            .lastBuildNumber(12)
+            .lastSuccessfulBuildNumber(11)
+            .lastFailedBuildNumber(12)
+            .color("red_anime")
+            .inQueue(false)
+            .builds(List.of(
+                build(12, true).build(),
+                build(11, false).result("SUCCESS").duration(61_000L).parameters(Map.of("BRANCH", "main", "ENV", "prod")).build()))
+            .build();
+
+        JobResponse copy = roundTrip(job);
+
+        assertThat(copy).usingRecursiveComparison().isEqualTo(job);
+        assertThat(copy.getBuilds().get(1).getParameters()).isEqualTo(Map.of("BRANCH", "main", "ENV", "prod"));
+    }
+
+    @Test
+    void nodeRoundTrips() {
+        NodeResponse node = NodeResponse.builder()
+            .name("agent-1")
+            .description("linux builder")
+            .online(true)
+            .temporarilyOffline(false)
+            .numExecutors(4)
+            .idle(false)
+            .offlineCauseReason("")
+            .labelString("linux docker")
+            .busyExecutors(3)
+            .build();
+
+        assertThat(roundTrip(node)).usingRecursiveComparison().isEqualTo(node);
+    }
+
+    @Test
+    void queueItemWithBuildRoundTrips() {
+        QueueItemResponse item = QueueItemResponse.builder()
+            .id(4321L)
+            .jobName("api")
+            .inQueueSince(1_700_000_000_000L)
+            .why("Waiting for next available executor")
+            .blocked(false)
+            .buildable(true)
+            .executableNumber(13)
+            .cancelled(false)
+            .build(build(13, true).build())
+            .build();
+
+        assertThat(roundTrip(item)).usingRecursiveComparison().isEqualTo(item);
+    }
+
+    @Test
+    void nullFieldsStayNull() {
+        JobResponse job = JobResponse.builder().name("empty").build();
+        QueueItemResponse item = QueueItemResponse.builder().id(1L).build();
+
+        assertThat(roundTrip(job)).usingRecursiveComparison().isEqualTo(job);
+        assertThat(roundTrip(item)).usingRecursiveComparison().isEqualTo(item);
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void listsKeepNullElements() {
+        List<BuildResponse> builds = Arrays.asList(build(1, false).build(), null);
+
+        List<?> copy = roundTrip(builds);
+
+        assertThat(copy).hasSize(2);
+        assertThat(copy.get(1)).isNull();
+    }
+
+    @Test
+    void deserializedCollectionsAreUnmodifiable() {
+        JobResponse job = JobResponse.builder()
+            .name("api")
+            .builds(List.of(build(1, false).parameters(Map.of("ENV", "prod")).build()))
+            .build();
+
+        JobResponse copy = roundTrip(job);
+
+        assertThatThrownBy(() -> copy.getBuilds().add(build(2, false).build()))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> copy.getBuilds().get(0).getParameters().put("ENV", "dev"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void unknownTagIsSerializationError() {
+        byte[] bytes = serializer.serialize("value");
+        bytes[1] = 99;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+            .isInstanceOf(SerializationException.class)
+            .hasMessageContaining("Unknown cache value tag: 99");
+    }
+
+    @Test
+    void unexpectedFieldTypeIsSerializationError() {
+        // 빌드 번호(Integer) 자리에 문자열이 들어간 값
+        byte[] bytes = serializer.serialize(BuildResponse.builder().build());
+        byte[] text = serializer.serialize("12");
+        byte[] corrupted = new byte[bytes.length - 1 + text.length - 1];
+        corrupted[0] = bytes[0];
+        corrupted[1] = bytes[1];
+        System.arraycopy(text, 1, corrupted, 2, text.length - 1);
+        System.arraycopy(bytes, 3, corrupted, 2 + text.length - 1, bytes.length - 3);
+
+        assertThatThrownBy(() -> serializer.deserialize(corrupted)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void unsupportedTypeIsRejected() {
+        assertThatThrownBy(() -> serializer.serialize(new Object()))
+            .isInstanceOf(SerializationException.class)
+            .hasMessageContaining("Unsupported cache value type");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T roundTrip(T value) {
+        return (T) serializer.deserialize(serializer.serialize(value));
+    }
+
+    private static BuildResponse.BuildResponseBuilder build(int number, boolean building) {
+        return BuildResponse.builder()
+            .number(number)
+            .url("http://jenkins/job/api/" + number + "/")
+            .building(building)
+            .estimatedDuration(60_000L)
+            .timestamp(1_700_000_000_000L + number)
+            .userId("deployer")
+            .queueId(4300L + number);
+    }
+}
@@ -0,0 +1,355 @@
+package com.modi.core.jenkins.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.modi.core.jenkins.dto.BuildResponse;
+import com.modi.core.jenkins.dto.JobResponse;
+import com.modi.core.jenkins.dto.NodeResponse;
+import com.modi.core.jenkins.dto.QueueItemResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class JenkinsJsonStreamDecoderTest {
+
+    // /api/json?tree=jobs[...] 응답 (폴더와 아직 빌드하지 않은 Job 포함)
+    private static final String JOBS = """
+        {
+          "_class": "hudson.model.Hudson",
+          "assignedLabels": [{"name": "built-in"}],
+          "mode": "NORMAL",
+          "jobs": [
+            {
+              "_class": "hudson.model.FreeStyleProject",
+              "name": "api-server",
+              "url": "http://jenkins:8080/job/api-server/",
+              "description": "API 서버 배포",
+              "buildable": true,
+              "color": "blue_anime",
+              "inQueue": false,
+              "lastBuild": {"_class": "hudson.model.FreeStyleBuild", "number": 42},
+              "lastSuccessfulBuild": {"_class": "hudson.model.FreeStyleBuild", "number": 41},
+              "lastFailedBuild": {"_class": "hudson.model.FreeStyleBuild", "number": 38},
+              "healthReport": [{"description": "Build stability: No recent builds failed.", "score": 100}]
+            },
+            {
+              "_class": "com.cloudbees.hudson.plugins.folder.Folder",
+              "name": "infra",
+              "url": "http://jenkins:8080/job/infra/",
+              "jobs": [{"_class": "hudson.model.FreeStyleProject", "name": "nested"}]
+            },
+            {
+              "_class": "hudson.model.FreeStyleProject",
+              "name": "new-job",
+              "url": "http://jenkins:8080/job/new-job/",
+              "description": null,
+              "buildable": true,
+              "color": "notbuilt",
+              "inQueue": true,
+              "lastBuild": null,
+              "lastSuccessfulBuild": null,
+              "lastFailedBuild": null
+            }
+          ],
+          "numExecutors": 2
+        }
+        """;
+
+    // /job/{name}/api/json 응답
+    private static final String JOB = """
+        {
+          "_class": "hudson.model.FreeStyleProject",
+          "actions": [{}, {"_class": "hudson.model.ParametersDefinitionProperty"}],
+          "name": "api-server",
+          "url": "http://jenkins:8080/job/api-server/",
+          "buildable": true,
+          "builds": [
+            {"_class": "hudson.model.FreeStyleBuild", "number": 42, "url": "http://jenkins:8080/job/api-server/42/"},
+            {"_class": "hudson.model.FreeStyleBuild", "number": 41, "url": "http://jenkins:8080/job/api-server/41/"}
+          ],
+          "color": "blue",
+          "lastBuild": {"_class": "hudson.model.FreeStyleBuild", "number": 42}
+        }
+        """;
+
+    // /job/{name}/api/json?tree=allBuilds[...] 응답 (파라미터 외 action, 숨겨진 비밀번호 파라미터 포함)
+    private static final String ALL_BUILDS = """
+        {
+          "_class": "hudson.model.FreeStyleProject",
+          "allBuilds": [
+            {
+              "_class": "hudson.model.FreeStyleBuild",
+              "actions": [
+                {
+                  "_class": "hudson.model.ParametersAction",
+                  "parameters": [
+                    {"_class": "hudson.model.StringParameterValue", "name": "BRANCH", "value": "main"},
+                    {"_class": "hudson.model.BooleanParameterValue", "name": "SKIP_TESTS", "value": true},
+                    {"_class": "hudson.model.StringParameterValue", "name": "TAG", "value": null},
+                    {"_class": "hudson.model.PasswordParameterValue", "name": "TOKEN"}
+                  ]
+                },
+                {
+                  "_class": "hudson.model.CauseAction",
+                  "causes": [{"_class": "hudson.model.Cause$UserIdCause", "shortDescription": "Started by user admin", "userId": "admin"}]
+                },
+                {},
+                {"_class": "jenkins.metrics.impl.TimeInQueueAction", "queuingDurationMillis": 7}
+              ],
+              "building": false,
+              "duration": 15234,
+              "estimatedDuration": 14000,
+              "number": 42,
+              "queueId": 118,
+              "result": "SUCCESS",
+              "timestamp": 1760000000000,
+              "url": "http://jenkins:8080/job/api-server/42/"
+            },
+            {
+              "_class": "hudson.model.FreeStyleBuild",
+              "actions": [{"_class": "hudson.model.CauseAction", "causes": []}],
+              "building": true,
+              "duration": 0,
+              "estimatedDuration": 14000,
+              "number": 43,
+              "queueId": 121,
+              "result": null,
+              "timestamp": 1760000100000,
+              "url": "http://jenkins:8080/job/api-server/43/"
+            }
+          ]
+        }
+        """;
+
+    // /computer/api/json 응답
+    private static final String NODES = """
+        {
+          "_class": "hudson.model.ComputerSet",
+          "busyExecutors": 1,
+          "computer": [
+            {
+              "_class": "hudson.model.Hudson$MasterComputer",
+              "assignedLabels": [{"name": "built-in"}],
+              "description": "the Jenkins controller's built-in node",
+              "displayName": "Built-In Node",
+              "executors": [{}, {}],
+              "idle": true,
+              "numExecutors": 2,
+              "offline": false,
+              "offlineCauseReason": "",
+              "temporarilyOffline": false
+            },
+            {
+              "_class": "hudson.slaves.SlaveComputer",
+              "assignedLabels": [{"name": "agent-1"}, {"name": "docker"}, {"name": "linux"}],
+              "description": null,
+              "displayName": "agent-1",
+              "executors": [{"idle": false}, {"idle": true}, {"idle": false}],
+              "idle": false,
+              "numExecutors": 3,
+              "offline": true,
+              "offlineCause": {"_class": "hudson.slaves.OfflineCause$UserCause"},
+              "offlineCauseReason": "점검 중",
+              "temporarilyOffline": true
+            }
+          ],
+          "displayName": "Nodes",
+          "totalExecutors": 5
+        }
+        """;
+
+    // /queue/api/json 응답 (대기 중 항목과 실행이 시작된 항목)
+    private static final String QUEUE = """
+        {
+          "_class": "hudson.model.Queue",
+          "discoverableItems": [],
+          "items": [
+            {
+              "_class": "hudson.model.Queue$BlockedItem",
+              "actions": [{"_class": "hudson.model.CauseAction"}],
+              "blocked": true,
+              "buildable": false,
+              "id": 121,
+              "inQueueSince": 1760000050000,
+              "params": "",
+              "stuck": false,
+              "task": {"_class": "hudson.model.FreeStyleProject", "name": "api-server", "url": "http://jenkins:8080/job/api-server/", "color": "blue_anime"},
+              "why": "Build #42 is already in progress (ETA: 3 sec)",
+              "executable": null
+            },
+            {
+              "_class": "hudson.model.Queue$LeftItem",
+              "blocked": false,
+              "buildable": false,
+              "cancelled": false,
+              "id": 118,
+              "inQueueSince": 1760000000000,
+              "task": {"_class": "hudson.model.FreeStyleProject", "name": "web-front"},
+              "why": null,
+              "executable": {"_class": "hudson.model.FreeStyleBuild", "number": 7, "url": "http://jenkins:8080/job/web-front/7/"}
+            }
+          ]
+        }
+        """;
+
+    @Test
+    void decodesJobsAndSkipsUnknownFields() throws Exception {
+        List<JobResponse> jobs = JenkinsJsonStreamDecoder.decodeJobs(stream(JOBS));
+
+        assertThat(jobs).extracting(JobResponse::getName).containsExactly("api-server", "infra", "new-job");
+
+        JobResponse job = jobs.get(0);
+        assertThat(job.getUrl()).isEqualTo("http://jenkins:8080/job/api-server/");
+        assertThat(job.getDescription()).isEqualTo("API 서버 배포");
+        assertThat(job.getBuildable()).isTrue();
+        assertThat(job.getColor()).isEqualTo("blue_anime");
+        assertThat(job.getInQueue()).isFalse();
+        assertThat(job.getLastBuildNumber()).isEqualTo(42);
+        assertThat(job.getLastSuccessfulBuildNumber()).isEqualTo(41);
+        assertThat(job.getLastFailedBuildNumber()).isEqualTo(38);
+
+        // 폴더는 하위 jobs를 읽지 않고 빈 빌드 목록
+        JobResponse folder = jobs.get(1);
+        assertThat(folder.getBuildable()).isNull();
+        assertThat(folder.getBuilds()).isEmpty();
+
+        JobResponse notBuilt = jobs.get(2);
+        assertThat(notBuilt.getDescription()).isNull();
+        assertThat(notBuilt.getInQueue()).isTrue();
+        assertThat(notBuilt.getLastBuildNumber()).isNull();
+        assertThat(notBuilt.getLastSuccessfulBuildNumber()).isNull();
+        assertThat(notBuilt.getLastFailedBuildNumber()).isNull();
+    }
+
+    @Test
+    void decodesJobFromBufferAndStreamAlike() throws Exception {
+        JobResponse fromBuffer = JenkinsJsonStreamDecoder.decodeJob(buffer(JOB));
+        JobResponse fromStream = JenkinsJsonStreamDecoder.decodeJob(stream(JOB));
+
+        for (JobResponse job : List.of(fromBuffer, fromStream)) {
+            assertThat(job.getName()).isEqualTo("api-server");
+            assertThat(job.getColor()).isEqualTo("blue");
+            assertThat(job.getLastBuildNumber()).isEqualTo(42);
+            assertThat(job.getBuilds()).extracting(BuildResponse::getNumber).containsExactly(42, 41);
+            assertThat(job.getBuilds()).extracting(BuildResponse::getUrl)
+                .containsExactly("http://jenkins:8080/job/api-server/42/", "http://jenkins:8080/job/api-server/41/");
+        }
+    }
+
+    @Test
+    void decodesBuildsWithParametersOnly() throws Exception {
+        List<BuildResponse> builds = JenkinsJsonStreamDecoder.decodeAllBuilds(buffer(ALL_BUILDS));
+
+        assertThat(builds).hasSize(2);
+
+        BuildResponse finished = builds.get(0);
+        assertThat(finished.getNumber()).isEqualTo(42);
+        assertThat(finished.getResult()).isEqualTo("SUCCESS");
+        assertThat(finished.getBuilding()).isFalse();
+        assertThat(finished.getDuration()).isEqualTo(15234L);
+        assertThat(finished.getEstimatedDuration()).isEqualTo(14000L);
+        assertThat(finished.getTimestamp()).isEqualTo(1760000000000L);
+        assertThat(finished.getQueueId()).isEqualTo(118L);
+        assertThat(finished.getUrl()).isEqualTo("http://jenkins:8080/job/api-server/42/");
+
+        // 값이 없는 비밀번호 파라미터는 제외, null 값은 그대로, 문자열이 아닌 값은 문자열로
+        Map<String, String> parameters = finished.getParameters();
+        assertThat(parameters).containsOnly(entry("BRANCH", "main"), entry("SKIP_TESTS", "true"), entry("TAG", null));
+
+        BuildResponse running = builds.get(1);
+        assertThat(running.getNumber()).isEqualTo(43);
+        assertThat(running.getResult()).isNull();
+        assertThat(running.getBuilding()).isTrue();
+        assertThat(running.getParameters()).isEmpty();
+    }
+
+    @Test
+    void decodesNodesWithLabelsAndBusyExecutors() throws Exception {
+        List<NodeResponse> fromBuffer = JenkinsJsonStreamDecoder.decodeNodes(buffer(NODES));
+        List<NodeResponse> nodes = JenkinsJsonStreamDecoder.decodeNodes(stream(NODES));
+
+        assertThat(fromBuffer).usingRecursiveFieldByFieldElementComparator().isEqualTo(nodes);
+        assertThat(nodes).extracting(NodeResponse::getName).containsExactly("Built-In Node", "agent-1");
+
+        NodeResponse builtIn = nodes.get(0);
+        assertThat(builtIn.getOnline()).isTrue();
+        assertThat(builtIn.getTemporarilyOffline()).isFalse();
+        assertThat(builtIn.getNumExecutors()).isEqualTo(2);
+        assertThat(builtIn.getIdle()).isTrue();
+        assertThat(builtIn.getBusyExecutors()).isZero();
+        assertThat(builtIn.getLabelString()).isEqualTo(JenkinsUtils.joinLabels(List.of("built-in"), "Built-In Node"));
+
+        // 노드 자신의 이름 레이블은 labelString에서 제외
+        NodeResponse agent = nodes.get(1);
+        assertThat(agent.getOnline()).isFalse();
+        assertThat(agent.getTemporarilyOffline()).isTrue();
+        assertThat(agent.getDescription()).isNull();
+        assertThat(agent.getOfflineCauseReason()).isEqualTo("점검 중");
+        assertThat(agent.getLabelString()).isEqualTo("docker linux");
+        assertThat(agent.getBusyExecutors()).isEqualTo(2);
+    }
+
+    @Test
+    void decodesQueueItems() throws Exception {
+        List<QueueItemResponse> items = JenkinsJsonStreamDecoder.decodeQueue(buffer(QUEUE));
+
+        assertThat(items).hasSize(2);
+
+        QueueItemResponse blocked = items.get(0);
+        assertThat(blocked.getId()).isEqualTo(121L);
+        assertThat(blocked.getJobName()).isEqualTo("api-server");
+        assertThat(blocked.getInQueueSince()).isEqualTo(1760000050000L);
+        assertThat(blocked.getWhy()).isEqualTo("Build #42 is already in progress (ETA: 3 sec)");
+        assertThat(blocked.getBlocked()).isTrue();
+        assertThat(blocked.getBuildable()).isFalse();
+        assertThat(blocked.getCancelled()).isNull();
+        assertThat(blocked.getExecutableNumber()).isNull();
+
+        QueueItemResponse left = items.get(1);
+        assertThat(left.getJobName()).isEqualTo("web-front");
+        assertThat(left.getWhy()).isNull();
+        assertThat(left.getCancelled()).isFalse();
+        assertThat(left.getExecutableNumber()).isEqualTo(7);
+    }
+
+    @Test
+    void missingOrMalformedArrayYieldsEmptyList() throws Exception {
+        assertThat(JenkinsJsonStreamDecoder.decodeQueue(buffer("{\"_class\":\"hudson.model.Queue\"}"))).isEmpty();
+        assertThat(JenkinsJsonStreamDecoder.decodeNodes(stream("{\"computer\":null}"))).isEmpty();
+        assertThat(JenkinsJsonStreamDecoder.decodeJobs(stream("{\"jobs\":[1,\"x\",null,[],{\"name\":\"a\"}]}")))
+            .extracting(JobResponse::getName).containsExactly("a");
+    }
+
+    @Test
+    void decodedListsAreUnmodifiable() throws Exception {
+        List<BuildResponse> builds = JenkinsJsonStreamDecoder.decodeAllBuilds(buffer(ALL_BUILDS));
+
+        assertThatThrownBy(() -> builds.add(BuildResponse.builder().build())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> builds.get(0).getParameters().put("X", "y")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void nonObjectRootIsRejected() {
+        assertThatThrownBy(() -> JenkinsJsonStreamDecoder.decodeQueue(buffer("[]"))).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> JenkinsJsonStreamDecoder.decodeJobs(stream("\"jobs\""))).isInstanceOf(JsonParseException.class);
+    }
+
+    private static DataBuffer buffer(String json) {
+
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream stream(String json) {
+
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
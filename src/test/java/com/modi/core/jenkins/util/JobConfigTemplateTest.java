@@ -0,0 +1,134 @@
+package com.modi.core.jenkins.util;
+
+import com.modi.core.exception.BusinessException;
+import com.modi.core.jenkins.dto.JobCreateRequest;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobConfigTemplateTest {
+
+    private static final String SCRIPT = "#!/bin/bash\nif [ \"$COUNT\" -lt 3 ] && [ -f 'a&b' ]; then\n  echo \"<done>\" > out.txt\nfi";
+
+    @Test
+    void freestyleJobWithGitAndScriptRoundTripsEscapedValues() throws Exception {
+        Document config = parse(JobConfigTemplate.render(JobCreateRequest.builder()
+            .jobName("api")
+            .description("Builds <api> & \"friends\" '한글'")
+            .gitUrl("https://git.example.com/team/api.git?a=1&b=2")
+            .gitBranch("release/1.0")
+            .buildScript(SCRIPT)
+            .build()));
+
+        assertThat(config.getDocumentElement().getNodeName()).isEqualTo("project");
+        assertThat(xpath(config, "/project/description")).isEqualTo("Builds <api> & \"friends\" '한글'");
+        assertThat(xpath(config, "/project/scm/@class")).isEqualTo("hudson.plugins.git.GitSCM");
+        assertThat(xpath(config, "/project/scm/userRemoteConfigs/hudson.plugins.git.UserRemoteConfig/url"))
+            .isEqualTo("https://git.example.com/team/api.git?a=1&b=2");
+        assertThat(xpath(config, "/project/scm/branches/hudson.plugins.git.BranchSpec/name")).isEqualTo("release/1.0");
+        assertThat(xpath(config, "/project/builders/hudson.tasks.Shell/command")).isEqualTo(SCRIPT);
+    }
+
+    @Test
+    void freestyleJobWithoutGitOrScriptUsesEmptyElements() throws Exception {
+        String xml = JobConfigTemplate.render(JobCreateRequest.builder().jobName("empty").build());
+        Document config = parse(xml);
+
+        assertThat(xpath(config, "/project/description")).isEmpty();
+        assertThat(xpath(config, "/project/scm/@class")).isEqualTo("hudson.scm.NullSCM");
+        assertThat(xpath(config, "count(/project/builders/*)")).isEqualTo("0");
+        assertThat(xml).doesNotContain("${");
+    }
+
+    @Test
+    void gitBranchDefaultsToMain() throws Exception {
+        Document config = parse(JobConfigTemplate.render(JobCreateRequest.builder()
+            .jobName("api")
+            .gitUrl("https://git.example.com/api.git")
+            .build()));
+
+        assertThat(xpath(config, "/project/scm/branches/hudson.plugins.git.BranchSpec/name")).isEqualTo("*/main");
+    }
+
+    @Test
+    void pipelineWithScriptUsesInlineDefinition() throws Exception {
+        Document config = parse(JobConfigTemplate.render(JobCreateRequest.builder()
+            .jobName("deploy")
+            .jobType("Pipeline")
+            .gitUrl("https://git.example.com/deploy.git")
+            .buildScript("pipeline { stages { stage('a') { steps { sh 'x && y' } } } }")
+            .build()));
+
+        assertThat(config.getDocumentElement().getNodeName()).isEqualTo("flow-definition");
+        assertThat(xpath(config, "/flow-definition/definition/@class"))
+            .isEqualTo("org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition");
+        assertThat(xpath(config, "/flow-definition/definition/script"))
+            .isEqualTo("pipeline { stages { stage('a') { steps { sh 'x && y' } } } }");
+    }
+
+    @Test
+    void pipelineWithoutScriptReadsJenkinsfileFromGit() throws Exception {
+        Document config = parse(JobConfigTemplate.render(JobCreateRequest.builder()
+            .jobName("deploy")
+            .jobType(JobConfigTemplate.JOB_TYPE_PIPELINE)
+            .gitUrl("https://git.example.com/deploy.git")
+            .gitBranch("main")
+            .build()));
+
+        assertThat(xpath(config, "/flow-definition/definition/@class"))
+            .isEqualTo("org.jenkinsci.plugins.workflow.cps.CpsScmFlowDefinition");
+        assertThat(xpath(config, "/flow-definition/definition/scm/userRemoteConfigs/hudson.plugins.git.UserRemoteConfig/url"))
+            .isEqualTo("https://git.example.com/deploy.git");
+        assertThat(xpath(config, "/flow-definition/definition/scriptPath")).isEqualTo("Jenkinsfile");
+    }
+
+    @Test
+    void unsupportedJobTypeIsRejected() {
+
+        assertThatThrownBy(() -> JobConfigTemplate.forJobType("matrix")).isInstanceOf(BusinessException.class);
+        assertThat(JobConfigTemplate.forJobType(null)).isSameAs(JobConfigTemplate.forJobType("freestyle"));
+    }
+
+    @Test
+    void streamedOutputMatchesRenderedString() {
+        JobCreateRequest request = JobCreateRequest.builder()
+            .jobName("big")
+            .description("한글 설명 & <tag>")
+            .buildScript("echo '" + "x&y<z>".repeat(1000) + "'")
+            .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JobConfigTemplate.writeTo(request, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JobConfigTemplate.render(request));
+    }
+
+    @Test
+    void onlyLargeScriptsAreStreamed() {
+        String small = "x".repeat(JobConfigTemplate.STREAMING_THRESHOLD);
+        String large = small + "x";
+
+        assertThat(JobConfigTemplate.requiresStreaming(JobCreateRequest.builder().buildScript(small).build())).isFalse();
+        assertThat(JobConfigTemplate.requiresStreaming(JobCreateRequest.builder().buildScript(large).build())).isTrue();
+        assertThat(JobConfigTemplate.requiresStreaming(JobCreateRequest.builder().build())).isFalse();
+    }
+
+    private static Document parse(String xml) throws Exception {
+        // Jenkins config.xml은 XML 1.1 선언을 사용
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    private static String xpath(Document document, String expression) throws Exception {
+
+        return XPathFactory.newInstance().newXPath().evaluate(expression, document);
+    }
+}
@@ -0,0 +1,58 @@
+package com.modi.core.jenkins.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XmlEscaperTest {
+
+    @Test
+    void textWithoutSpecialCharactersIsReturnedAsIs() {
+        String text = "echo build #42 한글 🚀";
+
+        assertThat(XmlEscaper.escape(text)).isSameAs(text);
+    }
+
+    @Test
+    void everySpecialCharacterIsReplacedWithItsEntity() {
+
+        assertThat(XmlEscaper.escape("<a href=\"x\">Tom & 'Jerry'</a>"))
+            .isEqualTo("&lt;a href=&quot;x&quot;&gt;Tom &amp; &apos;Jerry&apos;&lt;/a&gt;");
+    }
+
+    @Test
+    void specialCharactersAtEdgesAndInRunsAreEscaped() {
+
+        assertThat(XmlEscaper.escape("&&<>")).isEqualTo("&amp;&amp;&lt;&gt;");
+        assertThat(XmlEscaper.escape("a&")).isEqualTo("a&amp;");
+        assertThat(XmlEscaper.escape("&a")).isEqualTo("&amp;a");
+    }
+
+    @Test
+    void nullBecomesEmptyOrWritesNothing() {
+        StringBuilder out = new StringBuilder("keep");
+        XmlEscaper.escape(null, out);
+
+        assertThat(XmlEscaper.escape(null)).isEmpty();
+        assertThat(out).hasToString("keep");
+    }
+
+    @Test
+    void appendableTargetsProduceTheSameOutput() {
+        String text = "if [ \"$A\" -lt 3 ] && echo '한글' > out.txt; then exit 1; fi";
+        String expected = XmlEscaper.escape(text);
+
+        StringBuilder builder = new StringBuilder("prefix:");
+        XmlEscaper.escape(text, builder);
+        StringWriter writer = new StringWriter();
+        XmlEscaper.escape(text, writer);
+        StringBuilder fromCharSequence = new StringBuilder();
+        XmlEscaper.escape(new StringBuilder(text), fromCharSequence);
+
+        assertThat(builder).hasToString("prefix:" + expected);
+        assertThat(writer).hasToString(expected);
+        assertThat(fromCharSequence).hasToString(expected);
+    }
+}